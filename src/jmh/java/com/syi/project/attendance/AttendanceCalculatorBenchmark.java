@@ -0,0 +1,61 @@
+package com.syi.project.attendance;
+
+import static com.syi.project.attendance.AttendanceDataGenerator.COURSE_START;
+
+import com.syi.project.attendance.dto.projection.AttendanceDailyStats;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 과정 전체 학생의 출석률 계산 (관리자 출석률 화면 1회 분량)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class AttendanceCalculatorBenchmark {
+
+  @Param({"100", "200", "300"})
+  private int courseDays;
+
+  @Param({"30", "500"})
+  private int students;
+
+  private LocalDate endDate;
+  private Set<LocalDate> holidays;
+  private List<List<AttendanceDailyStats>> statsByStudent;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    endDate = COURSE_START.plusDays(courseDays - 1);
+    holidays = AttendanceDataGenerator.holidays(COURSE_START, courseDays, random);
+
+    List<LocalDate> validDays = AttendanceCalculator.getValidDays(COURSE_START, endDate, holidays);
+    statsByStudent = new ArrayList<>(students);
+    for (long studentId = 1; studentId <= students; studentId++) {
+      statsByStudent.add(AttendanceDataGenerator.dailyStats(studentId, validDays, random));
+    }
+  }
+
+  @Benchmark
+  public void calculateAttendanceRates(Blackhole blackhole) {
+    for (List<AttendanceDailyStats> stats : statsByStudent) {
+      blackhole.consume(
+          AttendanceCalculator.calculateAttendanceRates(stats, COURSE_START, endDate, holidays));
+    }
+  }
+}
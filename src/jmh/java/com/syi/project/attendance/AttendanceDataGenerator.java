@@ -0,0 +1,54 @@
+package com.syi.project.attendance;
+
+import com.syi.project.attendance.dto.projection.AttendanceDailyStats;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크용 가상 출석 데이터 생성기 (같은 seed 면 항상 같은 데이터)
+ */
+public final class AttendanceDataGenerator {
+
+  public static final LocalDate COURSE_START = LocalDate.of(2024, 3, 4);
+
+  private AttendanceDataGenerator() {
+  }
+
+  /**
+   * 과정 기간 중 평일에 약 25일마다 하루씩 공휴일 생성
+   */
+  public static Set<LocalDate> holidays(LocalDate startDate, int courseDays, Random random) {
+    Set<LocalDate> holidays = new HashSet<>();
+    for (int day = random.nextInt(25); day < courseDays; day += 15 + random.nextInt(20)) {
+      LocalDate date = startDate.plusDays(day);
+      if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+        holidays.add(date);
+      }
+    }
+    return holidays;
+  }
+
+  /**
+   * 학생 한 명의 일별 출석 통계 (진행률 90% 시점 - 마지막 10% 는 기록 없음)
+   * 출석 85%, 지각 7%, 조퇴 4%, 결석 4%
+   */
+  public static List<AttendanceDailyStats> dailyStats(long studentId, List<LocalDate> validDays,
+      Random random) {
+    int recordedDays = (int) (validDays.size() * 0.9);
+    List<AttendanceDailyStats> stats = new ArrayList<>(recordedDays);
+    for (int i = 0; i < recordedDays; i++) {
+      int roll = random.nextInt(100);
+      int late = roll >= 85 && roll < 92 ? 1 : 0;
+      int earlyLeave = roll >= 92 && roll < 96 ? 2 : 0;
+      int absent = roll >= 96 ? AttendanceCalculator.TOTAL_SESSIONS_PER_DAY : 0;
+      stats.add(new AttendanceDailyStats(studentId, validDays.get(i),
+          AttendanceCalculator.TOTAL_SESSIONS_PER_DAY, late, absent, earlyLeave));
+    }
+    return stats;
+  }
+}
@@ -0,0 +1,52 @@
+package com.syi.project.attendance;
+
+import static com.syi.project.attendance.AttendanceDataGenerator.COURSE_START;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 유효 출석일 계산과 20일 단위 차수 나누기 (학생 수와 무관)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class AttendanceSegmentBenchmark {
+
+  @Param({"100", "200", "300"})
+  private int courseDays;
+
+  private LocalDate endDate;
+  private Set<LocalDate> holidays;
+  private List<LocalDate> validDays;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    endDate = COURSE_START.plusDays(courseDays - 1);
+    holidays = AttendanceDataGenerator.holidays(COURSE_START, courseDays, new Random(42));
+    validDays = AttendanceCalculator.getValidDays(COURSE_START, endDate, holidays);
+  }
+
+  @Benchmark
+  public List<LocalDate> getValidDays() {
+    return AttendanceCalculator.getValidDays(COURSE_START, endDate, holidays);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> calculateTwentyDaySegments() {
+    return AttendanceCalculator.calculateTwentyDaySegments(validDays);
+  }
+}
@@ -0,0 +1,129 @@
+package com.syi.project.attendance.repository;
+
+import static com.syi.project.attendance.AttendanceDataGenerator.COURSE_START;
+import static com.syi.project.attendance.entity.QAttendance.attendance;
+import static com.syi.project.auth.entity.QMember.member;
+import static com.syi.project.course.entity.QCourse.course;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendListResponseDTO;
+import com.syi.project.common.enums.AttendanceStatus;
+import com.syi.project.period.entity.Period;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 출석 목록 조회 결과(Tuple) -> AttendListResponseDTO 변환
+ * - 관리자: 하루치 학생 x 8교시
+ * - 학생: 과정 전체 날짜 x 8교시
+ * - 교시별 상태 Map(students)은 응답 직렬화 시점에 만들어지므로 그 비용까지 포함
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AttendanceTupleMappingBenchmark {
+
+  private static final int PERIODS_PER_DAY = 8;
+  private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+
+  @State(Scope.Benchmark)
+  public static class AdminPage {
+
+    @Param({"30", "500"})
+    private int students;
+
+    private List<Period> periods;
+    private List<String> periodNames;
+    private List<Tuple> tuples;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      periods = periods();
+      periodNames = periods.stream().map(Period::getName).toList();
+
+      Random random = new Random(42);
+      QTuple row = Projections.tuple(member.id, member.name, course.name, attendance.date,
+          attendance.periodId, attendance.status);
+      tuples = new ArrayList<>(students * PERIODS_PER_DAY);
+      for (long studentId = 1; studentId <= students; studentId++) {
+        for (Period period : periods) {
+          tuples.add(row.newInstance(studentId, "수강생" + studentId, "백엔드 과정", COURSE_START,
+              period.getId(), STATUSES[random.nextInt(STATUSES.length)]));
+        }
+      }
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class StudentHistory {
+
+    @Param({"100", "300"})
+    private int courseDays;
+
+    private List<Period> periods;
+    private List<String> periodNames;
+    private List<Tuple> tuples;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      periods = periods();
+      periodNames = periods.stream().map(Period::getName).toList();
+
+      Random random = new Random(42);
+      QTuple row = Projections.tuple(attendance.memberId, attendance.date, attendance.periodId,
+          attendance.status);
+      tuples = new ArrayList<>(courseDays * PERIODS_PER_DAY);
+      for (int day = 0; day < courseDays; day++) {
+        LocalDate date = COURSE_START.plusDays(day);
+        for (Period period : periods) {
+          tuples.add(row.newInstance(1L, date, period.getId(),
+              STATUSES[random.nextInt(STATUSES.length)]));
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public void mapAdminPage(AdminPage page, Blackhole blackhole) {
+    consume(AttendanceRepositoryImpl.mapTuplesToDTO(page.tuples, page.periods, page.periodNames,
+        true), blackhole);
+  }
+
+  @Benchmark
+  public void mapStudentHistory(StudentHistory history, Blackhole blackhole) {
+    consume(AttendanceRepositoryImpl.mapTuplesToDTO(history.tuples, history.periods,
+        history.periodNames, false), blackhole);
+  }
+
+  // 응답 직렬화 시점의 students 생성까지 포함해서 측정
+  private static void consume(List<AttendListResponseDTO> result, Blackhole blackhole) {
+    for (AttendListResponseDTO dto : result) {
+      blackhole.consume(dto.getStudents());
+    }
+  }
+
+  private static List<Period> periods() {
+    List<Period> periods = new ArrayList<>(PERIODS_PER_DAY);
+    LocalTime startTime = LocalTime.of(9, 0);
+    for (int i = 1; i <= PERIODS_PER_DAY; i++) {
+      periods.add(new Period(i, i + "교시", startTime, startTime.plusMinutes(50)));
+      startTime = startTime.plusHours(1);
+    }
+    return periods;
+  }
+}
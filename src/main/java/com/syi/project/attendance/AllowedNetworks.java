@@ -0,0 +1,133 @@
+package com.syi.project.attendance;
+
+import jakarta.annotation.PostConstruct;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 출석 허용 네트워크 (메모리 캐시)
+ * - 시작 시 attendance.network.allowed 의 CIDR 목록을 비트 트라이로 한 번 만들어 두고, 요청마다 파싱하지 않음
+ * - IPv4/IPv6 각각 트라이를 두며, 조회는 최대 주소 비트 수(32/128)만큼만 따라감
+ * - 설정은 시작 시 한 번만 읽으므로 허용 네트워크를 바꾸려면 재시작 필요
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AllowedNetworks {
+
+  private static final String PROPERTY = "attendance.network.allowed";
+
+  // DNS 조회를 막기 위해 IP 리터럴 형태만 InetAddress 로 변환
+  private static final Pattern IPV4_LITERAL = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+  private final Environment environment;
+
+  private final Snapshot snapshot = new Snapshot();
+
+  /**
+   * 설정의 CIDR 목록으로 트라이 만들기
+   * - 빈 항목(설정되지 않은 환경 변수)은 무시, 접두사가 없는 주소는 단일 주소로 처리
+   */
+  @PostConstruct
+  public void init() {
+    List<String> networks = Binder.get(environment)
+        .bind(PROPERTY, Bindable.listOf(String.class))
+        .orElse(List.of());
+
+    for (String network : networks) {
+      if (network == null || network.isBlank()) {
+        continue;
+      }
+      try {
+        snapshot.add(network.trim());
+      } catch (IllegalArgumentException | UnknownHostException e) {
+        log.error("허용 네트워크 설정 오류 - network: {}, error: {}", network, e.getMessage());
+      }
+    }
+    log.info("출석 허용 네트워크 로딩 완료 - {}개", snapshot.size);
+  }
+
+  /**
+   * IP 가 허용 네트워크 범위 안에 있는지 확인
+   *
+   * @param ip 클라이언트 IP (IPv4/IPv6 리터럴)
+   * @return 허용 여부 (IP 형식이 아니면 false)
+   */
+  public boolean contains(String ip) {
+    if (ip == null || !(ip.indexOf(':') >= 0 || IPV4_LITERAL.matcher(ip).matches())) {
+      return false;
+    }
+    try {
+      return snapshot.contains(InetAddress.getByName(ip).getAddress());
+    } catch (UnknownHostException e) {
+      log.warn("IP 형식이 아님 - ip: {}", ip);
+      return false;
+    }
+  }
+
+  private static final class Snapshot {
+
+    private final Node ipv4 = new Node();
+    private final Node ipv6 = new Node();
+    private int size;
+
+    private void add(String network) throws UnknownHostException {
+      int slash = network.indexOf('/');
+      String host = slash < 0 ? network : network.substring(0, slash);
+      if (!(host.indexOf(':') >= 0 || IPV4_LITERAL.matcher(host).matches())) {
+        throw new IllegalArgumentException("IP 형식이 아닙니다.");
+      }
+
+      byte[] address = InetAddress.getByName(host).getAddress();
+      int maxBits = address.length * 8;
+      int prefixLength = slash < 0 ? maxBits : Integer.parseInt(network.substring(slash + 1));
+      if (prefixLength < 0 || prefixLength > maxBits) {
+        throw new IllegalArgumentException("잘못된 접두사 길이: " + prefixLength);
+      }
+
+      Node node = address.length == 4 ? ipv4 : ipv6;
+      for (int i = 0; i < prefixLength && !node.terminal; i++) {
+        int bit = bit(address, i);
+        if (node.children[bit] == null) {
+          node.children[bit] = new Node();
+        }
+        node = node.children[bit];
+      }
+      node.terminal = true;
+      size++;
+    }
+
+    private boolean contains(byte[] address) {
+      Node node = address.length == 4 ? ipv4 : ipv6;
+      int maxBits = address.length * 8;
+      for (int i = 0; node != null; i++) {
+        if (node.terminal) {
+          return true;
+        }
+        if (i == maxBits) {
+          return false;
+        }
+        node = node.children[bit(address, i)];
+      }
+      return false;
+    }
+
+    private static int bit(byte[] address, int index) {
+      return (address[index >> 3] >> (7 - (index & 7))) & 1;
+    }
+  }
+
+  private static final class Node {
+
+    private final Node[] children = new Node[2];
+    private boolean terminal; // 이 노드까지의 비트가 허용 네트워크 접두사
+  }
+}
@@ -2,10 +2,11 @@
 package com.syi.project.attendance;
 
 import com.syi.project.attendance.dto.projection.AttendanceDailyStats;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceRateDto;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.TwentyDayRateDto;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,330 +22,167 @@ public class AttendanceCalculator {
   public static final int TOTAL_SESSIONS_PER_DAY = 8; // 하루 8교시
   public static final int THRESHOLD = 3;  // 지각/조퇴 3회시 결석
 
+  // 하루 출석 상태 (유효 출석일 순번별 byte 배열에 저장)
+  private static final byte DAY_NONE = 0; // 출석 기록 없음
+  private static final byte DAY_PRESENT = 1;
+  private static final byte DAY_INCIDENT = 2; // 출석했지만 지각/조퇴 있음
+  private static final byte DAY_ABSENT = 3;
+
   /**
    * 출석률을 계산하는 메서드 (주말, 공휴일 제외 + 지각 3회 누적 시 결서 1일 적용)
+   * - 날짜는 시작일 기준 epoch day 오프셋으로 바꿔 배열 인덱스로만 다룸
    *
    * @param dailyStats 학생의 출석 데이터 목록
    * @param startDate  교육 과정 시작일
    * @param endDate    교육 과정 종료일
-   * @return 전체 출석률과 20일 단위 출석률을 포함하는 맵
+   * @return 전체 출석률과 20일 단위 출석률
    */
 
   // 115일 전체 출석률 및 20일 단위 출석률 계산
-  public static Map<String, Object> calculateAttendanceRates(List<AttendanceDailyStats> dailyStats,
+  public static AttendanceRateDto calculateAttendanceRates(List<AttendanceDailyStats> dailyStats,
       LocalDate startDate, LocalDate endDate, Set<LocalDate> holidays) {
 
-    log.info("출석률 계산 시작");
-    log.info("dailyStats size: {}, startDate: {}, endDate: {}, holidays: {}", dailyStats.size(),
-        startDate, endDate, holidays);
+    log.debug("출석률 계산 - dailyStats size: {}, startDate: {}, endDate: {}",
+        dailyStats == null ? 0 : dailyStats.size(), startDate, endDate);
 
     // 유효한 전체 출석일 (115일 - 주말, 공휴일 제외)
-    List<LocalDate> validDays = getValidDays(startDate, endDate, holidays);
+    ValidDayIndex index = ValidDayIndex.of(startDate, endDate, holidays);
 
     // validDays가 비어있는 경우 처리
-    if (validDays.isEmpty()) {
+    if (index.validCount == 0) {
       log.warn("유효한 출석일이 없습니다. 기본값으로 출석률 정보를 반환합니다.");
-      return Map.of(
-          "validAttendanceDays", 0,
-          "overallAttendanceRate", 0.0,
-          "twentyDayRate", 0.0,
-          "twentyDayRates", new ArrayList<>()
-      );
+      return AttendanceRateDto.empty(0);
     }
 
-    // 20일 단위 차수 계산
-    List<Map<String, Object>> segments = calculateTwentyDaySegments(validDays);
-    //log.debug("20일 단위 차수: {}", segments);
-
     // dailyStats가 비어있는지 확인 추가
     if (dailyStats == null || dailyStats.isEmpty()) {
       log.warn("dailyStats가 비어 있습니다. 기본값으로 출석률 정보를 반환합니다.");
-      return Map.of(
-          "validAttendanceDays", validDays.size(),  // 유효일 수
-          "overallAttendanceRate", 0.0, //  전체 출석률 기본값
-          "twentyDayRate", 0.0, // 현재 진행 중인 차수의 출석률 기본값
-          "twentyDayRates", new ArrayList<>()  // 빈 리스트
-      );
+      return AttendanceRateDto.empty(index.validCount);
     }
 
-    dailyStats.sort(Comparator.comparing(AttendanceDailyStats::getDate)); // 날짜순으로 정렬
+    // 유효 출석일 순번별 출석 상태
+    byte[] days = new byte[index.validCount];
+    long lastRecordedEpochDay = Long.MIN_VALUE;
+    for (AttendanceDailyStats stats : dailyStats) {
+      long epochDay = stats.getDate().toEpochDay();
+      lastRecordedEpochDay = Math.max(lastRecordedEpochDay, epochDay);
+      int ordinal = index.ordinalOf(epochDay);
+      if (ordinal >= 0) {
+        days[ordinal] = dayState(stats);
+      }
+    }
 
     // 전체 출석률 계산
-    double overallAttendanceRate = calculateOverallAttendanceRate(dailyStats, startDate, validDays);
+    SegmentCounts total = countDays(days, 0, days.length);
+    double overallAttendanceRate = overallRateOf(days.length, total.presentDays,
+        total.incidentDays);
 
     // 20일 단위 출석률 계산
-    List<Map<String, Object>> twentyDayRateDetails = calculateTwentyDayAttendanceRates(dailyStats, segments);
+    List<TwentyDayRateDto> twentyDayRates = calculateTwentyDayAttendanceRates(days, index,
+        lastRecordedEpochDay);
 
     // 현재 진행 중인 20일 단위 출석률 가져오기
-    double currentTwentyDayRate = 0.0; // 기본값으로 0.0 설정
-    if (!twentyDayRateDetails.isEmpty()) {
-      Map<String, Object> twentyDayRateDetail = twentyDayRateDetails.get(
-          twentyDayRateDetails.size() - 1); // 현재 진행중인 회차 MAP
-
-      // twentyDayRate가 null인지 확인
-      if (twentyDayRateDetail.containsKey("twentyDayRate")) {
-        currentTwentyDayRate = (double) twentyDayRateDetail.get("twentyDayRate");
-      } else {
-        log.warn("twentyDayRateDetail에 twentyDayRate 키가 없습니다.");
-      }
-    } else {
-      log.warn("twentyDayRateDetails가 비어 있습니다. 기본값(0.0)을 사용합니다.");
-    }
-
-    log.info("(최종)출석 가능일 수: {}, 전체 출석률: {}, 20일 단위 출석률 리스트: {}, 해당 20일 단위 출석률: {}",
-        validDays.size(), overallAttendanceRate, twentyDayRateDetails, currentTwentyDayRate);
-    log.debug("최종 출석 가능일 수: {}", validDays.size());
-    log.debug("최종 전체 출석률:{}",overallAttendanceRate);
-    log.debug("최종 20일 단위 출석률 리스트: {}", twentyDayRateDetails);
-    log.debug("해당하는 20일 단위 출석률: {}", currentTwentyDayRate);
-
-    return Map.of(
-        "validAttendanceDays", validDays.size(),  // 유효일 수
-        "overallAttendanceRate", overallAttendanceRate, //  전체 출석률
-        "twentyDayRate", currentTwentyDayRate, // 현재 진행 중인 차수의 출석률
-        "twentyDayRates", twentyDayRateDetails  // 모든 차수의 일별 20일 단위 출석률
-    );
-
+    double currentTwentyDayRate = twentyDayRates.isEmpty() ? 0.0
+        : twentyDayRates.get(twentyDayRates.size() - 1).getTwentyDayRate();
+
+    log.debug("(최종)출석 가능일 수: {}, 전체 출석률: {}, 해당 20일 단위 출석률: {}",
+        index.validCount, overallAttendanceRate, currentTwentyDayRate);
+
+    return AttendanceRateDto.builder()
+        .validAttendanceDays(index.validCount)  // 유효일 수
+        .overallAttendanceRate(overallAttendanceRate) //  전체 출석률
+        .twentyDayRate(currentTwentyDayRate) // 현재 진행 중인 차수의 출석률
+        .twentyDayRates(twentyDayRates)  // 모든 차수의 20일 단위 출석률
+        .build();
   }
 
   /**
    * 전체 출석률 구하는 메소드
+   * - 지각/조퇴가 3회 쌓일 때마다 출석일 1일 차감 = 출석일 - (지각/조퇴일 / 3)
+   *
+   * @param validDays    유효 출석일 수
+   * @param presentDays  결석이 아닌 날 수
+   * @param incidentDays 지각/조퇴가 있는 날 수
    */
-  public static double calculateOverallAttendanceRate(List<AttendanceDailyStats> dailyStats,
-      LocalDate startDate,
-      List<LocalDate> validDays){
+  public static double overallRateOf(int validDays, int presentDays, int incidentDays) {
 
     // 유효일 수가 0이거나 1인 경우
-    if (validDays.size() <= 1) {
+    if (validDays <= 1) {
       log.warn("유효 출석일이 부족합니다. 출석률을 0.0으로 반환합니다.");
       return 0.0;
     }
 
-    // dailyStats가 비어있는 경우
-    if (dailyStats == null || dailyStats.isEmpty()) {
-      log.warn("출석 데이터가 없습니다. 출석률을 0.0으로 반환합니다.");
-      return 0.0;
-    }
-
-
-
-    int totalAttendanceDays = 0;
-    int accumulatedIncidents = 0; // 전체 기간 동안 지각+조퇴 누적 횟수
-
-    for (AttendanceDailyStats stats : dailyStats) {
-      log.debug("(전체 출석률)stats: {}",stats.toString());
-
-      LocalDate date = stats.getDate();
-
-      // 유효한 출석일만 고려
-      if (!validDays.contains(date)) {
-        continue;
-      }
-
-
-      int totalSessions = stats.getTotalSessions();
-      if (totalSessions == 0) {
-        log.warn("날짜 {}의 총 교시 수가 0입니다. 8교시로 간주합니다.", date);
-        totalSessions = TOTAL_SESSIONS_PER_DAY;
-      }
-
-
-      log.info("해당 날짜: {}, totalSessions: {}, lateCount: {}, absentCount: {}, earlyLeaveCount: {}",
-          date, stats.getTotalSessions(), stats.getLateCount(), stats.getAbsentCount(),
-          stats.getEarlyLeaveCount());
-      log.debug("학생 ID: {}",stats.getStudentId() == null ? "학생거라 null" : stats.getStudentId());
-      log.debug("totalSessions(출석 데이처가 있는 총 교시 수): {}", stats.getTotalSessions());
-      log.debug("lateCount(8교시 중 지각 횟수): {}", stats.getLateCount());
-      log.debug("absentCount(8교시 중 결석 횟수): {}", stats.getAbsentCount());
-      log.debug("earlyLeaveCount(8교시 중 조퇴 횟수): {}", stats.getEarlyLeaveCount());
-
-      boolean isAbsent = totalSessions > 0 && stats.getAbsentCount() == TOTAL_SESSIONS_PER_DAY;
-      boolean isLate = !isAbsent && (stats.getAbsentCount() > 0 || stats.getLateCount() > 0);
-      boolean isEarlyLeave = !isAbsent && stats.getEarlyLeaveCount() > 0;
-
-      if (!isAbsent) {
-        totalAttendanceDays++;
-        log.info("출석일 증가: {}", totalAttendanceDays);
-
-
-        if (isLate || isEarlyLeave) {
-          accumulatedIncidents++; // 지각이나 조퇴가 있으면 누적
+    int totalAttendanceDays = presentDays - incidentDays / THRESHOLD;
+    return roundToTwoDecimalPlaces((totalAttendanceDays / (double) validDays) * 100);
+  }
 
-          log.debug("지각+조퇴 합한 값: {}",accumulatedIncidents);
-          // 3회가 되면 출석일 하나 차감
-          if (accumulatedIncidents >= THRESHOLD) {
-            totalAttendanceDays--;
-            log.debug("1회 출석일 감소!!");
-            accumulatedIncidents -= THRESHOLD; // 3회 초과분만 남김
-            log.debug("출석일 감소 후 3회 초과분만 남김: {}", accumulatedIncidents);
-          }
-        }
-      }
-      log.info("지각과 조퇴 합한 값 근황: {}, 실제 출석일 근황: {}", accumulatedIncidents, totalAttendanceDays);
-    }
+  /**
+   * 한 차수의 20일 단위 출석률
+   * - 지각/조퇴 3회마다 출석일 1일 차감, 남은 지각/조퇴 수는 incidentCount
+   *
+   * @param segmentIndex 차수 번호
+   * @param recordedDays 출석 기록이 있는 날 수
+   * @param presentDays  결석이 아닌 날 수
+   * @param incidentDays 지각/조퇴가 있는 날 수
+   */
+  public static TwentyDayRateDto twentyDayRateOf(int segmentIndex, LocalDate startDate,
+      LocalDate endDate, int recordedDays, int presentDays, int incidentDays) {
+    int attendanceDays = presentDays - incidentDays / THRESHOLD;
+    return TwentyDayRateDto.builder()
+        .periodIndex(segmentIndex + "차")
+        .startDate(startDate.toString())
+        .endDate(endDate.toString())
+        .twentyDayRate(roundToTwoDecimalPlaces((attendanceDays / (double) recordedDays) * 100))
+        .currentDay(recordedDays)
+        .incidentCount(incidentDays % THRESHOLD)
+        .attendanceDays(attendanceDays)
+        .build();
+  }
 
-    log.debug("최종 전체 실제 출석일 수: {}", totalAttendanceDays);
-    double realValidDaysSize = (double) validDays.size();
-    if (realValidDaysSize <= 0) {
-      log.warn("유효 출석일 수가 0 입니다. 출석률을 0.0으로 반환합니다.");
-      return 0.0;
-    }
-    log.debug("(double) validDays.size()) - 1: {}",realValidDaysSize);
+  /**
+   * 과정 기간을 20일 단위 차수로 나눈 구간 (출석률 요약 테이블의 차수 기준)
+   * - 마지막 20일(현장실습)은 regularSegments + 1 번 구간
+   */
+  public static SegmentLayout segmentLayout(LocalDate startDate, LocalDate endDate,
+      Set<LocalDate> holidays) {
+    return new SegmentLayout(ValidDayIndex.of(startDate, endDate, holidays));
+  }
 
-    log.info("(최종) 전체 실제 출석일 수: {}, 유효일 수: {}", totalAttendanceDays, realValidDaysSize);
-    return roundToTwoDecimalPlaces((totalAttendanceDays / realValidDaysSize) * 100);
+  /**
+   * 공휴일 달력 기준 차수 구간 (과정 기간을 하루씩 돌지 않고 달력의 평일 누적 배열로 계산)
+   */
+  public static SegmentLayout segmentLayout(LocalDate startDate, LocalDate endDate,
+      HolidayCalendar calendar) {
+    return new SegmentLayout(new CalendarValidDayIndex(startDate, endDate, calendar));
   }
 
   /**
    * 20일 단위 출석률 구하는 메소드
+   * - 마지막 기록 날짜가 포함된 차수까지만 계산하고, 기록이 없는 차수는 제외
    */
-  private static List<Map<String, Object>> calculateTwentyDayAttendanceRates(List<AttendanceDailyStats> dailyStats,
-      List<Map<String, Object>> segments) {
-
-    log.info("20일 단위 출석률 구하기 요청");
-    List<Map<String, Object>> twentyDayRateDetails = new ArrayList<>();
-    int periodIndex = 0;
-    int currentSegmentDays = 0;
-    int currentSegmentAttendance = 0;
-    int currentSegmentIncidents = 0;
-
-    // dailyStats가 비어있는지 추가 확인
-    if (dailyStats == null || dailyStats.isEmpty()) {
-      log.warn("dailyStats가 비어 있어서 빈 리스트를 반환합니다.");
-      return twentyDayRateDetails;
-    }
-
-    // dailyStats에서 마지막 날짜 찾기
-    LocalDate lastRecordedDate = dailyStats.stream()
-        .map(AttendanceDailyStats::getDate)
-        .max(LocalDate::compareTo)
-        .orElse(null);
-
-    if (lastRecordedDate == null) {
-      log.warn("dailyStats에 데이터가 없어서 빈 리스트를 반환합니다.");
-      return twentyDayRateDetails; // 데이터가 없으면 빈 리스트 반환
-    }
-
-    // segments가 비어있는지 확인
-    if (segments == null || segments.isEmpty()) {
-      log.warn("segments가 비어 있어서 빈 리스트를 반환합니다.");
-      return twentyDayRateDetails;
-    }
-
-    // 마지막 날짜가 포함된 세그먼트 찾기
-    boolean processedLastSegment = false;
-
-    for (Map<String, Object> segment : segments) {
-
-      List<LocalDate> periodDays = new ArrayList<>();
-      Object rawObject = segment.get("날짜들");
-
-      if (rawObject instanceof List<?>) {
-        periodDays = ((List<?>) rawObject).stream()
-            .filter(LocalDate.class::isInstance) // LocalDate 타입인지 확인
-            .map(LocalDate.class::cast) // 안전한 형변환
-            .toList();
-      }
-
-
-
-      // 이 세그먼트가 마지막 기록된 날짜를 포함하는지 확인
-      boolean containsLastDate = periodDays.stream()
-          .anyMatch(date -> date.isEqual(lastRecordedDate) || date.isAfter(lastRecordedDate));
-
-      List<LocalDate> calculationDays = periodDays;
-      log.info("calculationDays 의 크기: {}", calculationDays.size());
+  private static List<TwentyDayRateDto> calculateTwentyDayAttendanceRates(byte[] days,
+      ValidDayIndex index, long lastRecordedEpochDay) {
 
+    List<TwentyDayRateDto> twentyDayRates = new ArrayList<>();
+    SegmentLayout layout = new SegmentLayout(index);
 
-      currentSegmentDays = 0;
-      currentSegmentAttendance = 0;
-      currentSegmentIncidents = 0;
-
-      for (LocalDate date : calculationDays) {
-
-        // 마지막 기록된 날짜 이후의 날짜는 건너뜀
-        if (date.isAfter(lastRecordedDate)) {
-          continue;
-        }
-
-        AttendanceDailyStats stats = dailyStats.stream()
-            .filter(s -> s.getDate().isEqual(date))
-            .findFirst()
-            .orElse(null);
-
-        if (stats == null) {
-          log.info("출석 데이터가 없어서 건너뜁니다.");
-          continue;
-        } // 출석 데이터가 없으면 건너뜀
-
-        boolean isAbsent = stats.getAbsentCount() == TOTAL_SESSIONS_PER_DAY;
-        boolean isLate = !isAbsent && (stats.getAbsentCount() > 0 || stats.getLateCount() > 0);
-        boolean isEarlyLeave = !isAbsent && stats.getEarlyLeaveCount() > 0;
-
-        currentSegmentDays++;
-        if (!isAbsent) {
-          currentSegmentAttendance++;
-
-          if (isLate || isEarlyLeave) {
-            currentSegmentIncidents++; // 현재 20일 기간의 지각/조퇴 누적
-
-            // 3회가 되면 출석일 하나 차감
-            if (currentSegmentIncidents >= THRESHOLD) {
-              currentSegmentAttendance--;
-              currentSegmentIncidents -= THRESHOLD;
-            }
-          }
-        }
-        log.info("소정출석일 근황: {},실제 출석일 근황: {}, 축적된 지각과 조퇴합 근황: {}",
-            currentSegmentDays, currentSegmentAttendance, currentSegmentIncidents);
+    for (Segment segment : layout.segments.subList(0, layout.regularSegments)) {
+      SegmentCounts counts = countDays(days, segment.from, segment.to);
+      if (counts.recordedDays > 0) {
+        twentyDayRates.add(twentyDayRateOf(segment.index, segment.startDate, segment.endDate,
+            counts.recordedDays, counts.presentDays, counts.incidentDays));
       }
 
-      if (currentSegmentDays > 0) {
-        log.debug("currentSegmentDays-20일(소정출석일): {}",currentSegmentDays);
-
-        double twentyDayRate = roundToTwoDecimalPlaces((currentSegmentAttendance / (double) currentSegmentDays) * 100);
-        log.info("twentyDayRate: {}", twentyDayRate);
-
-        // 차수별 출석률 정보 저장
-        Map<String, Object> rateInfo = new HashMap<>();
-        rateInfo.put("periodIndex", segment.get("차수"));
-        rateInfo.put("startDate", segment.get("시작일").toString());
-        rateInfo.put("endDate", segment.get("종료일").toString());
-        rateInfo.put("twentyDayRate", twentyDayRate);
-        rateInfo.put("currentDay", currentSegmentDays);
-        rateInfo.put("incidentCount", currentSegmentIncidents);
-        rateInfo.put("attendanceDays", currentSegmentAttendance);
-        log.info("차수별 정보 저장: {}", rateInfo);
-
-        if (twentyDayRateDetails.size() > periodIndex) {
-          twentyDayRateDetails.set(periodIndex, rateInfo);
-        } else {
-          twentyDayRateDetails.add(rateInfo);
-        }
-      }
-
-      // 이 세그먼트가 마지막 기록 날짜를 포함하면 여기서 종료
-      if (containsLastDate) {
-        log.info("stats의 마지막 날짜이므로 20일 출석률 계산 과정을 종료합니다.");
-        processedLastSegment = true;
+      // 이 차수가 마지막 기록 날짜를 포함하면 여기서 종료
+      if (segment.endDate.toEpochDay() >= lastRecordedEpochDay) {
         break;
       }
-
-      periodIndex++;
     }
 
-    log.debug("(20일 출석률)최종 20일 단위 출석률 리스트: {}", twentyDayRateDetails);
-    // 리스트가 비어있는지 확인하는 방어 코드 추가
-    if (!twentyDayRateDetails.isEmpty()) {
-      Map<String, Object> twentyDayRateDetail = twentyDayRateDetails.get(
-          twentyDayRateDetails.size() - 1);
-      log.debug("(20일 출석률)해당하는 20일 단위 출석률: {}", twentyDayRateDetail);
-      log.info("(최종)20일 단위 출석률 리스트: {}, 해당하는 20일 단위 출석률: {}", twentyDayRateDetails,
-          twentyDayRateDetail);
-    } else {
+    if (twentyDayRates.isEmpty()) {
       log.warn("20일 단위 출석률 계산 결과가 없습니다.");
     }
-    return twentyDayRateDetails;
+    return twentyDayRates;
   }
 
   /**
@@ -355,6 +193,11 @@ public class AttendanceCalculator {
 
     log.info("프린트를 위해 20일 출석률 계산을 시작합니다.");
 
+    Map<LocalDate, AttendanceDailyStats> statsByDate = new HashMap<>(dailyStats.size() * 2);
+    for (AttendanceDailyStats stats : dailyStats) {
+      statsByDate.putIfAbsent(stats.getDate(), stats);
+    }
+
     int currentSegmentDays = 0;
     int currentSegmentAttendance = 0;
     int currentSegmentIncidents = 0;
@@ -363,16 +206,10 @@ public class AttendanceCalculator {
     int earlyLeave = 0;
 
     for (LocalDate date : courseDates) {
-      AttendanceDailyStats stats = dailyStats.stream()
-          .filter(s -> s.getDate().isEqual(date))
-          .findFirst()
-          .orElse(null);
-
+      AttendanceDailyStats stats = statsByDate.get(date);
       if (stats == null) {
-        log.info("(프린트) 출석 데이터가 없어서 건너뜁니다.");
-        continue;
-      } // 출석 데이터가 없으면 건너뜀
-
+        continue; // 출석 데이터가 없으면 건너뜀
+      }
 
       boolean isAbsent = stats.getAbsentCount() == TOTAL_SESSIONS_PER_DAY;
       boolean isLate = !isAbsent && (stats.getAbsentCount() > 0 || stats.getLateCount() > 0);
@@ -400,19 +237,11 @@ public class AttendanceCalculator {
       }else{
         absent++;
       }
-
-      log.info("(프린트) 결석: {}, 지각: {}, 조퇴: {}",absent,late,earlyLeave);
-      log.info("(프린트) 소정출석일 근황: {},실제 출석일 근황: {}, 축적된 지각과 조퇴합 근황: {}",
-          currentSegmentDays, currentSegmentAttendance, currentSegmentIncidents);
     }
 
-    log.info("(프린트)소정 출석일: {}",currentSegmentDays);
-    log.info("(프린트)실제 출석일: {}", currentSegmentAttendance);
     double twentyDayRate = roundToTwoDecimalPlaces((currentSegmentAttendance / (double) currentSegmentDays) * 100);
-    log.info("(프린트)20일 출석률: {}", twentyDayRate);
-    log.info("(프린트)결석 횟수: {}",absent);
-    log.info("(프린트)지각 횟수: {}",late);
-    log.info("(프린트)조퇴 횟수: {}",earlyLeave);
+    log.info("(프린트) 소정 출석일: {}, 실제 출석일: {}, 20일 출석률: {}, 결석: {}, 지각: {}, 조퇴: {}",
+        currentSegmentDays, currentSegmentAttendance, twentyDayRate, absent, late, earlyLeave);
 
     twentyDayRateDetails.put("totalWorkingDays",currentSegmentDays);
     twentyDayRateDetails.put("attendanceDays",currentSegmentAttendance);
@@ -420,7 +249,6 @@ public class AttendanceCalculator {
     twentyDayRateDetails.put("earlyLeaveDays",earlyLeave);
     twentyDayRateDetails.put("absentDays",absent);
     twentyDayRateDetails.put("attendanceRate",twentyDayRate);
-    log.info("(프린트-최종) 20일 출석룰 Map: {}",twentyDayRateDetails);
 
     return twentyDayRateDetails;
 
@@ -434,24 +262,12 @@ public class AttendanceCalculator {
 
   public static List<LocalDate> getValidDays(LocalDate startDate, LocalDate endDate,
       Set<LocalDate> holidays) {
-    log.info("주말 및 공휴일, 대체 공휴일을 제외한 유효 출석일 계산 시작");
-    log.info("startDate: {}, endDate: {}, holidays: {}", startDate, endDate, holidays);
-    List<LocalDate> validDays = new ArrayList<>();
-    LocalDate currentDate = startDate;
-
-    while (!currentDate.isAfter(endDate)) {
-      if (!(currentDate.getDayOfWeek() == DayOfWeek.SATURDAY ||
-          currentDate.getDayOfWeek() == DayOfWeek.SUNDAY ||
-          holidays.contains(currentDate))) {
-        validDays.add(currentDate);
-      }
-      currentDate = currentDate.plusDays(1);
+    ValidDayIndex index = ValidDayIndex.of(startDate, endDate, holidays);
+    List<LocalDate> validDays = new ArrayList<>(index.validCount);
+    for (int i = 0; i < index.validCount; i++) {
+      validDays.add(index.dateOf(i));
     }
-
-    log.debug("유효한 출석일 수 validDays: {}", validDays);
-    log.debug("유효한 출석일 수: {}", validDays.size());
-    log.info("유효한 출석일 수: {}", validDays);
-    log.info("유효 출석일 계산 종료");
+    log.debug("유효한 출석일 수: {} ({} ~ {})", validDays.size(), startDate, endDate);
     return validDays;
   }
 
@@ -461,27 +277,16 @@ public class AttendanceCalculator {
    */
 
   public static List<Map<String, Object>> calculateTwentyDaySegments(List<LocalDate> validDays) {
-    log.info("20일 단위로 차수를 나누는 계산 시작");
     List<Map<String, Object>> segments = new ArrayList<>();
-    int periodIndex = 1;
-
-    // 입력받은 리스트를 새로운 리스트로 복사 (원본 보존)
-    List<LocalDate> workingDays = new ArrayList<>(validDays);
 
     // 현장실습 기간
     // 마지막 20일 제거 (리스트 크기가 20일 이상인 경우에만)
-    if (workingDays.size() >= SEGMENT_DAYS) {
-      log.info("현장실습 날짜를 제외합니다 (20일)");
-      workingDays = workingDays.subList(0, workingDays.size() - SEGMENT_DAYS);
-    }
+    int regularDays = validDays.size() >= SEGMENT_DAYS
+        ? validDays.size() - SEGMENT_DAYS : validDays.size();
 
-    while (!workingDays.isEmpty()) {
-      int daysInSegment = SEGMENT_DAYS;
-      log.info("이번 차수의 크기: {}",daysInSegment);
-      int segmentSize = Math.min(daysInSegment, workingDays.size());
-
-      List<LocalDate> periodDays = workingDays.subList(0, segmentSize);
-//      List<LocalDate> periodDays = workingDays.subList(0, Math.min(daysInSegment, workingDays.size()));
+    for (int from = 0, periodIndex = 1; from < regularDays; from += SEGMENT_DAYS, periodIndex++) {
+      List<LocalDate> periodDays = List.copyOf(
+          validDays.subList(from, Math.min(from + SEGMENT_DAYS, regularDays)));
       segments.add(Map.of(
           "차수", periodIndex + "차",
           "시작일", periodDays.get(0),
@@ -489,13 +294,9 @@ public class AttendanceCalculator {
           "일수", periodDays.size(),
           "날짜들", periodDays
       ));
-//      workingDays = workingDays.subList(Math.min(SEGMENT_DAYS, workingDays.size()), workingDays.size());
-      workingDays = workingDays.subList(segmentSize, workingDays.size());
-      periodIndex++;
     }
 
-    log.info("20일 단위 차수 리스트: {}", segments);
-    log.info("20일 단위 차수 계산 종료");
+    log.debug("20일 단위 차수 수: {}", segments.size());
     return segments;
   }
 
@@ -505,11 +306,293 @@ public class AttendanceCalculator {
    * 소수점 둘째 자리까지 반올림하는 유틸리티 메서드
    */
 
-  private static double roundToTwoDecimalPlaces(double value) {
+  public static double roundToTwoDecimalPlaces(double value) {
     return Math.round(value * 100.0) / 100.0;
   }
-}
 
+  // 유효 출석일 순번 [from, to) 의 출석 집계 (출석 데이터가 없는 날은 건너뜀)
+  private static SegmentCounts countDays(byte[] days, int from, int to) {
+    int recordedDays = 0;
+    int presentDays = 0;
+    int incidentDays = 0;
+    for (int i = from; i < to; i++) {
+      byte day = days[i];
+      if (day == DAY_NONE) {
+        continue;
+      }
+      recordedDays++;
+      if (day != DAY_ABSENT) {
+        presentDays++;
+        if (day == DAY_INCIDENT) {
+          incidentDays++;
+        }
+      }
+    }
+    return new SegmentCounts(recordedDays, presentDays, incidentDays);
+  }
+
+  // 하루 출석 상태 판정 (8교시 모두 결석이면 결석, 결석/지각/조퇴가 하나라도 있으면 지각·조퇴)
+  private static byte dayState(AttendanceDailyStats stats) {
+    if (stats.getAbsentCount() == TOTAL_SESSIONS_PER_DAY) {
+      return DAY_ABSENT;
+    }
+    if (stats.getAbsentCount() > 0 || stats.getLateCount() > 0
+        || stats.getEarlyLeaveCount() > 0) {
+      return DAY_INCIDENT;
+    }
+    return DAY_PRESENT;
+  }
+
+  /**
+   * 20일 단위 차수 구간 목록 (유효 출석일 인덱스 기준)
+   */
+  public static final class SegmentLayout {
+
+    private final ValidDayIndex index;
+    private final List<Segment> segments;
+    private final int regularSegments;
+
+    private SegmentLayout(ValidDayIndex index) {
+      this.index = index;
+      List<Segment> segments = new ArrayList<>();
+      int regularDays = index.regularDays();
+      int segmentIndex = 1;
+      for (int from = 0; from < regularDays; from += SEGMENT_DAYS) {
+        segments.add(new Segment(index, segmentIndex++, from,
+            Math.min(from + SEGMENT_DAYS, regularDays)));
+      }
+      this.regularSegments = segments.size();
+      // 현장실습 기간 (마지막 20일)
+      if (regularDays < index.validCount) {
+        segments.add(new Segment(index, segmentIndex, regularDays, index.validCount));
+      }
+      this.segments = List.copyOf(segments);
+    }
+
+    public int getValidDays() {
+      return index.validCount;
+    }
+
+    // 현장실습을 제외한 차수 수
+    public int getRegularSegments() {
+      return regularSegments;
+    }
+
+    public List<Segment> getSegments() {
+      return segments;
+    }
 
+    // 날짜가 속한 차수 (유효 출석일이 아니면 null)
+    public Segment segmentOf(LocalDate date) {
+      int ordinal = index.ordinalOf(date.toEpochDay());
+      if (ordinal < 0) {
+        return null;
+      }
+      for (Segment segment : segments) {
+        if (ordinal < segment.to) {
+          return segment;
+        }
+      }
+      return null;
+    }
 
+    // 차수 번호(1부터)로 구간 조회
+    public Segment segment(int segmentIndex) {
+      return segmentIndex >= 1 && segmentIndex <= segments.size()
+          ? segments.get(segmentIndex - 1) : null;
+    }
+
+    /**
+     * 한 학생의 차수 기간 출석 집계 (calculateAttendanceRates 와 같은 판정 기준)
+     *
+     * @param segment    차수 구간
+     * @param dailyStats 학생의 일별 출석 데이터 (차수 밖의 날짜, 주말/공휴일은 무시)
+     */
+    public SegmentCounts count(Segment segment, List<AttendanceDailyStats> dailyStats) {
+      byte[] days = new byte[segment.to - segment.from];
+      for (AttendanceDailyStats stats : dailyStats) {
+        int ordinal = index.ordinalOf(stats.getDate().toEpochDay());
+        if (ordinal >= segment.from && ordinal < segment.to) {
+          days[ordinal - segment.from] = dayState(stats);
+        }
+      }
+      return countDays(days, 0, days.length);
+    }
+  }
 
+  /**
+   * 20일 단위 차수 구간 (유효 출석일 순번 [from, to))
+   */
+  public static final class Segment {
+
+    private final int index;
+    private final int from;
+    private final int to;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    private Segment(ValidDayIndex validDays, int index, int from, int to) {
+      this.index = index;
+      this.from = from;
+      this.to = to;
+      this.startDate = validDays.dateOf(from);
+      this.endDate = validDays.dateOf(to - 1);
+    }
+
+    public int getIndex() {
+      return index;
+    }
+
+    public LocalDate getStartDate() {
+      return startDate;
+    }
+
+    public LocalDate getEndDate() {
+      return endDate;
+    }
+  }
+
+  /**
+   * 차수 기간의 출석 집계
+   */
+  public static final class SegmentCounts {
+
+    private final int recordedDays; // 출석 기록이 있는 날 수
+    private final int presentDays; // 결석이 아닌 날 수
+    private final int incidentDays; // 지각/조퇴가 있는 날 수
+
+    private SegmentCounts(int recordedDays, int presentDays, int incidentDays) {
+      this.recordedDays = recordedDays;
+      this.presentDays = presentDays;
+      this.incidentDays = incidentDays;
+    }
+
+    public int getRecordedDays() {
+      return recordedDays;
+    }
+
+    public int getPresentDays() {
+      return presentDays;
+    }
+
+    public int getIncidentDays() {
+      return incidentDays;
+    }
+  }
+
+  /**
+   * 과정 기간의 유효 출석일 인덱스 (유효 출석일 순번 <-> 날짜)
+   */
+  private abstract static class ValidDayIndex {
+
+    protected final int validCount;
+
+    private ValidDayIndex(int validCount) {
+      this.validCount = validCount;
+    }
+
+    private static ValidDayIndex of(LocalDate startDate, LocalDate endDate,
+        Set<LocalDate> holidays) {
+      return ArrayValidDayIndex.of(startDate, endDate, holidays);
+    }
+
+    // 현장실습(마지막 20일)을 제외한 일수
+    protected int regularDays() {
+      return validCount >= SEGMENT_DAYS ? validCount - SEGMENT_DAYS : validCount;
+    }
+
+    // 유효 출석일 순번 (기간 밖이거나 주말, 공휴일이면 -1)
+    protected abstract int ordinalOf(long epochDay);
+
+    protected abstract LocalDate dateOf(int ordinal);
+  }
+
+  /**
+   * 공휴일 목록으로 만든 유효 출석일 인덱스
+   * - ordinals[epochDay - baseEpochDay] = 유효 출석일 순번 (주말, 공휴일은 -1)
+   * - offsets[순번] = 해당 유효 출석일의 epochDay - baseEpochDay
+   */
+  private static final class ArrayValidDayIndex extends ValidDayIndex {
+
+    private final long baseEpochDay;
+    private final int[] ordinals;
+    private final int[] offsets;
+
+    private ArrayValidDayIndex(long baseEpochDay, int[] ordinals, int[] offsets,
+        int validCount) {
+      super(validCount);
+      this.baseEpochDay = baseEpochDay;
+      this.ordinals = ordinals;
+      this.offsets = offsets;
+    }
+
+    private static ArrayValidDayIndex of(LocalDate startDate, LocalDate endDate,
+        Set<LocalDate> holidays) {
+      long base = startDate.toEpochDay();
+      int length = (int) Math.max(0, endDate.toEpochDay() - base + 1);
+      int[] ordinals = new int[length];
+      int[] offsets = new int[length];
+      int count = 0;
+
+      int dayOfWeek = startDate.getDayOfWeek().getValue(); // 월=1 ... 일=7
+      LocalDate date = startDate;
+      for (int i = 0; i < length; i++) {
+        boolean weekend = dayOfWeek == DayOfWeek.SATURDAY.getValue()
+            || dayOfWeek == DayOfWeek.SUNDAY.getValue();
+        if (!weekend && (holidays == null || !holidays.contains(date))) {
+          ordinals[i] = count;
+          offsets[count++] = i;
+        } else {
+          ordinals[i] = -1;
+        }
+        dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        date = date.plusDays(1);
+      }
+      return new ArrayValidDayIndex(base, ordinals, offsets, count);
+    }
+
+    @Override
+    protected int ordinalOf(long epochDay) {
+      long offset = epochDay - baseEpochDay;
+      return offset >= 0 && offset < ordinals.length ? ordinals[(int) offset] : -1;
+    }
+
+    @Override
+    protected LocalDate dateOf(int ordinal) {
+      return LocalDate.ofEpochDay(baseEpochDay + offsets[ordinal]);
+    }
+  }
+
+  /**
+   * 공휴일 달력(HolidayCalendar)의 평일 누적 배열을 그대로 쓰는 유효 출석일 인덱스
+   * - 과정 기간을 하루씩 돌지 않고, 순번은 기간 내 평일 수(뺄셈)로, 날짜는 누적 배열 이진 탐색으로 구함
+   */
+  private static final class CalendarValidDayIndex extends ValidDayIndex {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final HolidayCalendar calendar;
+
+    private CalendarValidDayIndex(LocalDate startDate, LocalDate endDate,
+        HolidayCalendar calendar) {
+      super(calendar.countWorkingDays(startDate, endDate));
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.calendar = calendar;
+    }
+
+    @Override
+    protected int ordinalOf(long epochDay) {
+      LocalDate date = LocalDate.ofEpochDay(epochDay);
+      if (date.isBefore(startDate) || date.isAfter(endDate) || !calendar.isWorkingDay(date)) {
+        return -1;
+      }
+      return calendar.countWorkingDays(startDate, date) - 1;
+    }
+
+    @Override
+    protected LocalDate dateOf(int ordinal) {
+      return calendar.workingDayAt(startDate, ordinal);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.syi.project.attendance;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 출석 유니크 인덱스(member_id, period_id, date) 확인
+ * - ddl-auto(update) 는 중복 row 가 있으면 인덱스 생성에 실패해도 로그만 남기고 넘어가므로, 시작 시 인덱스가 있는지 확인
+ * - 인덱스가 없으면 중복 출석을 정리(먼저 저장된 row 유지)하고 인덱스를 생성, 중복 정리된 과정의 출석률 요약은 삭제해 다시 계산되도록 함
+ * - auto-dedupe 가 false 이거나 생성에 실패하면 서버 시작을 중단 (인덱스 없이는 동시 입실 요청의 중복을 막을 수 없음)
+ */
+@Slf4j
+@Component
+public class AttendanceUniqueIndexInitializer implements ApplicationRunner {
+
+  static final String INDEX_NAME = "uk_attendance_member_period_date";
+
+  private static final String INDEX_EXISTS_SQL =
+      "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() "
+          + "AND table_name = 'attendance' AND index_name = ?";
+
+  private static final String DUPLICATE_JOIN =
+      "FROM attendance a JOIN attendance b ON a.member_id = b.member_id "
+          + "AND a.period_id = b.period_id AND a.date = b.date AND a.attendance_id > b.attendance_id";
+
+  // 삭제될 row 가 속한 과정 (중복 row 끼리 과정이 달라도 모두 포함)
+  private static final String DUPLICATE_COURSES_SQL =
+      "SELECT DISTINCT a.course_id " + DUPLICATE_JOIN + " UNION SELECT DISTINCT b.course_id "
+          + DUPLICATE_JOIN;
+
+  // (member_id, period_id, date) 마다 가장 먼저 저장된 row 만 남김
+  private static final String DELETE_DUPLICATES_SQL = "DELETE a " + DUPLICATE_JOIN;
+
+  private static final String DELETE_SUMMARY_SQL =
+      "DELETE FROM attendance_rate_summary WHERE course_id = ?";
+
+  private static final String CREATE_INDEX_SQL =
+      "ALTER TABLE attendance ADD UNIQUE INDEX " + INDEX_NAME + " (member_id, period_id, date)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean autoDedupe;
+
+  public AttendanceUniqueIndexInitializer(JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      @Value("${attendance.unique-index.auto-dedupe:true}") boolean autoDedupe) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.autoDedupe = autoDedupe;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (indexExists()) {
+      log.debug("출석 유니크 인덱스 확인 완료 - index: {}", INDEX_NAME);
+      return;
+    }
+    if (!autoDedupe) {
+      throw new IllegalStateException("출석 유니크 인덱스(" + INDEX_NAME + ")가 없습니다. "
+          + "중복 출석을 정리하고 인덱스를 생성한 뒤 다시 시작하세요.");
+    }
+
+    log.warn("출석 유니크 인덱스 없음 - 중복 출석 정리 후 인덱스 생성 시작");
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        List<Long> courseIds = jdbcTemplate.queryForList(DUPLICATE_COURSES_SQL, Long.class);
+        int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+        for (Long courseId : courseIds) {
+          jdbcTemplate.update(DELETE_SUMMARY_SQL, courseId);
+        }
+        log.warn("중복 출석 정리 완료 - 삭제된 row 수: {}, 대상 과정: {}", deleted, courseIds);
+      });
+      // DDL 은 MySQL 에서 암묵적으로 커밋되므로 정리 트랜잭션과 분리
+      jdbcTemplate.execute(CREATE_INDEX_SQL);
+    } catch (Exception e) {
+      throw new IllegalStateException("출석 유니크 인덱스(" + INDEX_NAME + ") 생성 실패", e);
+    }
+
+    if (!indexExists()) {
+      throw new IllegalStateException("출석 유니크 인덱스(" + INDEX_NAME + ") 생성 후에도 인덱스가 없습니다.");
+    }
+    log.info("출석 유니크 인덱스 생성 완료 - index: {}", INDEX_NAME);
+  }
+
+  private boolean indexExists() {
+    Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, INDEX_NAME);
+    return count != null && count > 0;
+  }
+}
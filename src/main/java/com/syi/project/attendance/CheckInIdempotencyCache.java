@@ -0,0 +1,98 @@
+package com.syi.project.attendance;
+
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 출석 등록 멱등성 처리 (Idempotency-Key 헤더)
+ * - 같은 수강생이 같은 키로 다시 요청하면 처리하지 않고 첫 요청의 결과(또는 예외)를 그대로 반환
+ * - 첫 요청이 처리 중이면 끝날 때까지 기다렸다가 같은 결과를 반환 (버튼 연타, 모바일 재전송)
+ * - 처리 중 예외가 나면 결과를 남기지 않으므로 같은 키로 재시도 가능
+ * - 결과는 ttl-seconds 동안 메모리에 보관
+ */
+@Slf4j
+@Component
+public class CheckInIdempotencyCache {
+
+  private final long ttlMillis;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  public CheckInIdempotencyCache(
+      @Value("${attendance.idempotency.ttl-seconds:600}") long ttlSeconds) {
+    this.ttlMillis = ttlSeconds * 1000;
+  }
+
+  /**
+   * 키가 처음이면 action 을 실행하고, 이미 있으면 저장된 결과 반환
+   *
+   * @param memberId       요청한 수강생 ID
+   * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 항상 실행)
+   * @param action         출석 등록 처리
+   * @return 출석 등록 결과
+   */
+  public AttendanceResponseDTO execute(Long memberId, String idempotencyKey,
+      Supplier<AttendanceResponseDTO> action) {
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return action.get();
+    }
+
+    String key = memberId + ":" + idempotencyKey;
+    Entry entry = new Entry(System.currentTimeMillis() + ttlMillis);
+    Entry existing = entries.putIfAbsent(key, entry);
+    while (existing != null && existing.isExpired()) {
+      existing = entries.replace(key, existing, entry) ? null : entries.putIfAbsent(key, entry);
+    }
+    if (existing != null) {
+      log.info("중복 출석 요청 - 첫 요청 결과 반환 (memberId: {}, key: {})", memberId, idempotencyKey);
+      return existing.await();
+    }
+
+    try {
+      AttendanceResponseDTO result = action.get();
+      entry.result.complete(result);
+      return result;
+    } catch (RuntimeException e) {
+      entries.remove(key, entry);
+      entry.result.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  @Scheduled(fixedDelay = 60000)
+  public void evictExpired() {
+    entries.values().removeIf(Entry::isExpired);
+  }
+
+  private static final class Entry {
+
+    private final long expiresAt;
+    private final CompletableFuture<AttendanceResponseDTO> result = new CompletableFuture<>();
+
+    private Entry(long expiresAt) {
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return result.isDone() && System.currentTimeMillis() > expiresAt;
+    }
+
+    private AttendanceResponseDTO await() {
+      try {
+        return result.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+  }
+}
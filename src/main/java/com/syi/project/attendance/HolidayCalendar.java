@@ -0,0 +1,195 @@
+package com.syi.project.attendance;
+
+import com.syi.project.attendance.entity.Holiday;
+import com.syi.project.attendance.repository.HolidayRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공휴일 달력 (메모리 캐시)
+ * - 시작 시 holidays 테이블을 한 번 읽어 두고, 공휴일 저장(fetchAndStoreHolidays) 후 reload
+ * - 평일 여부는 O(1), 기간 내 평일 수는 누적 배열의 뺄셈으로, n 번째 평일은 누적 배열의 이진 탐색으로 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayCalendar {
+
+  private final HolidayRepository holidayRepository;
+
+  private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+  @PostConstruct
+  public void init() {
+    reload();
+  }
+
+  /**
+   * DB 의 공휴일 데이터로 달력 다시 만들기
+   */
+  public void reload() {
+    List<LocalDate> dates = holidayRepository.findAll().stream()
+        .map(Holiday::getDate)
+        .toList();
+    snapshot = Snapshot.of(dates);
+    log.info("공휴일 달력 로딩 완료 - 공휴일 수: {}, 인덱스 범위: {} ~ {}", dates.size(),
+        snapshot.indexStart, snapshot.indexStart.plusDays(snapshot.cumulative.length - 2));
+  }
+
+  public boolean isHoliday(LocalDate date) {
+    return snapshot.holidays.contains(date);
+  }
+
+  /**
+   * 주말, 공휴일이 아닌 날인지 확인
+   */
+  public boolean isWorkingDay(LocalDate date) {
+    return !isWeekend(date) && !snapshot.holidays.contains(date);
+  }
+
+  public Set<LocalDate> getHolidaysForYear(int year) {
+    return snapshot.holidaysByYear.getOrDefault(year, Collections.emptySet());
+  }
+
+  /**
+   * startDate ~ endDate (양 끝 포함) 사이의 평일 수
+   */
+  public int countWorkingDays(LocalDate startDate, LocalDate endDate) {
+    if (startDate.isAfter(endDate)) {
+      return 0;
+    }
+
+    Snapshot current = snapshot;
+    int from = current.indexOf(startDate);
+    int to = current.indexOf(endDate);
+    if (from >= 0 && to >= 0) {
+      return current.cumulative[to + 1] - current.cumulative[from];
+    }
+
+    // 인덱스 범위를 벗어난 경우 직접 계산
+    int count = 0;
+    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+      if (!isWeekend(date) && !current.holidays.contains(date)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * startDate 부터 센 ordinal 번째(0부터) 평일
+   * - countWorkingDays(startDate, 결과) == ordinal + 1 이 되는 가장 이른 날짜
+   */
+  public LocalDate workingDayAt(LocalDate startDate, int ordinal) {
+    if (ordinal < 0) {
+      throw new IllegalArgumentException("ordinal 은 0 이상이어야 합니다: " + ordinal);
+    }
+
+    Snapshot current = snapshot;
+    int from = current.indexOf(startDate);
+    if (from >= 0) {
+      int target = current.cumulative[from] + ordinal + 1;
+      int last = current.cumulative.length - 1;
+      if (current.cumulative[last] >= target) {
+        // cumulative[i] >= target 인 가장 작은 i (해당 평일은 indexStart + i - 1)
+        int low = from + 1;
+        int high = last;
+        while (low < high) {
+          int mid = (low + high) >>> 1;
+          if (current.cumulative[mid] >= target) {
+            high = mid;
+          } else {
+            low = mid + 1;
+          }
+        }
+        return current.indexStart.plusDays(low - 1);
+      }
+    }
+
+    // 인덱스 범위를 벗어난 경우 직접 계산
+    int remaining = ordinal;
+    LocalDate date = startDate;
+    while (true) {
+      if (!isWeekend(date) && !current.holidays.contains(date)) {
+        if (remaining == 0) {
+          return date;
+        }
+        remaining--;
+      }
+      date = date.plusDays(1);
+    }
+  }
+
+  private static boolean isWeekend(LocalDate date) {
+    DayOfWeek dayOfWeek = date.getDayOfWeek();
+    return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+  }
+
+  /**
+   * 불변 달력 데이터 - reload 시 통째로 교체
+   */
+  private static final class Snapshot {
+
+    private final Set<LocalDate> holidays;
+    private final Map<Integer, Set<LocalDate>> holidaysByYear;
+    private final LocalDate indexStart;
+    // cumulative[i] = indexStart 부터 i일 동안의 평일 수
+    private final int[] cumulative;
+
+    private Snapshot(Set<LocalDate> holidays, Map<Integer, Set<LocalDate>> holidaysByYear,
+        LocalDate indexStart, int[] cumulative) {
+      this.holidays = holidays;
+      this.holidaysByYear = holidaysByYear;
+      this.indexStart = indexStart;
+      this.cumulative = cumulative;
+    }
+
+    private static Snapshot of(List<LocalDate> dates) {
+      Set<LocalDate> holidays = Set.copyOf(dates);
+
+      Map<Integer, Set<LocalDate>> grouped = new HashMap<>();
+      for (LocalDate date : holidays) {
+        grouped.computeIfAbsent(date.getYear(), y -> new HashSet<>()).add(date);
+      }
+      Map<Integer, Set<LocalDate>> holidaysByYear = new HashMap<>();
+      grouped.forEach((year, set) -> holidaysByYear.put(year, Set.copyOf(set)));
+
+      // 공휴일 데이터가 있는 연도와 올해를 포함하도록 앞뒤 1년씩 여유를 둔 인덱스
+      int currentYear = LocalDate.now().getYear();
+      int minYear = holidaysByYear.keySet().stream().mapToInt(Integer::intValue)
+          .min().orElse(currentYear);
+      int maxYear = holidaysByYear.keySet().stream().mapToInt(Integer::intValue)
+          .max().orElse(currentYear);
+      LocalDate indexStart = LocalDate.of(Math.min(minYear, currentYear) - 1, 1, 1);
+      LocalDate indexEnd = LocalDate.of(Math.max(maxYear, currentYear) + 1, 12, 31);
+
+      int days = (int) ChronoUnit.DAYS.between(indexStart, indexEnd) + 1;
+      int[] cumulative = new int[days + 1];
+      LocalDate date = indexStart;
+      for (int i = 0; i < days; i++) {
+        boolean workingDay = !isWeekend(date) && !holidays.contains(date);
+        cumulative[i + 1] = cumulative[i] + (workingDay ? 1 : 0);
+        date = date.plusDays(1);
+      }
+
+      return new Snapshot(holidays, Map.copyOf(holidaysByYear), indexStart, cumulative);
+    }
+
+    // 인덱스 범위 밖이면 -1
+    private int indexOf(LocalDate date) {
+      long offset = ChronoUnit.DAYS.between(indexStart, date);
+      return offset >= 0 && offset < cumulative.length - 1 ? (int) offset : -1;
+    }
+  }
+}
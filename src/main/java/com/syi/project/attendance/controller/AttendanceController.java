@@ -1,26 +1,29 @@
 package com.syi.project.attendance.controller;
 
+import com.syi.project.attendance.CheckInIdempotencyCache;
 import com.syi.project.attendance.dto.request.AttendanceRequestDTO;
 import com.syi.project.attendance.dto.request.AttendanceRequestDTO.StudentAllAttendRequestDTO;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendDetailDTO;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceRateDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendListResponseDTO;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceTableDTO;
 import com.syi.project.attendance.service.AttendanceService;
 import com.syi.project.auth.service.CustomUserDetails;
 import com.syi.project.auth.service.MemberService;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.course.dto.CourseDTO;
 import com.syi.project.course.dto.CourseDTO.CourseListDTO;
 import com.syi.project.course.service.CourseService;
 import com.syi.project.period.dto.PeriodResponseDTO;
 import com.syi.project.schedule.service.ScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -33,6 +36,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -45,6 +49,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AttendanceController {
 
   private final AttendanceService attendanceService;
+  private final CheckInIdempotencyCache checkInIdempotencyCache;
   private final CourseService courseService;
   private final ScheduleService scheduleService;
   //private final EnrollService enrollService;
@@ -58,10 +63,14 @@ public class AttendanceController {
   @PostMapping("/enroll")
   public AttendanceResponseDTO createAttendance(
       @AuthenticationPrincipal CustomUserDetails userDetails, HttpServletRequest request,
-      @RequestBody AttendanceRequestDTO attendanceRequestDTO) {
+      @RequestBody AttendanceRequestDTO attendanceRequestDTO,
+      @Parameter(description = "중복 요청 방지 키 (같은 키로 다시 요청하면 첫 요청 결과 반환)")
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
     log.info("출석 등록 요청");
-    AttendanceResponseDTO responseDTO = attendanceService.createAttendance(userDetails, attendanceRequestDTO.getCourseId(),
-        attendanceRequestDTO.getAttendanceType(),attendanceRequestDTO.getPeriodId(), request);
+    AttendanceResponseDTO responseDTO = checkInIdempotencyCache.execute(userDetails.getId(),
+        idempotencyKey,
+        () -> attendanceService.createAttendance(userDetails, attendanceRequestDTO.getCourseId(),
+            attendanceRequestDTO.getAttendanceType(), attendanceRequestDTO.getPeriodId(), request));
     log.info("출석 등록 완료");
 
     return responseDTO;
@@ -92,6 +101,28 @@ public class AttendanceController {
     return ResponseEntity.ok(attendances);
   }
 
+  // 출석 전체 커서 조회_수강생 (최신 날짜순, 첫 목록은 cursor 없이 요청 후 응답의 nextCursor 전달)
+  @GetMapping("course/{courseId}/cursor")
+  public ResponseEntity<CursorPageDTO<AttendListResponseDTO>> getAllAttendanceByCursor(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable Long courseId,
+      @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+      @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+    log.info("수강생 출석 전체 커서 조회 요청 - startDate: {}, endDate: {}, status: {}", startDate,
+        endDate, status);
+
+    StudentAllAttendRequestDTO requestDTO = new StudentAllAttendRequestDTO(
+        startDate, endDate, status);
+
+    return ResponseEntity.ok(attendanceService.getAllAttendancesForStudentByCursor(userDetails,
+        courseId, requestDTO, cursor, Math.min(Math.max(size, 1), 100), includeTotal));
+  }
+
   //  출석 상세 조회_수강생
   @GetMapping("course/{courseId}/detail")
   public ResponseEntity<AttendDetailDTO> getAttendanceById(
@@ -142,13 +173,13 @@ public class AttendanceController {
   }
 
   @GetMapping("/course/{courseId}/rate")
-  public ResponseEntity<Map<String, Object>> getRateByCourseId(@PathVariable Long courseId,
+  public ResponseEntity<AttendanceRateDto> getRateByCourseId(@PathVariable Long courseId,
       @AuthenticationPrincipal CustomUserDetails userDetails) {
 
     Long memberId = userDetails.getId();
     log.debug("출석률 조회할 memberId: {}", memberId);
 
-    Map<String, Object> rateMap = attendanceService.getStudentAttendanceRates(memberId,courseId);
+    AttendanceRateDto rateMap = attendanceService.getStudentAttendanceRates(memberId,courseId);
     log.debug("rateMap: {}", rateMap);
 
     return ResponseEntity.ok(rateMap);
@@ -5,12 +5,16 @@ import static com.syi.project.common.exception.ErrorCode.ATTENDANCE_PRINT_DATA_N
 import com.syi.project.attendance.dto.request.AttendanceRequestDTO.AllAttendancesRequestDTO;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendDetailDTO;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceRateDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendListResponseDTO;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendancePrintResponseDto;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.BackfillProgressDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.DeleteResultDto;
+import com.syi.project.attendance.service.AttendanceBackfillService;
 import com.syi.project.attendance.service.AttendanceService;
 import com.syi.project.auth.service.CustomUserDetails;
 import com.syi.project.auth.service.MemberService;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.common.exception.InvalidRequestException;
 import com.syi.project.course.dto.CourseDTO.CourseListDTO;
 import com.syi.project.course.service.CourseService;
@@ -33,6 +37,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -46,6 +51,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminAttendanceController {
 
   private final AttendanceService attendanceService;
+  private final AttendanceBackfillService attendanceBackfillService;
   private final CourseService courseService;
   private final ScheduleService scheduleService;
   //private final EnrollService enrollService;
@@ -84,6 +90,34 @@ public class AdminAttendanceController {
   }
 
 
+  @Operation(summary = "출석 전체 커서 조회", description = "학생 이름순으로 cursor 다음 학생들의 출석을 조회합니다. 첫 목록은 cursor 없이 요청하고, 응답의 nextCursor 로 다음 목록을 요청합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "출석이 성공적으로 조회되었습니다."),
+      })
+  @GetMapping("/course/{courseId}/cursor")
+  public ResponseEntity<CursorPageDTO<AttendListResponseDTO>> getAllAttendancesByCursor(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable Long courseId,
+      @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+      @RequestParam(required = false) String studentName,
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+    log.info("관리자 출석 전체 커서 조회 요청 - date: {}, studentName: {}, status: {}", date,
+        studentName, status);
+
+    AllAttendancesRequestDTO requestDTO = AllAttendancesRequestDTO.builder()
+        .date(date)
+        .studentName(studentName)
+        .status(status)
+        .build();
+
+    return ResponseEntity.ok(attendanceService.getAllAttendancesForAdminByCursor(userDetails,
+        courseId, requestDTO, cursor, Math.min(Math.max(size, 1), 100), includeTotal));
+  }
+
   //  수강생 별 출석 조회(상세보기)
   @Operation(summary = "수강생 출석 상세 조회", description = "수강생 출석을 상세 조회합니다.",
       responses = {
@@ -144,11 +178,11 @@ public class AdminAttendanceController {
   }
 
   @GetMapping("/course/{courseId}/rate")
-  public ResponseEntity<Map<Long, Map<String, Object>>> getAllStudentRatesByCourseId(@PathVariable Long courseId) {
+  public ResponseEntity<Map<Long, AttendanceRateDto>> getAllStudentRatesByCourseId(@PathVariable Long courseId) {
 
     log.info("관리자 출석률 조회 요청 - Course ID: {}", courseId);
 
-    Map<Long, Map<String, Object>> ratesMap = attendanceService.getAllStudentsAttendanceRates(courseId);
+    Map<Long, AttendanceRateDto> ratesMap = attendanceService.getAllStudentsAttendanceRates(courseId);
     log.debug("ratesMap: {}", ratesMap);
 
     return ResponseEntity.ok(ratesMap);
@@ -205,4 +239,29 @@ public class AdminAttendanceController {
     return ResponseEntity.ok(result);
   }
 
+  /**
+   * 기간 내 미기록 출석(결석) 일괄 복구 시작 - 진행 상황은 GET 으로 조회
+   */
+  @Operation(summary = "결석 일괄 복구", description = "기간 내 주말, 공휴일을 제외한 날짜의 미기록 출석을 결석 처리합니다. 종료일은 어제까지만 가능합니다.",
+      responses = {
+          @ApiResponse(responseCode = "202", description = "결석 일괄 복구 작업이 시작되었습니다."),
+      })
+  @PostMapping("/backfill")
+  public ResponseEntity<BackfillProgressDto> startAbsenceBackfill(
+      @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+      @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+    log.info("결석 일괄 복구 요청 - 기간: {} ~ {}", startDate, endDate);
+    BackfillProgressDto progress = attendanceBackfillService.startBackfill(startDate, endDate);
+    return ResponseEntity.accepted().body(progress);
+  }
+
+  @Operation(summary = "결석 일괄 복구 진행 상황", description = "결석 일괄 복구 작업의 진행 상황과 과정별 처리 건수를 조회합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "진행 상황을 성공적으로 조회했습니다."),
+      })
+  @GetMapping("/backfill")
+  public ResponseEntity<BackfillProgressDto> getAbsenceBackfillProgress() {
+    return ResponseEntity.ok(attendanceBackfillService.getProgress());
+  }
+
 }
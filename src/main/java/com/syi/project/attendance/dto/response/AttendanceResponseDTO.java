@@ -1,5 +1,6 @@
 package com.syi.project.attendance.dto.response;
 
+import com.syi.project.common.enums.AttendanceStatus;
 import com.syi.project.period.dto.PeriodResponseDTO;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -8,8 +9,10 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,6 +28,10 @@ public class AttendanceResponseDTO {
   @ToString
   public static class AttendListResponseDTO {
 
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+    private static final byte NO_RECORD = 0;
+    private static final byte NO_STATUS = -1;
+
     private Long studentId;
     private String studentName;
     private String courseName;
@@ -34,6 +41,14 @@ public class AttendanceResponseDTO {
     private List<String> periods;
     private Map<String, String> students; //교시명, 출석상태
 
+    // 목록 조회 시 교시별 출석 상태를 열 단위로 보관하고, students 는 처음 읽을 때(응답 직렬화) 생성
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private String[] columnNames;  // 열 -> 교시명
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private byte[] statusCodes;    // 열 -> 상태 코드 (statusCode 참고)
+
     @Builder
     public AttendListResponseDTO(Long studentId, String studentName, String courseName,
         LocalDate date, List<String> periods,Map<String, String> students) {
@@ -44,6 +59,44 @@ public class AttendanceResponseDTO {
       this.periods = periods;
       this.students = students;
     }
+
+    /**
+     * 열 단위 출석 상태로 생성
+     *
+     * @param columnNames 열 -> 교시명 (같은 이름이 여러 열이면 뒤 열의 상태 사용)
+     * @param statusCodes 열 -> 상태 코드 (statusCode 로 만든 값)
+     */
+    public static AttendListResponseDTO ofColumns(Long studentId, String studentName,
+        String courseName, LocalDate date, List<String> periods, String[] columnNames,
+        byte[] statusCodes) {
+      AttendListResponseDTO dto = new AttendListResponseDTO(studentId, studentName, courseName,
+          date, periods, null);
+      dto.columnNames = columnNames;
+      dto.statusCodes = statusCodes;
+      return dto;
+    }
+
+    /**
+     * 출석 상태 -> 열 상태 코드 (0: 기록 없음, -1: 상태 없음, 그 외: ordinal + 1)
+     */
+    public static byte statusCode(AttendanceStatus status) {
+      return status == null ? NO_STATUS : (byte) (status.ordinal() + 1);
+    }
+
+    public Map<String, String> getStudents() {
+      if (students == null && statusCodes != null) {
+        Map<String, String> materialized = new LinkedHashMap<>(columnNames.length * 2);
+        for (int column = 0; column < statusCodes.length; column++) {
+          byte code = statusCodes[column];
+          if (code != NO_RECORD) {
+            materialized.put(columnNames[column],
+                code == NO_STATUS ? "UNKNOWN" : STATUSES[code - 1].toKorean());
+          }
+        }
+        students = materialized;
+      }
+      return students;
+    }
   }
   @Getter
   @ToString
@@ -309,6 +362,136 @@ public class AttendanceResponseDTO {
     }
   }
 
+  @Getter
+  @ToString
+  public static class AbsenceBatchResultDto {
+    private Long courseId;
+    private LocalDate date;
+    private int studentCount;
+    private int periodCount;
+    private int insertedCount;  // 새로 생성한 결석 row 수
+    private int updatedCount;   // 미처리 -> 결석, 퇴실시간 보정한 row 수
+    private long elapsedMillis;
+    private boolean success;
+    private String errorMessage;
+
+    @Builder
+    public AbsenceBatchResultDto(Long courseId, LocalDate date, int studentCount, int periodCount,
+        int insertedCount, int updatedCount, long elapsedMillis, boolean success,
+        String errorMessage) {
+      this.courseId = courseId;
+      this.date = date;
+      this.studentCount = studentCount;
+      this.periodCount = periodCount;
+      this.insertedCount = insertedCount;
+      this.updatedCount = updatedCount;
+      this.elapsedMillis = elapsedMillis;
+      this.success = success;
+      this.errorMessage = errorMessage;
+    }
+  }
+
+  @Getter
+  @ToString
+  public static class BackfillProgressDto {
+    private String status;          // IDLE, RUNNING, COMPLETED
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<LocalDate> workingDays;  // 주말, 공휴일 제외한 처리 대상 날짜
+    private int totalTasks;         // 처리 대상 (날짜 x 과정) 수
+    private int completedTasks;
+    private int failedTasks;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<BackfillCourseResultDto> courseResults;
+
+    @Builder
+    public BackfillProgressDto(String status, LocalDate startDate, LocalDate endDate,
+        List<LocalDate> workingDays, int totalTasks, int completedTasks, int failedTasks,
+        LocalDateTime startedAt, LocalDateTime finishedAt,
+        List<BackfillCourseResultDto> courseResults) {
+      this.status = status;
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.workingDays = workingDays;
+      this.totalTasks = totalTasks;
+      this.completedTasks = completedTasks;
+      this.failedTasks = failedTasks;
+      this.startedAt = startedAt;
+      this.finishedAt = finishedAt;
+      this.courseResults = courseResults;
+    }
+  }
+
+  @Getter
+  @ToString
+  public static class BackfillCourseResultDto {
+    private Long courseId;
+    private int processedDays;
+    private int insertedCount;
+    private int updatedCount;
+    private List<LocalDate> failedDates;
+
+    @Builder
+    public BackfillCourseResultDto(Long courseId, int processedDays, int insertedCount,
+        int updatedCount, List<LocalDate> failedDates) {
+      this.courseId = courseId;
+      this.processedDays = processedDays;
+      this.insertedCount = insertedCount;
+      this.updatedCount = updatedCount;
+      this.failedDates = failedDates;
+    }
+  }
+
+  /**
+   * 출석률 계산 결과 (전체 출석률 + 20일 단위 출석률)
+   */
+  @Getter
+  @ToString
+  public static class AttendanceRateDto {
+    private final int validAttendanceDays;
+    private final double overallAttendanceRate;
+    private final double twentyDayRate; // 현재 진행 중인 차수의 출석률
+    private final List<TwentyDayRateDto> twentyDayRates;
+
+    @Builder
+    public AttendanceRateDto(int validAttendanceDays, double overallAttendanceRate,
+        double twentyDayRate, List<TwentyDayRateDto> twentyDayRates) {
+      this.validAttendanceDays = validAttendanceDays;
+      this.overallAttendanceRate = overallAttendanceRate;
+      this.twentyDayRate = twentyDayRate;
+      this.twentyDayRates = twentyDayRates == null ? List.of() : List.copyOf(twentyDayRates);
+    }
+
+    public static AttendanceRateDto empty(int validAttendanceDays) {
+      return new AttendanceRateDto(validAttendanceDays, 0.0, 0.0, List.of());
+    }
+  }
+
+  @Getter
+  @ToString
+  public static class TwentyDayRateDto {
+    private final String periodIndex; // 예: "1차"
+    private final String startDate;
+    private final String endDate;
+    private final double twentyDayRate;
+    private final int currentDay; // 출석 기록이 있는 날 수
+    private final int incidentCount; // 결석으로 차감되지 않고 남은 지각/조퇴 수
+    private final int attendanceDays;
+
+    @Builder
+    public TwentyDayRateDto(String periodIndex, String startDate, String endDate,
+        double twentyDayRate, int currentDay, int incidentCount, int attendanceDays) {
+      this.periodIndex = periodIndex;
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.twentyDayRate = twentyDayRate;
+      this.currentDay = currentDay;
+      this.incidentCount = incidentCount;
+      this.attendanceDays = attendanceDays;
+    }
+  }
+
 
   private Long attendanceId;
 
@@ -8,6 +8,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
@@ -21,6 +23,13 @@ import lombok.ToString;
 import org.springframework.format.annotation.DateTimeFormat;
 
 @Entity
+@Table(
+    indexes = {
+        // 수강생은 교시마다 하루에 출석 하나만 가짐 (동시 요청으로 인한 중복 row 방지)
+        @Index(columnList = "memberId, periodId, date",
+            name = "uk_attendance_member_period_date", unique = true)
+    }
+)
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,85 @@
+package com.syi.project.attendance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 출석률 요약 (과정, 학생, 20일 차수 단위)
+ * - 출석이 생성/수정될 때 해당 차수만 다시 집계하여 갱신
+ * - 현장실습 기간(마지막 20일)은 차수 번호 = 마지막 차수 + 1 로 저장 (전체 출석률에만 반영)
+ */
+@Entity
+@Table(name = "attendance_rate_summary",
+    indexes = {
+        @Index(columnList = "courseId, memberId, segmentIndex",
+            name = "uk_attendance_rate_summary_segment", unique = true)
+    }
+)
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttendanceRateSummary {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "attendance_rate_summary_id")
+  private Long id;
+
+  @Column(nullable = false)
+  private Long courseId;
+
+  @Column(nullable = false)
+  private Long memberId;
+
+  @Column(nullable = false)
+  private int segmentIndex; // 1차, 2차 ...
+
+  @Column(nullable = false)
+  private LocalDate startDate;
+
+  @Column(nullable = false)
+  private LocalDate endDate;
+
+  @Column(nullable = false)
+  private int recordedDays; // 출석 기록이 있는 날 수
+
+  @Column(nullable = false)
+  private int presentDays; // 결석이 아닌 날 수
+
+  @Column(nullable = false)
+  private int incidentDays; // 지각/조퇴가 있는 날 수 (3회 누적 시 결석 1일)
+
+  @Column(nullable = false)
+  private LocalDateTime modifiedDate;
+
+  public AttendanceRateSummary(Long courseId, Long memberId, int segmentIndex,
+      LocalDate startDate, LocalDate endDate) {
+    this.courseId = courseId;
+    this.memberId = memberId;
+    this.segmentIndex = segmentIndex;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.modifiedDate = LocalDateTime.now();
+  }
+
+  public void updateCounts(LocalDate startDate, LocalDate endDate, int recordedDays,
+      int presentDays, int incidentDays) {
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.recordedDays = recordedDays;
+    this.presentDays = presentDays;
+    this.incidentDays = incidentDays;
+    this.modifiedDate = LocalDateTime.now();
+  }
+}
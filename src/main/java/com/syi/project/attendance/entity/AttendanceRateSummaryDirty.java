@@ -0,0 +1,56 @@
+package com.syi.project.attendance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 아직 출석률 요약에 반영되지 않은 출석 변경
+ * - 출석 변경과 같은 트랜잭션에서 저장하고, 요약 갱신이 끝나면 삭제 (갱신이 실패하면 남아서 다시 처리됨)
+ * - memberId 가 null 이면 과정 전체 학생의 변경 (결석 일괄 처리)
+ */
+@Entity
+@Table(name = "attendance_rate_summary_dirty",
+    indexes = {
+        @Index(columnList = "courseId", name = "idx_attendance_rate_summary_dirty_course"),
+        @Index(columnList = "createdAt", name = "idx_attendance_rate_summary_dirty_created")
+    }
+)
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttendanceRateSummaryDirty {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "attendance_rate_summary_dirty_id")
+  private Long id;
+
+  @Column(nullable = false)
+  private Long courseId;
+
+  private Long memberId;
+
+  @Column(nullable = false)
+  private LocalDate date; // 변경된 출석 날짜
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  public AttendanceRateSummaryDirty(Long courseId, Long memberId, LocalDate date) {
+    this.courseId = courseId;
+    this.memberId = memberId;
+    this.date = date;
+    this.createdAt = LocalDateTime.now();
+  }
+}
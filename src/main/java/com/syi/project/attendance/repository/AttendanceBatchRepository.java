@@ -0,0 +1,61 @@
+package com.syi.project.attendance.repository;
+
+import com.syi.project.attendance.entity.Attendance;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대량 출석 데이터 저장용 JDBC 리포지토리
+ * - IDENTITY 전략에서는 JPA batch insert 가 동작하지 않으므로 JdbcTemplate batchUpdate 사용
+ * - (member_id, period_id, date) 유니크 키 기준으로 이미 있는 출석은 건너뜀 (동시 입실 요청, 결석 일괄 처리와의 경합)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AttendanceBatchRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO attendance (status, date, enroll_date, modified_date, period_id, course_id, "
+          + "member_id, memo, enter_time, exit_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+          // (member_id, period_id, date) 가 이미 있으면 먼저 저장된 row 를 유지
+          + "ON DUPLICATE KEY UPDATE attendance_id = attendance_id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 출석 row 들을 chunkSize 단위로 나누어 batch insert (이미 있는 출석은 유지)
+   *
+   * @return insert 요청한 row 수
+   */
+  public int batchInsert(List<Attendance> attendances, int chunkSize) {
+    if (attendances.isEmpty()) {
+      return 0;
+    }
+
+    int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, attendances, chunkSize, (ps, a) -> {
+      ps.setString(1, a.getStatus().name());
+      ps.setDate(2, Date.valueOf(a.getDate()));
+      ps.setTimestamp(3, Timestamp.valueOf(a.getEnrollDate()));
+      ps.setTimestamp(4, Timestamp.valueOf(a.getModifiedDate()));
+      ps.setLong(5, a.getPeriodId());
+      ps.setLong(6, a.getCourseId());
+      ps.setLong(7, a.getMemberId());
+      ps.setString(8, a.getMemo());
+      ps.setTimestamp(9, toTimestamp(a.getEnterTime()));
+      ps.setTimestamp(10, toTimestamp(a.getExitTime()));
+    });
+
+    log.debug("batch insert 완료 - chunk 수: {}, row 수: {}", results.length, attendances.size());
+    return attendances.size();
+  }
+
+  private Timestamp toTimestamp(LocalDateTime dateTime) {
+    return dateTime == null ? null : Timestamp.valueOf(dateTime);
+  }
+}
@@ -0,0 +1,58 @@
+package com.syi.project.attendance.repository;
+
+import com.syi.project.attendance.entity.AttendanceRateSummary;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 출석률 요약 저장용 JDBC 리포지토리
+ * - (course_id, member_id, segment_index) 유니크 키 기준 upsert: 동시 갱신/재생성과 겹쳐도 중복 키 오류 없이 마지막 값으로 덮어씀
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AttendanceRateSummaryBatchRepository {
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO attendance_rate_summary (course_id, member_id, segment_index, start_date, "
+          + "end_date, recorded_days, present_days, incident_days, modified_date) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE start_date = VALUES(start_date), end_date = VALUES(end_date), "
+          + "recorded_days = VALUES(recorded_days), present_days = VALUES(present_days), "
+          + "incident_days = VALUES(incident_days), modified_date = VALUES(modified_date)";
+
+  private static final int CHUNK_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 요약 row 들을 upsert (이미 있으면 집계 값만 갱신)
+   *
+   * @return upsert 요청한 row 수
+   */
+  public int upsert(List<AttendanceRateSummary> summaries) {
+    if (summaries.isEmpty()) {
+      return 0;
+    }
+
+    jdbcTemplate.batchUpdate(UPSERT_SQL, summaries, CHUNK_SIZE, (ps, s) -> {
+      ps.setLong(1, s.getCourseId());
+      ps.setLong(2, s.getMemberId());
+      ps.setInt(3, s.getSegmentIndex());
+      ps.setDate(4, Date.valueOf(s.getStartDate()));
+      ps.setDate(5, Date.valueOf(s.getEndDate()));
+      ps.setInt(6, s.getRecordedDays());
+      ps.setInt(7, s.getPresentDays());
+      ps.setInt(8, s.getIncidentDays());
+      ps.setTimestamp(9, Timestamp.valueOf(s.getModifiedDate()));
+    });
+
+    log.debug("출석률 요약 upsert 완료 - row 수: {}", summaries.size());
+    return summaries.size();
+  }
+}
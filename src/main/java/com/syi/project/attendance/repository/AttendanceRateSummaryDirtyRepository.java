@@ -0,0 +1,23 @@
+package com.syi.project.attendance.repository;
+
+import com.syi.project.attendance.entity.AttendanceRateSummaryDirty;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AttendanceRateSummaryDirtyRepository extends
+    JpaRepository<AttendanceRateSummaryDirty, Long> {
+
+  List<AttendanceRateSummaryDirty> findByCourseIdOrderByIdAsc(Long courseId);
+
+  // 재시도 대상 (커밋 후 갱신이 끝났어야 할 만큼 오래된 변경) - 한 번에 최대 500 건
+  List<AttendanceRateSummaryDirty> findTop500ByCreatedAtBeforeOrderByIdAsc(LocalDateTime date);
+
+  // 이미 다른 경로(조회, 재시도)에서 처리되어 없어도 예외 없이 0 반환
+  @Modifying
+  @Query("delete from AttendanceRateSummaryDirty d where d.id = :id")
+  int deleteDirty(@Param("id") Long id);
+}
@@ -0,0 +1,24 @@
+package com.syi.project.attendance.repository;
+
+import com.syi.project.attendance.entity.AttendanceRateSummary;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AttendanceRateSummaryRepository extends JpaRepository<AttendanceRateSummary, Long> {
+
+  boolean existsByCourseId(Long courseId);
+
+  List<AttendanceRateSummary> findByCourseIdOrderByMemberIdAscSegmentIndexAsc(Long courseId);
+
+  List<AttendanceRateSummary> findByCourseIdAndMemberIdOrderBySegmentIndexAsc(Long courseId,
+      Long memberId);
+
+  List<AttendanceRateSummary> findByCourseIdAndSegmentIndex(Long courseId, int segmentIndex);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from AttendanceRateSummary s where s.courseId = :courseId")
+  int deleteByCourseId(@Param("courseId") Long courseId);
+}
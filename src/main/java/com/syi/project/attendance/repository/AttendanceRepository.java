@@ -2,6 +2,7 @@ package com.syi.project.attendance.repository;
 
 import com.syi.project.attendance.entity.Attendance;
 import java.time.LocalDate;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long>,AttendanceRepositoryCustom {
@@ -18,4 +19,7 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long>,At
 
   boolean existsByMemberIdAndDateAndCourseIdAndExitTimeNotNull(Long id, LocalDate localDate,
       Long courseId);
+
+  // 수강생의 하루 출석 (입실/퇴실/조퇴 처리 시 한 번에 조회)
+  List<Attendance> findByMemberIdAndCourseIdAndDate(Long memberId, Long courseId, LocalDate date);
 }
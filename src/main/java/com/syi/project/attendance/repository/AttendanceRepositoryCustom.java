@@ -9,7 +9,9 @@ import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceT
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.DeleteResultDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.MemberInfoInDetail;
 import com.syi.project.attendance.entity.Attendance;
+import com.syi.project.common.dto.CursorPageDTO;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -27,6 +29,14 @@ public interface AttendanceRepositoryCustom {
   Page<AttendListResponseDTO> findPagedAttendListByCourseId(Long courseId,
       AllAttendancesRequestDTO dto, List<String> periods, Pageable pageable);
 
+  CursorPageDTO<AttendListResponseDTO> findStudentAttendListAfter(Long courseId,
+      AllAttendancesRequestDTO dto, List<String> periodNames, LocalDate cursorDate, int size,
+      boolean includeTotal);
+
+  CursorPageDTO<AttendListResponseDTO> findAdminAttendListAfter(Long courseId,
+      AllAttendancesRequestDTO dto, List<String> periodNames, String cursorName, Long cursorId,
+      int size, boolean includeTotal);
+
   MemberInfoInDetail findMemberInfoByAttendance(Long courseId, Long studentId, LocalDate date);
 
   List<AttendanceTableDTO> findAttendanceStatusByPeriods(Long id, Long courseId, LocalDate date,
@@ -43,6 +53,18 @@ public interface AttendanceRepositoryCustom {
 
   List<AttendanceDailyStats> findAttendanceStatsByStudentIdAndCourseIdAndDates(Long id, Long courseId, LocalDate startDate, LocalDate endDate);
 
+  List<AttendanceDailyStats> findAttendanceStatsByCourseIdAndDates(Long courseId, LocalDate startDate, LocalDate endDate);
+
+  List<Tuple> findAttendanceGridByCourseIdAndDates(Long courseId, LocalDate startDate, LocalDate endDate);
+
+  List<Tuple> findAttendanceCellsByDateAndPeriodIds(LocalDate date, List<Long> periodIds);
+
+  long updatePendingToAbsent(LocalDate date, List<Long> periodIds, List<Long> memberIds,
+      LocalDateTime now);
+
+  long updateMissingExitTime(LocalDate date, List<Long> periodIds, List<Long> memberIds,
+      LocalDateTime exitTime, LocalDateTime now);
+
   Optional<Attendance> findByMemberIdAndDateAndPeriodId(Long studentId, LocalDate today, Long id);
 
   DeleteResultDto deleteAllAttendancesByDateAndStudentAndCourse(LocalDate date, Long studentId, Long courseId);
@@ -7,6 +7,8 @@ import static com.syi.project.period.entity.QPeriod.period;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.syi.project.attendance.dto.projection.AttendanceDailyStats;
@@ -18,8 +20,12 @@ import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceT
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.DeleteResultDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.MemberInfoInDetail;
 import com.syi.project.attendance.entity.Attendance;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.common.enums.AttendanceStatus;
+import com.syi.project.common.utils.CursorCodec;
+import com.syi.project.period.PeriodCache;
 import com.syi.project.period.entity.Period;
+import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -28,7 +34,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,16 +43,42 @@ import org.apache.http.util.TextUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Slf4j
 @Repository
 public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom{
 
+  // 관리자 출석 목록 한 페이지 (학생 단위 페이지네이션 + 전체 학생 수를 한 번에 조회)
+  // - DENSE_RANK 로 학생(이름, ID 순)에 순번을 매기고, 최대 순번이 곧 조건에 맞는 전체 학생 수
+  private static final String ADMIN_PAGE_SQL_HEAD =
+      "SELECT page.member_id, page.member_name, page.course_name, page.date, page.period_id, "
+          + "page.status, page.total_students "
+          + "FROM (SELECT ranked.*, MAX(ranked.student_rank) OVER () AS total_students "
+          + "FROM (SELECT a.member_id, m.name AS member_name, c.name AS course_name, a.date, "
+          + "a.period_id, a.status, DENSE_RANK() OVER (ORDER BY m.name, a.member_id) AS student_rank "
+          + "FROM attendance a "
+          + "JOIN member m ON m.id = a.member_id "
+          + "JOIN course c ON c.course_id = a.course_id "
+          + "WHERE a.course_id = :courseId";
+  private static final String ADMIN_PAGE_SQL_TAIL =
+      ") ranked) page "
+          + "WHERE page.student_rank > :offset AND page.student_rank <= :offset + :size";
+
+  private static final QTuple ADMIN_ROW = Projections.tuple(member.id, member.name, course.name,
+      attendance.date, attendance.periodId, attendance.status);
+
   private final JPAQueryFactory queryFactory;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final PeriodCache periodCache;
 
-  public AttendanceRepositoryImpl(JPAQueryFactory queryFactory) {
+  public AttendanceRepositoryImpl(JPAQueryFactory queryFactory,
+      NamedParameterJdbcTemplate jdbcTemplate, PeriodCache periodCache) {
     this.queryFactory = queryFactory;
+    this.jdbcTemplate = jdbcTemplate;
+    this.periodCache = periodCache;
   }
 
   /*@Override
@@ -166,11 +197,7 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom{
 
 
     // 1: 모든 Period 정보 조회 (해당 Course의 Period 정보만 가져옴)
-    List<Period> periods = queryFactory
-        .selectFrom(period)
-        .where(period.courseId.eq(courseId).and(period.deletedBy.isNull()))
-        .orderBy(period.startTime.asc())
-        .fetch();
+    List<Period> periods = findCoursePeriods(courseId);
 
     log.info("courseId {}에 해당하는 교시들 조회",courseId);
     log.debug("조회된 교시들 리스트: {}",periods);
@@ -226,23 +253,7 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom{
     log.debug("(학생) 선택된 날짜 목록: {}", dates);
 
     // 2. 이제 가져온 날짜에 해당하는 모든 출석 데이터 조회
-    BooleanExpression dateInList = attendance.date.in(dates);
-
-    List<Tuple> tuples = queryFactory
-        .select(
-            attendance.memberId,
-            attendance.date,
-            attendance.periodId,
-            attendance.status
-        )
-        .from(attendance)
-        .where(predicate.and(dateInList))
-        .fetch();
-
-    log.info("(학생) 조회된 원시 데이터(튜플) 개수: {}", tuples.size());
-    log.debug("(학생) 조회된 데이터: {}", tuples);
-
-    List<AttendListResponseDTO> content = mapTuplesToDTO(tuples, periods, periodNames, false);
+    List<AttendListResponseDTO> content = fetchStudentAttendList(predicate, dates, periods, periodNames);
 
     log.info("(학생) DTO 변환 후 실제 반환될 데이터 개수: {}", content.size());
 
@@ -262,57 +273,212 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom{
 
   /**
    * 관리자 출석 데이터 조회 (특정 날짜 기준)
+   * - 학생 선택, 전체 학생 수, 출석 데이터를 윈도우 함수 쿼리 한 번으로 조회
    */
   private Page<AttendListResponseDTO> findAdminAttendanceData(Long courseId, AllAttendancesRequestDTO dto,
       List<Period> periods, List<String> periodNames, Pageable pageable) {
 
     log.debug("(관리자) courseId: {}, dto: {}, periods: {}, periodNames: {}", courseId, dto, periods, periodNames);
+    log.info("(관리자) 페이지 요청 정보: page={}, size={}, offset={}",
+        pageable.getPageNumber(), pageable.getPageSize(), pageable.getOffset());
 
-    BooleanBuilder predicate = buildAdminPredicate(courseId, dto);
-
-    // 학생 이름 검색 조건을 별도로 처리 (처음에는 없었다가 여기서 추가)
-    BooleanBuilder completeCondition = new BooleanBuilder(predicate);
+    StringBuilder sql = new StringBuilder(ADMIN_PAGE_SQL_HEAD);
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("courseId", courseId)
+        .addValue("offset", pageable.getOffset())
+        .addValue("size", pageable.getPageSize());
+    if (dto.getDate() != null) {
+      sql.append(" AND a.date = :date");
+      params.addValue("date", Date.valueOf(dto.getDate()));
+    }
+    if (dto.getAttendanceStatus() != null) {
+      sql.append(" AND a.status = :status");
+      params.addValue("status", dto.getAttendanceStatus().name());
+    }
     if (!TextUtils.isBlank(dto.getStudentName())) {
-      completeCondition.and(member.name.contains(dto.getStudentName()));
+      sql.append(" AND m.name LIKE :studentName ESCAPE '!'");
+      params.addValue("studentName", "%" + escapeLike(dto.getStudentName()) + "%");
+    }
+    sql.append(ADMIN_PAGE_SQL_TAIL);
+
+    long[] total = {0L};
+    List<Tuple> tuples = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> {
+      total[0] = rs.getLong("total_students");
+      String status = rs.getString("status");
+      return ADMIN_ROW.newInstance(
+          rs.getLong("member_id"),
+          rs.getString("member_name"),
+          rs.getString("course_name"),
+          rs.getDate("date").toLocalDate(),
+          rs.getLong("period_id"),
+          status != null ? AttendanceStatus.valueOf(status) : null);
+    });
+
+    if (tuples.isEmpty()) {
+      log.debug("(관리자) 조건에 맞는 데이터가 없습니다.");
+      // 마지막 페이지 뒤를 요청한 경우에만 전체 학생 수를 따로 조회
+      long safeTotal = pageable.getOffset() > 0 ? countAdminStudents(courseId, dto) : 0L;
+      return new PageImpl<>(Collections.emptyList(), pageable, safeTotal);
     }
 
+    // 디버그 로그 3: 조회된 원시 데이터(튜플) 개수
+    log.info("(관리자) 조회된 원시 데이터(튜플) 개수: {}", tuples.size());
+
+    List<AttendListResponseDTO> content = mapTuplesToDTO(tuples, periods, periodNames, true);
 
+    // 디버그 로그 4: DTO 변환 후 실제 반환될 데이터 개수
+    log.info("(관리자) DTO 변환 후 실제 반환될 데이터 개수: {}", content.size());
+    log.info("(관리자) 계산된 전체 학생 수(total): {}", total[0]);
+
+    return new PageImpl<>(content, pageable, total[0]);
+  }
+
+  // 관리자 조건에 맞는 전체 학생 수
+  private long countAdminStudents(Long courseId, AllAttendancesRequestDTO dto) {
+    BooleanBuilder completeCondition = buildAdminPredicate(courseId, dto);
+    if (!TextUtils.isBlank(dto.getStudentName())) {
+      completeCondition.and(member.name.contains(dto.getStudentName()));
+    }
 
     Long totalCount = queryFactory
         .select(attendance.memberId.countDistinct())
         .from(attendance)
-        .join(member).on(attendance.memberId.eq(member.id)) // member 조인 추가
+        .join(member).on(attendance.memberId.eq(member.id))
         .where(completeCondition)
         .fetchOne();
+    return totalCount != null ? totalCount : 0L;
+  }
 
-    long safeTotal = totalCount != null ? totalCount : 0L;
-    log.info("(관리자) 페이지네이션 전 전체 학생 수: {}", safeTotal);
+  // LIKE 검색어의 와일드카드 문자 이스케이프 (ESCAPE '!')
+  private static String escapeLike(String keyword) {
+    return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+  }
 
-    log.info("(관리자) 페이지 요청 정보: page={}, size={}, offset={}",
-        pageable.getPageNumber(), pageable.getPageSize(), pageable.getOffset());
+  /**
+   * 학생 출석 데이터 커서 조회 (날짜 내림차순 / cursorDate 가 null 이면 처음부터)
+   */
+  @Override
+  public CursorPageDTO<AttendListResponseDTO> findStudentAttendListAfter(Long courseId,
+      AllAttendancesRequestDTO dto, List<String> periodNames, LocalDate cursorDate, int size,
+      boolean includeTotal) {
+    BooleanBuilder predicate = buildStudentPredicate(courseId, dto);
 
+    BooleanBuilder seek = new BooleanBuilder(predicate);
+    if (cursorDate != null) {
+      seek.and(attendance.date.lt(cursorDate));
+    }
 
-    // 1. 먼저 고유한 학생 ID를 페이지네이션하여 가져옵니다
-    List<Long> studentIds = queryFactory
-        .select(attendance.memberId)
+    List<LocalDate> dates = queryFactory
+        .select(attendance.date)
+        .distinct()
+        .from(attendance)
+        .where(seek)
+        .orderBy(attendance.date.desc())
+        .limit(size + 1)
+        .fetch();
+
+    Long total = null;
+    if (includeTotal) {
+      Long count = queryFactory
+          .select(attendance.date.countDistinct())
+          .from(attendance)
+          .where(predicate)
+          .fetchOne();
+      total = count != null ? count : 0L;
+    }
+    log.info("(학생) 커서 조회 - cursorDate: {}, 조회된 날짜 수: {}", cursorDate, dates.size());
+
+    return CursorPageDTO.of(dates, size, date -> CursorCodec.encode(date), total)
+        .mapContent(pageDates -> fetchStudentAttendList(predicate, pageDates,
+            findCoursePeriods(courseId), periodNames));
+  }
+
+  /**
+   * 관리자 출석 데이터 커서 조회 (학생 이름, 학생 ID 오름차순 / cursorName 이 null 이면 처음부터)
+   */
+  @Override
+  public CursorPageDTO<AttendListResponseDTO> findAdminAttendListAfter(Long courseId,
+      AllAttendancesRequestDTO dto, List<String> periodNames, String cursorName, Long cursorId,
+      int size, boolean includeTotal) {
+    BooleanBuilder predicate = buildAdminPredicate(courseId, dto);
+
+    BooleanBuilder completeCondition = new BooleanBuilder(predicate);
+    if (!TextUtils.isBlank(dto.getStudentName())) {
+      completeCondition.and(member.name.contains(dto.getStudentName()));
+    }
+
+    BooleanBuilder seek = new BooleanBuilder(completeCondition);
+    if (cursorName != null && cursorId != null) {
+      seek.and(member.name.gt(cursorName)
+          .or(member.name.eq(cursorName).and(member.id.gt(cursorId))));
+    }
+
+    List<Tuple> students = queryFactory
+        .select(member.name, member.id)
         .distinct()
         .from(attendance)
         .join(member).on(attendance.memberId.eq(member.id))
-        .where(completeCondition)
-        .offset(pageable.getOffset())
-        .limit(pageable.getPageSize())
+        .where(seek)
+        .orderBy(member.name.asc(), member.id.asc())
+        .limit(size + 1)
         .fetch();
 
-    if (studentIds.isEmpty()) {
-      log.debug("(관리자) 조건에 맞는 데이터가 없습니다.");
-      return new PageImpl<>(Collections.emptyList(), pageable, 0);
+    Long total = null;
+    if (includeTotal) {
+      Long count = queryFactory
+          .select(attendance.memberId.countDistinct())
+          .from(attendance)
+          .join(member).on(attendance.memberId.eq(member.id))
+          .where(completeCondition)
+          .fetchOne();
+      total = count != null ? count : 0L;
     }
+    log.info("(관리자) 커서 조회 - cursorName: {}, cursorId: {}, 조회된 학생 수: {}", cursorName,
+        cursorId, students.size());
+
+    return CursorPageDTO.of(students, size,
+            student -> CursorCodec.encode(student.get(member.name), student.get(member.id)), total)
+        .mapContent(pageStudents -> fetchAdminAttendList(predicate,
+            pageStudents.stream().map(student -> student.get(member.id)).toList(),
+            findCoursePeriods(courseId), periodNames));
+  }
+
+  /**
+   * 과정의 교시 목록 (시작 시간순, 캐시)
+   */
+  private List<Period> findCoursePeriods(Long courseId) {
+    return periodCache.getCoursePeriods(courseId);
+  }
+
+  /**
+   * 선택된 날짜들의 학생 출석 데이터 조회 후 날짜별 DTO 로 변환
+   */
+  private List<AttendListResponseDTO> fetchStudentAttendList(BooleanBuilder predicate,
+      List<LocalDate> dates, List<Period> periods, List<String> periodNames) {
+    BooleanExpression dateInList = attendance.date.in(dates);
 
-    // 디버그 로그 2: 페이지네이션 적용 후 선택된 학생 수
-    log.info("(관리자) 현재 페이지에 선택된 학생 수: {}", studentIds.size());
-    log.debug("(관리자) 선택된 학생 ID 목록: {}", studentIds);
+    List<Tuple> tuples = queryFactory
+        .select(
+            attendance.memberId,
+            attendance.date,
+            attendance.periodId,
+            attendance.status
+        )
+        .from(attendance)
+        .where(new BooleanBuilder(predicate).and(dateInList))
+        .fetch();
 
-    // 2. 선택된 학생들의 출석 데이터를 조회합니다
+    log.info("(학생) 조회된 원시 데이터(튜플) 개수: {}", tuples.size());
+    log.debug("(학생) 조회된 데이터: {}", tuples);
+
+    return mapTuplesToDTO(tuples, periods, periodNames, false);
+  }
+
+  /**
+   * 선택된 학생들의 출석 데이터 조회 후 학생별 DTO 로 변환
+   */
+  private List<AttendListResponseDTO> fetchAdminAttendList(BooleanBuilder predicate,
+      List<Long> studentIds, List<Period> periods, List<String> periodNames) {
     BooleanExpression studentInList = attendance.memberId.in(studentIds);
     List<Tuple> tuples = queryFactory
         .select(
@@ -322,33 +488,15 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom{
         .from(attendance)
         .join(member).on(attendance.memberId.eq(member.id)).fetchJoin()
         .join(course).on(attendance.courseId.eq(course.id)).fetchJoin()
-        .where(predicate.and(studentInList))
+        .where(new BooleanBuilder(predicate).and(studentInList))
         .fetch();
 
     // 디버그 로그 3: 조회된 원시 데이터(튜플) 개수
     log.info("(관리자) 조회된 원시 데이터(튜플) 개수: {}", tuples.size());
 
-    List<AttendListResponseDTO> content = mapTuplesToDTO(tuples, periods, periodNames, true);
-
-    // 디버그 로그 4: DTO 변환 후 실제 반환될 데이터 개수
-    log.info("(관리자) DTO 변환 후 실제 반환될 데이터 개수: {}", content.size());
-
-    // 디버그 로그 5: 반환될 데이터의 학생 ID 목록 (중복 확인)
-    List<Long> returnedStudentIds = content.stream()
-        .map(AttendListResponseDTO::getStudentId)
-        .collect(Collectors.toList());
-    log.debug("(관리자) 반환될 데이터의 학생 ID 목록: {}", returnedStudentIds);
-
-
-    // 디버그 로그 6: 계산된 전체 학생 수
-    log.info("(관리자) 계산된 전체 학생 수(total): {}", safeTotal);
-
-    // 디버그 로그 7: 전체 페이지 수 계산
-    int totalPages = (int) Math.ceil((double) safeTotal / pageable.getPageSize());
-    log.info("(관리자) 계산된 전체 페이지 수: {}", totalPages);
-
-    return new PageImpl<>(content, pageable, safeTotal);
+    return mapTuplesToDTO(tuples, periods, periodNames, true);
   }
+
   /**
    * 학생용 BooleanBuilder 생성
    */
@@ -390,51 +538,47 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom{
 
   /**
    * Tuple 데이터를 AttendListResponseDTO로 변환
+   * - 벤치마크(src/jmh)에서 직접 호출하므로 package-private static
    */
-  private List<AttendListResponseDTO> mapTuplesToDTO(List<Tuple> tuples, List<Period> periods, List<String> periodNames, boolean isAdmin) {
-    Map<Object, AttendListResponseDTO> attendanceMap = new HashMap<>();
+  static List<AttendListResponseDTO> mapTuplesToDTO(List<Tuple> tuples, List<Period> periods, List<String> periodNames, boolean isAdmin) {
+    // 교시 ID -> 열 번호 (한 번만 색인, 마지막 열은 과정에 없는 교시)
+    int unknownColumn = periods.size();
+    String[] columnNames = new String[unknownColumn + 1];
+    Map<Long, Integer> columnByPeriodId = new HashMap<>(unknownColumn * 2);
+    for (int column = 0; column < unknownColumn; column++) {
+      Period period = periods.get(column);
+      columnByPeriodId.put(period.getId(), column);
+      columnNames[column] = period.getName();
+    }
+    columnNames[unknownColumn] = "Unknown";
 
+    // 관리자는 학생별, 학생은 날짜별로 교시 상태 코드를 모은 뒤 DTO 는 응답 직렬화 시점에 students 생성
+    int expectedRows = tuples.size() / Math.max(unknownColumn, 1) + 1;
+    Map<Object, AttendListRow> rows = new HashMap<>(expectedRows * 2);
     for (Tuple tuple : tuples) {
-      AttendListResponseDTO responseDTO;
-      if (isAdmin) {
-        Long studentId = tuple.get(member.id);
-        responseDTO = attendanceMap.computeIfAbsent(studentId, id -> AttendListResponseDTO.builder()
-            .studentId((Long)id)
-            .studentName(tuple.get(member.name))
-            .courseName(tuple.get(course.name))
-            .date(tuple.get(attendance.date))
-            .students(new LinkedHashMap<>())
-            .periods(periodNames)
-            .build());
-      } else {
-        LocalDate date = tuple.get(attendance.date);
-        Long studentId = tuple.get(attendance.memberId);
-        responseDTO = attendanceMap.computeIfAbsent(date, d -> AttendListResponseDTO.builder()
-            //.studentId(studentId)
-            .date((LocalDate) d)
-            .students(new LinkedHashMap<>())
-            .periods(periodNames)
-            .build());
+      Object key = isAdmin ? tuple.get(member.id) : tuple.get(attendance.date);
+      AttendListRow row = rows.get(key);
+      if (row == null) {
+        byte[] statusCodes = new byte[columnNames.length];
+        AttendListResponseDTO responseDTO = isAdmin
+            ? AttendListResponseDTO.ofColumns((Long) key, tuple.get(member.name),
+                tuple.get(course.name), tuple.get(attendance.date), periodNames, columnNames,
+                statusCodes)
+            : AttendListResponseDTO.ofColumns(null, null, null, (LocalDate) key, periodNames,
+                columnNames, statusCodes);
+        row = new AttendListRow(responseDTO, statusCodes);
+        rows.put(key, row);
       }
 
-      log.debug("AttendListResponseDTO: {}", responseDTO);
-
-      Long periodId = tuple.get(attendance.periodId);
-      String status = tuple.get(attendance.status) != null
-          ? tuple.get(attendance.status).toKorean()
-          : "UNKNOWN";  // 기본값 설정
-
-
-      String periodName = periods.stream()
-          .filter(p -> p.getId().equals(periodId))
-          .map(Period::getName)
-          .findFirst()
-          .orElse("Unknown");
-
-      responseDTO.getStudents().put(periodName, status);
+      Integer column = columnByPeriodId.get(tuple.get(attendance.periodId));
+      row.statusCodes[column != null ? column : unknownColumn] =
+          AttendListResponseDTO.statusCode(tuple.get(attendance.status));
     }
 
-    List<AttendListResponseDTO> result = new ArrayList<>(attendanceMap.values());
+    List<AttendListResponseDTO> result = new ArrayList<>(rows.size());
+    for (AttendListRow row : rows.values()) {
+      result.add(row.responseDTO);
+    }
 
     // 관리자 뷰는 학생 이름순, 학생 뷰는 날짜순으로 정렬
     if (isAdmin) {
@@ -444,8 +588,17 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom{
     }
 
     return result;
+  }
+
+  private static final class AttendListRow {
 
+    private final AttendListResponseDTO responseDTO;
+    private final byte[] statusCodes;
 
+    private AttendListRow(AttendListResponseDTO responseDTO, byte[] statusCodes) {
+      this.responseDTO = responseDTO;
+      this.statusCodes = statusCodes;
+    }
   }
 
 
@@ -656,6 +809,91 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom{
         .fetch();
   }
 
+  @Override
+  public List<AttendanceDailyStats> findAttendanceStatsByCourseIdAndDates(Long courseId,
+      LocalDate startDate, LocalDate endDate) {
+    return queryFactory
+        .select(new QAttendanceDailyStats(
+            attendance.memberId,
+            attendance.date,
+            attendance.status.count().intValue(),
+            attendance.status.when(AttendanceStatus.LATE).then(1).otherwise(0).sum(),
+            attendance.status.when(AttendanceStatus.ABSENT).then(1).otherwise(0).sum(),
+            attendance.status.when(AttendanceStatus.EARLY_LEAVE).then(1).otherwise(0).sum()
+        ))
+        .from(attendance)
+        .where(attendance.courseId.eq(courseId)
+            .and(attendance.date.between(startDate, endDate)))
+        .groupBy(attendance.memberId, attendance.date)
+        .orderBy(attendance.memberId.asc(), attendance.date.asc())
+        .fetch();
+  }
+
+  /**
+   * 프린트용: 기간 내 과정 전체 출석 데이터를 (학생, 날짜, 교시) 단위로 한 번에 조회합니다.
+   * 요약 통계는 삭제된 교시의 출석도 포함하므로 period 는 left join 으로 가져옵니다.
+   */
+  @Override
+  public List<Tuple> findAttendanceGridByCourseIdAndDates(Long courseId, LocalDate startDate,
+      LocalDate endDate) {
+    return queryFactory
+        .select(attendance.memberId, attendance.date, attendance.status,
+            period.id, period.name, period.deletedBy)
+        .from(attendance)
+        .leftJoin(period).on(attendance.periodId.eq(period.id))
+        .where(
+            attendance.courseId.eq(courseId),
+            attendance.date.between(startDate, endDate)
+        )
+        .orderBy(attendance.memberId.asc(), attendance.date.asc(), period.startTime.asc())
+        .fetch();
+  }
+
+  /**
+   * 결석 일괄 처리용: 해당 날짜, 교시들에 이미 존재하는 출석 셀(학생, 교시) 조회
+   */
+  @Override
+  public List<Tuple> findAttendanceCellsByDateAndPeriodIds(LocalDate date, List<Long> periodIds) {
+    return queryFactory
+        .select(attendance.memberId, attendance.periodId, attendance.status, attendance.exitTime)
+        .from(attendance)
+        .where(attendance.date.eq(date)
+            .and(attendance.periodId.in(periodIds)))
+        .fetch();
+  }
+
+  /**
+   * 미처리(PENDING) 상태인 출석을 결석으로 일괄 변경
+   */
+  @Override
+  public long updatePendingToAbsent(LocalDate date, List<Long> periodIds, List<Long> memberIds,
+      LocalDateTime now) {
+    return queryFactory.update(attendance)
+        .set(attendance.status, AttendanceStatus.ABSENT)
+        .set(attendance.modifiedDate, now)
+        .where(attendance.date.eq(date)
+            .and(attendance.periodId.in(periodIds))
+            .and(attendance.memberId.in(memberIds))
+            .and(attendance.status.eq(AttendanceStatus.PENDING)))
+        .execute();
+  }
+
+  /**
+   * 퇴실 시간이 없는 출석에 퇴실 시간 일괄 기록
+   */
+  @Override
+  public long updateMissingExitTime(LocalDate date, List<Long> periodIds, List<Long> memberIds,
+      LocalDateTime exitTime, LocalDateTime now) {
+    return queryFactory.update(attendance)
+        .set(attendance.exitTime, exitTime)
+        .set(attendance.modifiedDate, now)
+        .where(attendance.date.eq(date)
+            .and(attendance.periodId.in(periodIds))
+            .and(attendance.memberId.in(memberIds))
+            .and(attendance.exitTime.isNull()))
+        .execute();
+  }
+
   /**
    * 특정 학생, 날짜, 교시에 대한 출석 기록을 조회합니다.
    */
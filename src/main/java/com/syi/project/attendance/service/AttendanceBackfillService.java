@@ -0,0 +1,251 @@
+package com.syi.project.attendance.service;
+
+import static com.syi.project.common.exception.ErrorCode.ATTENDANCE_BACKFILL_ALREADY_RUNNING;
+import static com.syi.project.common.exception.ErrorCode.ATTENDANCE_BACKFILL_INVALID_RANGE;
+
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AbsenceBatchResultDto;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.BackfillCourseResultDto;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.BackfillProgressDto;
+import com.syi.project.common.exception.InvalidRequestException;
+import com.syi.project.course.entity.Course;
+import com.syi.project.course.repository.CourseRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장애 등으로 누락된 기간의 결석 처리를 복구하는 백필 작업
+ * - 주말, 공휴일을 제외한 날짜별로 그 날짜에 진행 중이던 과정들을 제한된 스레드 풀에서 병렬 처리
+ *   (이후에 비활성화된 과정도 포함)
+ * - 과정 x 날짜 단위로 AttendanceBatchService 의 독립 트랜잭션에서 커밋
+ * - 한 번에 하나의 작업만 실행하며, 진행 상황은 getProgress() 로 조회
+ */
+@Service
+@Slf4j
+public class AttendanceBackfillService {
+
+  private final AttendanceBatchService attendanceBatchService;
+  private final CourseRepository courseRepository;
+  private final HolidayService holidayService;
+  private final int maxDays;
+
+  private final ExecutorService coordinator;
+  private final ExecutorService workerPool;
+  private final AtomicReference<BackfillJob> currentJob = new AtomicReference<>();
+
+  public AttendanceBackfillService(AttendanceBatchService attendanceBatchService,
+      CourseRepository courseRepository, HolidayService holidayService,
+      @Value("${attendance.backfill.threads:4}") int threads,
+      @Value("${attendance.backfill.max-days:93}") int maxDays) {
+    this.attendanceBatchService = attendanceBatchService;
+    this.courseRepository = courseRepository;
+    this.holidayService = holidayService;
+    this.maxDays = maxDays;
+    this.coordinator = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("attendance-backfill-coordinator-"));
+    this.workerPool = Executors.newFixedThreadPool(threads,
+        new CustomizableThreadFactory("attendance-backfill-"));
+  }
+
+  /**
+   * 백필 작업 시작 (비동기). 시작 시점의 진행 상황을 반환
+   */
+  public BackfillProgressDto startBackfill(LocalDate startDate, LocalDate endDate) {
+    if (startDate == null || endDate == null || startDate.isAfter(endDate)
+        || !endDate.isBefore(LocalDate.now()) // 오늘은 아직 출석 중이므로 어제까지만 허용
+        || ChronoUnit.DAYS.between(startDate, endDate) >= maxDays) {
+      log.warn("결석 백필 기간이 올바르지 않습니다. startDate: {}, endDate: {}, 최대 일수: {}",
+          startDate, endDate, maxDays);
+      throw new InvalidRequestException(ATTENDANCE_BACKFILL_INVALID_RANGE);
+    }
+
+    List<LocalDate> workingDays = getWorkingDays(startDate, endDate);
+    // 현재 활성 여부와 관계없이 백필 기간과 교육 기간이 겹치는 과정
+    List<Course> courses = courseRepository.findCoursesOverlapping(startDate, endDate);
+
+    // 날짜별로 해당 날짜에 진행 중인 과정만 처리
+    Map<LocalDate, List<Long>> coursesByDate = new HashMap<>();
+    int totalTasks = 0;
+    for (LocalDate date : workingDays) {
+      List<Long> courseIds = courses.stream()
+          .filter(c -> !date.isBefore(c.getStartDate()) && !date.isAfter(c.getEndDate()))
+          .map(Course::getId)
+          .toList();
+      coursesByDate.put(date, courseIds);
+      totalTasks += courseIds.size();
+    }
+
+    BackfillJob job = new BackfillJob(startDate, endDate, workingDays, totalTasks);
+    BackfillJob running = currentJob.get();
+    if ((running != null && running.finishedAt == null)
+        || !currentJob.compareAndSet(running, job)) {
+      throw new InvalidRequestException(ATTENDANCE_BACKFILL_ALREADY_RUNNING);
+    }
+
+    log.info("결석 백필 시작 - 기간: {} ~ {}, 처리 날짜 수: {}, 작업 수: {}",
+        startDate, endDate, workingDays.size(), totalTasks);
+    coordinator.submit(() -> run(job, coursesByDate));
+
+    return job.toDto();
+  }
+
+  /**
+   * 현재(또는 마지막) 백필 작업의 진행 상황
+   */
+  public BackfillProgressDto getProgress() {
+    BackfillJob job = currentJob.get();
+    if (job == null) {
+      return BackfillProgressDto.builder().status("IDLE").courseResults(List.of()).build();
+    }
+    return job.toDto();
+  }
+
+  private void run(BackfillJob job, Map<LocalDate, List<Long>> coursesByDate) {
+    try {
+      // 날짜 순서대로, 한 날짜의 과정들은 병렬로 처리
+      for (LocalDate date : job.workingDays) {
+        List<CompletableFuture<Void>> futures = coursesByDate.get(date).stream()
+            .map(courseId -> CompletableFuture.runAsync(
+                () -> processCourse(job, courseId, date), workerPool))
+            .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        log.info("결석 백필 - {} 처리 완료 ({}/{})", date, job.completed.get(), job.totalTasks);
+      }
+    } catch (Exception e) {
+      log.error("결석 백필 작업 중 오류 발생", e);
+    } finally {
+      job.finishedAt = LocalDateTime.now();
+      log.info("결석 백필 종료 - 기간: {} ~ {}, 완료: {}, 실패: {}", job.startDate, job.endDate,
+          job.completed.get(), job.failed.get());
+    }
+  }
+
+  private void processCourse(BackfillJob job, Long courseId, LocalDate date) {
+    long startedAt = System.currentTimeMillis();
+    AbsenceBatchResultDto result;
+    try {
+      result = attendanceBatchService.processCourse(courseId, date);
+    } catch (Exception e) {
+      log.error("결석 백필 - 수업 ID: {}, 날짜: {} 처리 실패", courseId, date, e);
+      result = attendanceBatchService.failedResult(courseId, date, startedAt, e);
+    }
+    job.record(result);
+  }
+
+  // 주말, 공휴일을 제외한 처리 대상 날짜
+  private List<LocalDate> getWorkingDays(LocalDate startDate, LocalDate endDate) {
+    List<LocalDate> workingDays = new ArrayList<>();
+    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+      if (holidayService.isWorkingDay(date)) {
+        workingDays.add(date);
+      }
+    }
+    return workingDays;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    coordinator.shutdownNow();
+    workerPool.shutdownNow();
+  }
+
+  /**
+   * 진행 중인 백필 작업 상태
+   */
+  private static class BackfillJob {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final List<LocalDate> workingDays;
+    private final int totalTasks;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Map<Long, CourseTally> tallies = new ConcurrentHashMap<>();
+
+    private BackfillJob(LocalDate startDate, LocalDate endDate, List<LocalDate> workingDays,
+        int totalTasks) {
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.workingDays = workingDays;
+      this.totalTasks = totalTasks;
+    }
+
+    private void record(AbsenceBatchResultDto result) {
+      tallies.computeIfAbsent(result.getCourseId(), id -> new CourseTally()).add(result);
+      completed.incrementAndGet();
+      if (!result.isSuccess()) {
+        failed.incrementAndGet();
+      }
+    }
+
+    private BackfillProgressDto toDto() {
+      List<BackfillCourseResultDto> courseResults = tallies.entrySet().stream()
+          .map(e -> e.getValue().toDto(e.getKey()))
+          .sorted(Comparator.comparing(BackfillCourseResultDto::getCourseId))
+          .toList();
+
+      return BackfillProgressDto.builder()
+          .status(finishedAt == null ? "RUNNING" : "COMPLETED")
+          .startDate(startDate)
+          .endDate(endDate)
+          .workingDays(workingDays)
+          .totalTasks(totalTasks)
+          .completedTasks(completed.get())
+          .failedTasks(failed.get())
+          .startedAt(startedAt)
+          .finishedAt(finishedAt)
+          .courseResults(courseResults)
+          .build();
+    }
+  }
+
+  /**
+   * 과정별 누적 처리 결과
+   */
+  private static class CourseTally {
+
+    private int processedDays;
+    private int insertedCount;
+    private int updatedCount;
+    private final List<LocalDate> failedDates = new ArrayList<>();
+
+    private synchronized void add(AbsenceBatchResultDto result) {
+      if (result.isSuccess()) {
+        processedDays++;
+        insertedCount += result.getInsertedCount();
+        updatedCount += result.getUpdatedCount();
+      } else {
+        failedDates.add(result.getDate());
+      }
+    }
+
+    private synchronized BackfillCourseResultDto toDto(Long courseId) {
+      return BackfillCourseResultDto.builder()
+          .courseId(courseId)
+          .processedDays(processedDays)
+          .insertedCount(insertedCount)
+          .updatedCount(updatedCount)
+          .failedDates(List.copyOf(failedDates))
+          .build();
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.syi.project.attendance.service;
+
+import static com.syi.project.attendance.entity.QAttendance.attendance;
+
+import com.querydsl.core.Tuple;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AbsenceBatchResultDto;
+import com.syi.project.attendance.entity.Attendance;
+import com.syi.project.attendance.repository.AttendanceBatchRepository;
+import com.syi.project.attendance.repository.AttendanceRepository;
+import com.syi.project.common.enums.AttendanceStatus;
+import com.syi.project.enroll.repository.EnrollRepository;
+import com.syi.project.period.PeriodCache;
+import com.syi.project.period.entity.Period;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 미기록 출석(결석) 일괄 처리
+ * - 과정 단위로 독립된 트랜잭션에서 처리하므로 한 과정의 실패가 다른 과정에 영향을 주지 않음
+ * - 이미 존재하는 출석과의 차집합만 처리하므로 같은 날짜로 다시 실행해도 안전함 (재시작 가능)
+ * - 지난 날짜(백필)는 입실/퇴실 시간을 처리 시각 대신 그 날짜의 교시 종료 시간으로 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceBatchService {
+
+  private final AttendanceRepository attendanceRepository;
+  private final AttendanceBatchRepository attendanceBatchRepository;
+  private final EnrollRepository enrollRepository;
+  private final PeriodCache periodCache;
+  private final AttendanceRateSummaryService attendanceRateSummaryService;
+
+  @Value("${attendance.batch.chunk-size:500}")
+  private int chunkSize;
+
+  /**
+   * 한 과정의 특정 날짜 미기록 출석 처리
+   * 1. 해당 날짜의 기존 출석 셀을 한 번에 조회
+   * 2. (학생 x 교시) - 기존 셀 = 결석으로 batch insert
+   * 3. 미처리 -> 결석, 퇴실 시간 없는 셀 -> 퇴실 시간 기록을 bulk update
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public AbsenceBatchResultDto processCourse(Long courseId, LocalDate date) {
+    long startedAt = System.currentTimeMillis();
+
+    List<Long> studentIds = enrollRepository.findStudentIdByCourseId(courseId);
+    List<Period> periods = periodCache.getPeriods(courseId, date.getDayOfWeek());
+
+    if (studentIds.isEmpty() || periods.isEmpty()) {
+      log.info("수업 ID: {} - 학생 수: {}, 교시 수: {} 이므로 처리할 출석이 없습니다.",
+          courseId, studentIds.size(), periods.size());
+      return toResult(courseId, date, studentIds.size(), periods.size(), 0, 0, startedAt);
+    }
+
+    List<Long> periodIds = periods.stream().map(Period::getId).toList();
+    Set<Long> enrolled = new HashSet<>(studentIds);
+
+    // 1. 해당 날짜의 기존 출석 셀 조회
+    List<Tuple> cells = attendanceRepository.findAttendanceCellsByDateAndPeriodIds(date, periodIds);
+
+    Set<String> existingKeys = new HashSet<>(cells.size() * 2);
+    int updatedCount = 0;
+    for (Tuple cell : cells) {
+      Long memberId = cell.get(attendance.memberId);
+      if (!enrolled.contains(memberId)) {
+        continue;
+      }
+      existingKeys.add(cellKey(memberId, cell.get(attendance.periodId)));
+
+      if (cell.get(attendance.status) == AttendanceStatus.PENDING
+          || cell.get(attendance.exitTime) == null) {
+        updatedCount++;
+      }
+    }
+
+    // 2. 출석 기록이 없는 셀은 결석으로 생성
+    LocalDateTime now = LocalDateTime.now();
+    List<Attendance> absences = new ArrayList<>();
+    for (Long studentId : studentIds) {
+      for (Period period : periods) {
+        if (!existingKeys.contains(cellKey(studentId, period.getId()))) {
+          LocalDateTime closedAt = closedAt(period, date, now);
+          absences.add(new Attendance(null, AttendanceStatus.ABSENT, date, now, now,
+              period.getId(), courseId, studentId, null, closedAt, closedAt));
+        }
+      }
+    }
+    int insertedCount = attendanceBatchRepository.batchInsert(absences, chunkSize);
+
+    // 3. 기존 기록 중 미처리 -> 결석, 퇴실 시간 보정
+    if (updatedCount > 0) {
+      long pending = attendanceRepository.updatePendingToAbsent(date, periodIds, studentIds, now);
+      long exitFilled = 0;
+      for (Map.Entry<LocalDateTime, List<Long>> entry : periodIdsByClosedAt(periods, date, now)
+          .entrySet()) {
+        exitFilled += attendanceRepository.updateMissingExitTime(date, entry.getValue(),
+            studentIds, entry.getKey(), now);
+      }
+      log.debug("수업 ID: {} - 미처리->결석: {}건, 퇴실시간 보정: {}건", courseId, pending, exitFilled);
+    }
+
+    if (insertedCount > 0 || updatedCount > 0) {
+      attendanceRateSummaryService.refreshCourse(courseId, date);
+    }
+
+    AbsenceBatchResultDto result = toResult(courseId, date, studentIds.size(), periods.size(),
+        insertedCount, updatedCount, startedAt);
+    log.info("수업 ID: {}, 날짜: {} 결석 처리 완료 - 학생 수: {}, 교시 수: {}, 생성: {}, 수정: {}, 소요: {}ms",
+        courseId, date, result.getStudentCount(), result.getPeriodCount(),
+        result.getInsertedCount(), result.getUpdatedCount(), result.getElapsedMillis());
+    return result;
+  }
+
+  /**
+   * 처리 중 예외가 발생한 과정의 결과
+   */
+  public AbsenceBatchResultDto failedResult(Long courseId, LocalDate date, long startedAt,
+      Exception e) {
+    return AbsenceBatchResultDto.builder()
+        .courseId(courseId)
+        .date(date)
+        .elapsedMillis(System.currentTimeMillis() - startedAt)
+        .success(false)
+        .errorMessage(e.getMessage())
+        .build();
+  }
+
+  private AbsenceBatchResultDto toResult(Long courseId, LocalDate date, int studentCount,
+      int periodCount, int insertedCount, int updatedCount, long startedAt) {
+    return AbsenceBatchResultDto.builder()
+        .courseId(courseId)
+        .date(date)
+        .studentCount(studentCount)
+        .periodCount(periodCount)
+        .insertedCount(insertedCount)
+        .updatedCount(updatedCount)
+        .elapsedMillis(System.currentTimeMillis() - startedAt)
+        .success(true)
+        .build();
+  }
+
+  // 퇴실 시간으로 기록할 시각 (지난 날짜는 해당 날짜의 교시 종료 시간, 당일은 처리 시각)
+  private static LocalDateTime closedAt(Period period, LocalDate date, LocalDateTime now) {
+    if (!date.isBefore(now.toLocalDate()) || period.getEndTime() == null) {
+      return now;
+    }
+    return date.atTime(period.getEndTime());
+  }
+
+  // 퇴실 시간별 교시 ID (같은 시각끼리 한 번에 update)
+  private static Map<LocalDateTime, List<Long>> periodIdsByClosedAt(List<Period> periods,
+      LocalDate date, LocalDateTime now) {
+    Map<LocalDateTime, List<Long>> grouped = new LinkedHashMap<>();
+    for (Period period : periods) {
+      grouped.computeIfAbsent(closedAt(period, date, now), time -> new ArrayList<>())
+          .add(period.getId());
+    }
+    return grouped;
+  }
+
+  private static String cellKey(Long memberId, Long periodId) {
+    return memberId + ":" + periodId;
+  }
+}
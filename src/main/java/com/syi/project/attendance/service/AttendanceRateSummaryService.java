@@ -0,0 +1,359 @@
+package com.syi.project.attendance.service;
+
+import static com.syi.project.attendance.AttendanceCalculator.overallRateOf;
+import static com.syi.project.attendance.AttendanceCalculator.twentyDayRateOf;
+
+import com.syi.project.attendance.AttendanceCalculator;
+import com.syi.project.attendance.AttendanceCalculator.Segment;
+import com.syi.project.attendance.AttendanceCalculator.SegmentCounts;
+import com.syi.project.attendance.AttendanceCalculator.SegmentLayout;
+import com.syi.project.attendance.HolidayCalendar;
+import com.syi.project.attendance.dto.projection.AttendanceDailyStats;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceRateDto;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.TwentyDayRateDto;
+import com.syi.project.attendance.entity.AttendanceRateSummary;
+import com.syi.project.attendance.entity.AttendanceRateSummaryDirty;
+import com.syi.project.attendance.repository.AttendanceRateSummaryBatchRepository;
+import com.syi.project.attendance.repository.AttendanceRateSummaryDirtyRepository;
+import com.syi.project.attendance.repository.AttendanceRateSummaryRepository;
+import com.syi.project.attendance.repository.AttendanceRepository;
+import com.syi.project.course.entity.Course;
+import com.syi.project.course.repository.CourseRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 출석률 요약 테이블 관리
+ * - 출석 생성/수정 시 해당 날짜가 속한 차수의 row 만 다시 집계해서 upsert (최대 20일치)
+ * - 갱신은 출석 트랜잭션이 커밋된 뒤 별도 트랜잭션에서 수행하고, 실패해도 출석 저장은 롤백되지 않음
+ * - 변경 내역(attendance_rate_summary_dirty)을 출석과 같은 트랜잭션에 남기고 갱신 후 삭제하므로, 갱신이 실패한
+ *   변경은 조회 시(해당 과정) 또는 retry-interval-ms 주기의 재시도에서 다시 반영됨
+ * - 출석률 조회는 요약 테이블만 읽어서 AttendanceCalculator 와 같은 형태의 결과를 반환
+ * - 요약 데이터가 없거나 차수 구간이 바뀐 경우(공휴일 변경 등) 조회 시점에 과정 전체를 다시 만듦 (쓰기 경로에서는 재생성하지 않음)
+ */
+@Service
+@Slf4j
+@Transactional
+public class AttendanceRateSummaryService {
+
+  private final AttendanceRateSummaryRepository summaryRepository;
+  private final AttendanceRateSummaryBatchRepository summaryBatchRepository;
+  private final AttendanceRateSummaryDirtyRepository dirtyRepository;
+  private final AttendanceRepository attendanceRepository;
+  private final CourseRepository courseRepository;
+  private final HolidayCalendar holidayCalendar;
+  // 커밋 후 갱신용 (afterCommit 에서는 원래 트랜잭션에 참여하지 않도록 새 트랜잭션 필요)
+  private final TransactionTemplate requiresNewTemplate;
+  // 이보다 오래 남은 변경 내역은 커밋 후 갱신이 실패한 것으로 보고 재시도
+  private final long retryDelaySeconds;
+
+  public AttendanceRateSummaryService(AttendanceRateSummaryRepository summaryRepository,
+      AttendanceRateSummaryBatchRepository summaryBatchRepository,
+      AttendanceRateSummaryDirtyRepository dirtyRepository,
+      AttendanceRepository attendanceRepository, CourseRepository courseRepository,
+      HolidayCalendar holidayCalendar, PlatformTransactionManager transactionManager,
+      @Value("${attendance.rate-summary.retry-delay-seconds:60}") long retryDelaySeconds) {
+    this.summaryRepository = summaryRepository;
+    this.summaryBatchRepository = summaryBatchRepository;
+    this.dirtyRepository = dirtyRepository;
+    this.retryDelaySeconds = retryDelaySeconds;
+    this.attendanceRepository = attendanceRepository;
+    this.courseRepository = courseRepository;
+    this.holidayCalendar = holidayCalendar;
+    this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * 한 학생의 특정 날짜 출석이 바뀌었을 때 해당 차수 갱신 (커밋 후 수행)
+   */
+  public void refresh(Long courseId, Long memberId, LocalDate date) {
+    markDirty(new AttendanceRateSummaryDirty(courseId, memberId, date));
+  }
+
+  /**
+   * 과정 전체 학생의 특정 날짜 출석이 바뀌었을 때 해당 차수 갱신 (결석 일괄 처리 후, 커밋 후 수행)
+   */
+  public void refreshCourse(Long courseId, LocalDate date) {
+    markDirty(new AttendanceRateSummaryDirty(courseId, null, date));
+  }
+
+  /**
+   * 커밋 후 갱신이 실패해 남아 있는 변경 내역 재처리
+   */
+  @Scheduled(fixedDelayString = "${attendance.rate-summary.retry-interval-ms:60000}")
+  public void retryDirty() {
+    List<AttendanceRateSummaryDirty> dirties = dirtyRepository
+        .findTop500ByCreatedAtBeforeOrderByIdAsc(
+            LocalDateTime.now().minusSeconds(retryDelaySeconds));
+    for (AttendanceRateSummaryDirty dirty : dirties) {
+      try {
+        requiresNewTemplate.executeWithoutResult(status -> apply(dirty));
+      } catch (RuntimeException e) {
+        log.error("출석률 요약 재시도 실패 - {}", dirty, e);
+      }
+    }
+    if (!dirties.isEmpty()) {
+      log.info("출석률 요약 재시도 - 대상 수: {}", dirties.size());
+    }
+  }
+
+  // 변경 내역을 출석 트랜잭션에 함께 저장하고, 커밋 후 새 트랜잭션에서 반영 (실패하면 내역이 남아 재시도됨)
+  private void markDirty(AttendanceRateSummaryDirty dirty) {
+    AttendanceRateSummaryDirty saved = dirtyRepository.save(dirty);
+    afterCommit(saved.toString(), () -> apply(saved));
+  }
+
+  // 변경 내역 하나를 요약에 반영하고 삭제
+  private void apply(AttendanceRateSummaryDirty dirty) {
+    if (dirty.getMemberId() != null) {
+      refreshMember(dirty.getCourseId(), dirty.getMemberId(), dirty.getDate());
+    } else {
+      refreshAllMembers(dirty.getCourseId(), dirty.getDate());
+    }
+    dirtyRepository.deleteDirty(dirty.getId());
+  }
+
+  // 조회 전에 과정의 미반영 변경 내역을 먼저 반영 (커밋 후 갱신 실패, 아직 실행 전인 갱신 포함)
+  private void applyPendingChanges(Long courseId) {
+    for (AttendanceRateSummaryDirty dirty : dirtyRepository.findByCourseIdOrderByIdAsc(courseId)) {
+      apply(dirty);
+    }
+  }
+
+  private void refreshMember(Long courseId, Long memberId, LocalDate date) {
+    SegmentLayout layout = layoutToRefresh(courseId);
+    Segment segment = layout == null ? null : segmentToRefresh(layout, courseId, date);
+    if (segment == null) {
+      return;
+    }
+
+    List<AttendanceDailyStats> stats = attendanceRepository
+        .findAttendanceStatsByStudentIdAndCourseIdAndDates(memberId, courseId,
+            segment.getStartDate(), segment.getEndDate());
+    summaryBatchRepository.upsert(List.of(summaryOf(courseId, memberId, layout, segment, stats)));
+
+    log.debug("출석률 요약 갱신 - courseId: {}, memberId: {}, 차수: {}", courseId, memberId,
+        segment.getIndex());
+  }
+
+  private void refreshAllMembers(Long courseId, LocalDate date) {
+    SegmentLayout layout = layoutToRefresh(courseId);
+    Segment segment = layout == null ? null : segmentToRefresh(layout, courseId, date);
+    if (segment == null) {
+      return;
+    }
+
+    Map<Long, List<AttendanceDailyStats>> statsByMember = attendanceRepository
+        .findAttendanceStatsByCourseIdAndDates(courseId, segment.getStartDate(),
+            segment.getEndDate()).stream()
+        .collect(Collectors.groupingBy(AttendanceDailyStats::getStudentId));
+    // 출석 기록이 모두 사라진 학생도 0으로 갱신하기 위해 기존 요약의 학생 포함
+    Set<Long> memberIds = new HashSet<>(statsByMember.keySet());
+    summaryRepository.findByCourseIdAndSegmentIndex(courseId, segment.getIndex())
+        .forEach(summary -> memberIds.add(summary.getMemberId()));
+
+    List<AttendanceRateSummary> summaries = new ArrayList<>(memberIds.size());
+    for (Long memberId : memberIds) {
+      summaries.add(summaryOf(courseId, memberId, layout, segment,
+          statsByMember.getOrDefault(memberId, List.of())));
+    }
+    summaryBatchRepository.upsert(summaries);
+
+    log.info("출석률 요약 갱신 - courseId: {}, 차수: {}, 학생 수: {}", courseId, segment.getIndex(),
+        summaries.size());
+  }
+
+  // 갱신할 과정의 차수 구간 (요약이 아직 없는 과정은 조회 시점에 전체를 만들므로 건너뜀)
+  private SegmentLayout layoutToRefresh(Long courseId) {
+    Course course = courseRepository.findCourseById(courseId);
+    if (course == null) {
+      return null;
+    }
+    if (!summaryRepository.existsByCourseId(courseId)) {
+      log.debug("출석률 요약이 아직 없어 갱신 생략 (조회 시 생성) - courseId: {}", courseId);
+      return null;
+    }
+    return layoutOf(course);
+  }
+
+  private Segment segmentToRefresh(SegmentLayout layout, Long courseId, LocalDate date) {
+    Segment segment = layout.segmentOf(date);
+    if (segment == null) {
+      log.debug("출석률 요약 갱신 대상이 아닌 날짜입니다. courseId: {}, date: {}", courseId, date);
+    }
+    return segment;
+  }
+
+  // 현재 트랜잭션이 커밋된 뒤 새 트랜잭션에서 실행 (트랜잭션 밖이면 바로 실행), 실패는 로그만 남김 (변경 내역은 남음)
+  private void afterCommit(String target, Runnable task) {
+    Runnable guarded = () -> {
+      try {
+        requiresNewTemplate.executeWithoutResult(status -> task.run());
+      } catch (RuntimeException e) {
+        log.error("출석률 요약 갱신 실패 - {}", target, e);
+      }
+    };
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          guarded.run();
+        }
+      });
+      return;
+    }
+    guarded.run();
+  }
+
+  /**
+   * 학생 출석률 (AttendanceCalculator.calculateAttendanceRates 와 같은 형태)
+   */
+  public AttendanceRateDto getAttendanceRates(Course course, Long memberId) {
+    SegmentLayout layout = layoutOf(course);
+    loadSummaries(course.getId(), layout);
+    List<AttendanceRateSummary> summaries = summaryRepository
+        .findByCourseIdAndMemberIdOrderBySegmentIndexAsc(course.getId(), memberId);
+    return toRates(layout, summaries);
+  }
+
+  /**
+   * 과정 전체 학생의 출석률 (출석 기록이 있는 학생만)
+   */
+  public Map<Long, AttendanceRateDto> getAllAttendanceRates(Course course) {
+    SegmentLayout layout = layoutOf(course);
+    Map<Long, List<AttendanceRateSummary>> summariesByMember = loadSummaries(course.getId(),
+        layout).stream()
+        .collect(Collectors.groupingBy(AttendanceRateSummary::getMemberId, LinkedHashMap::new,
+            Collectors.toList()));
+
+    Map<Long, AttendanceRateDto> rates = new HashMap<>();
+    summariesByMember.forEach((memberId, summaries) -> {
+      if (summaries.stream().anyMatch(s -> s.getRecordedDays() > 0)) {
+        rates.put(memberId, toRates(layout, summaries));
+      }
+    });
+    return rates;
+  }
+
+  // 과정 전체 요약 조회 - 미반영 변경을 먼저 반영하고, 요약이 없거나 차수 구간이 현재 달력과 다르면 다시 만들기
+  private List<AttendanceRateSummary> loadSummaries(Long courseId, SegmentLayout layout) {
+    applyPendingChanges(courseId);
+    List<AttendanceRateSummary> summaries = summaryRepository
+        .findByCourseIdOrderByMemberIdAscSegmentIndexAsc(courseId);
+
+    boolean stale = summaries.isEmpty() || summaries.stream().anyMatch(s -> {
+      Segment segment = layout.segment(s.getSegmentIndex());
+      return segment == null || !segment.getStartDate().equals(s.getStartDate())
+          || !segment.getEndDate().equals(s.getEndDate());
+    });
+    if (stale) {
+      rebuild(courseId, layout);
+      summaries = summaryRepository.findByCourseIdOrderByMemberIdAscSegmentIndexAsc(courseId);
+    }
+    return summaries;
+  }
+
+  private void rebuild(Long courseId, SegmentLayout layout) {
+    summaryRepository.deleteByCourseId(courseId);
+
+    Map<Long, List<AttendanceDailyStats>> statsByMember = attendanceRepository
+        .findAttendanceStatsByCourse(courseId).stream()
+        .collect(Collectors.groupingBy(AttendanceDailyStats::getStudentId));
+
+    List<AttendanceRateSummary> summaries = new ArrayList<>();
+    statsByMember.forEach((memberId, stats) -> {
+      for (Segment segment : layout.getSegments()) {
+        AttendanceRateSummary summary = summaryOf(courseId, memberId, layout, segment, stats);
+        if (summary.getRecordedDays() > 0) {
+          summaries.add(summary);
+        }
+      }
+    });
+    // 재생성 중 커밋 후 갱신이 먼저 넣은 row 와 겹쳐도 중복 키 오류가 나지 않도록 upsert
+    summaryBatchRepository.upsert(summaries);
+
+    log.info("출석률 요약 재생성 - courseId: {}, 학생 수: {}, 요약 수: {}", courseId,
+        statsByMember.size(), summaries.size());
+  }
+
+  // 차수 기간의 유효 출석일만 집계 (AttendanceCalculator 의 판정 기준 사용)
+  private AttendanceRateSummary summaryOf(Long courseId, Long memberId, SegmentLayout layout,
+      Segment segment, List<AttendanceDailyStats> stats) {
+    SegmentCounts counts = layout.count(segment, stats);
+    AttendanceRateSummary summary = new AttendanceRateSummary(courseId, memberId,
+        segment.getIndex(), segment.getStartDate(), segment.getEndDate());
+    summary.updateCounts(segment.getStartDate(), segment.getEndDate(), counts.getRecordedDays(),
+        counts.getPresentDays(), counts.getIncidentDays());
+    return summary;
+  }
+
+  private AttendanceRateDto toRates(SegmentLayout layout,
+      List<AttendanceRateSummary> summaries) {
+    int validDays = layout.getValidDays();
+    if (validDays == 0) {
+      return AttendanceRateDto.empty(0);
+    }
+
+    int present = 0;
+    int incidents = 0;
+    boolean hasRecords = false;
+    List<TwentyDayRateDto> twentyDayRates = new ArrayList<>();
+
+    for (AttendanceRateSummary summary : summaries) {
+      if (summary.getRecordedDays() == 0) {
+        continue;
+      }
+      hasRecords = true;
+      present += summary.getPresentDays();
+      incidents += summary.getIncidentDays();
+
+      // 현장실습 기간은 전체 출석률에만 반영
+      if (summary.getSegmentIndex() > layout.getRegularSegments()) {
+        continue;
+      }
+      twentyDayRates.add(twentyDayRateOf(summary.getSegmentIndex(), summary.getStartDate(),
+          summary.getEndDate(), summary.getRecordedDays(), summary.getPresentDays(),
+          summary.getIncidentDays()));
+    }
+
+    if (!hasRecords) {
+      return AttendanceRateDto.empty(validDays);
+    }
+
+    double overallAttendanceRate = overallRateOf(validDays, present, incidents);
+    double currentTwentyDayRate = twentyDayRates.isEmpty() ? 0.0
+        : twentyDayRates.get(twentyDayRates.size() - 1).getTwentyDayRate();
+
+    return AttendanceRateDto.builder()
+        .validAttendanceDays(validDays)
+        .overallAttendanceRate(overallAttendanceRate)
+        .twentyDayRate(currentTwentyDayRate)
+        .twentyDayRates(twentyDayRates)
+        .build();
+  }
+
+  // 과정 기간의 20일 단위 차수 구간 (공휴일 달력의 평일 누적 배열로 계산)
+  private SegmentLayout layoutOf(Course course) {
+    return AttendanceCalculator.segmentLayout(course.getStartDate(), course.getEndDate(),
+        holidayCalendar);
+  }
+}
@@ -21,14 +21,15 @@ import static com.syi.project.common.exception.ErrorCode.COURSE_NOT_FOUND;
 import static com.syi.project.period.entity.QPeriod.period;
 
 import com.querydsl.core.Tuple;
-import com.syi.project.attendance.AttendanceCalculator;
-import com.syi.project.attendance.dto.AttendanceDTO;
+import com.syi.project.attendance.AllowedNetworks;
 import com.syi.project.attendance.dto.projection.AttendanceDailyStats;
 import com.syi.project.attendance.dto.request.AttendanceRequestDTO;
 import com.syi.project.attendance.dto.request.AttendanceRequestDTO.AllAttendancesRequestDTO;
 import com.syi.project.attendance.dto.request.AttendanceRequestDTO.StudentAllAttendRequestDTO;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AbsenceBatchResultDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendDetailDTO;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceRateDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendListResponseDTO;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendancePrintResponseDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendancePrintResponseDto.SummaryPageDto;
@@ -37,23 +38,25 @@ import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceT
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.DeleteResultDto;
 import com.syi.project.attendance.dto.response.AttendanceResponseDTO.MemberInfoInDetail;
 import com.syi.project.attendance.entity.Attendance;
+import com.syi.project.attendance.repository.AttendanceBatchRepository;
 import com.syi.project.attendance.repository.AttendanceRepository;
 import com.syi.project.auth.entity.Member;
 import com.syi.project.auth.service.CustomUserDetails;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.common.enums.AttendanceStatus;
 import com.syi.project.common.exception.InvalidRequestException;
+import com.syi.project.common.utils.CursorCodec;
 import com.syi.project.course.dto.CourseDTO.CourseListDTO;
 import com.syi.project.course.entity.Course;
 import com.syi.project.course.repository.CourseRepository;
 import com.syi.project.enroll.repository.EnrollRepository;
+import com.syi.project.period.PeriodCache;
 import com.syi.project.period.dto.PeriodResponseDTO;
 import com.syi.project.period.entity.Period;
 import com.syi.project.period.repository.PeriodRepository;
 import com.syi.project.schedule.dto.ScheduleResponseDTO;
 import com.syi.project.schedule.repository.ScheduleRepository;
 import jakarta.servlet.http.HttpServletRequest;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -76,13 +79,13 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -91,13 +94,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AttendanceService {
 
+  // 수강생 출석 목록의 교시명 모음 (1교시 ~ 8교시)
+  private static final List<String> STUDENT_PERIOD_NAMES = List.of("1교시", "2교시", "3교시", "4교시",
+      "5교시", "6교시", "7교시", "8교시");
+
   private final AttendanceRepository attendanceRepository;
   private final CourseRepository courseRepository;
   private final ScheduleRepository scheduleRepository;
   //private final EnrollRepository enrollRepository;
   private final PeriodRepository periodRepository;
+  private final PeriodCache periodCache;
   private final EnrollRepository enrollRepository;
   private final HolidayService holidayService;
+  private final AllowedNetworks allowedNetworks;
+  private final AttendanceBatchService attendanceBatchService;
+  private final AttendanceBatchRepository attendanceBatchRepository;
+  private final AttendanceRateSummaryService attendanceRateSummaryService;
 
   // 담당자
   /* 출석 전체 조회 */
@@ -111,13 +123,7 @@ public class AttendanceService {
     log.debug("필터링 조건 : studentName={}, status ={}", dto.getStudentName(), dto.getStatus());
 
     // 1교시, 2교시... 교시명 모음
-    // 해당 날짜의 요일 (한국어로)
-    String dayOfWeek = dto.getDate().getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN)+"요일";
-    log.info("해당하는 요일: {}",dayOfWeek);
-
-    List<String> periods = periodRepository.findPeriodsByDayOfWeek(courseId, dayOfWeek);
-    log.info("{} 의"
-        + " 교시명 모음: {}",dayOfWeek, periods);
+    List<String> periods = findPeriodNamesOfDate(courseId, dto.getDate());
 
     return attendanceRepository.findPagedAttendListByCourseId(courseId, dto, periods,
         pageable);
@@ -137,7 +143,7 @@ public class AttendanceService {
     log.debug("필터링 조건 : status ={}", dto.getStatus());
 
     // 1교시, 2교시... 교시명 모음
-    List<String> periods = List.of("1교시", "2교시", "3교시", "4교시", "5교시", "6교시", "7교시", "8교시");
+    List<String> periods = STUDENT_PERIOD_NAMES;
 
     /*List<String> periods = periodRepository.findPeriodsInRange(courseId,dto.getStartDate(),
         dto.getEndDate());*/
@@ -145,13 +151,7 @@ public class AttendanceService {
     log.info("조회된 교시 사이즈: {}",periods.size());
 
 
-    AllAttendancesRequestDTO requestDTO = AllAttendancesRequestDTO.builder()
-        .date(null)
-        .studentId(studentId)
-        .startDate(dto.getStartDate())
-        .endDate(dto.getEndDate())
-        .status(dto.getStatus())
-        .build();
+    AllAttendancesRequestDTO requestDTO = toStudentRequest(studentId, dto);
     log.info("dto 변환 {}",requestDTO);
 
     Page<AttendListResponseDTO> responseDTOS = attendanceRepository.findPagedAttendListByCourseId(courseId, requestDTO, periods,
@@ -163,6 +163,60 @@ public class AttendanceService {
 
   }
 
+  // 담당자
+  /* 출석 전체 커서 조회 (학생 이름, 학생 ID 순 / 첫 목록은 cursor 없이 요청) */
+  public CursorPageDTO<AttendListResponseDTO> getAllAttendancesForAdminByCursor(
+      CustomUserDetails userDetails, Long courseId, AllAttendancesRequestDTO dto, String cursor,
+      int size, boolean includeTotal) {
+    log.info("관리자 전체 출석 커서 조회 - adminId: {}, courseId: {}, date: {}, size: {}",
+        userDetails.getId(), courseId, dto.getDate(), size);
+
+    String[] parts = CursorCodec.decode(cursor, 2);
+    String cursorName = parts != null ? parts[0] : null;
+    Long cursorId = parts != null ? CursorCodec.parse(parts[1], Long::valueOf) : null;
+
+    return attendanceRepository.findAdminAttendListAfter(courseId, dto,
+        findPeriodNamesOfDate(courseId, dto.getDate()), cursorName, cursorId, size, includeTotal);
+  }
+
+  // 수강생
+  // 출석 전체 커서 조회 (최신 날짜순 / 첫 목록은 cursor 없이 요청)
+  public CursorPageDTO<AttendListResponseDTO> getAllAttendancesForStudentByCursor(
+      CustomUserDetails userDetails, Long courseId, StudentAllAttendRequestDTO dto, String cursor,
+      int size, boolean includeTotal) {
+    Long studentId = userDetails.getId();
+    log.info("수강생 전체 출석 커서 조회 - studentId: {}, courseId: {}, startDate: {}, endDate: {}, size: {}",
+        studentId, courseId, dto.getStartDate(), dto.getEndDate(), size);
+
+    String[] parts = CursorCodec.decode(cursor, 1);
+    LocalDate cursorDate = parts != null ? CursorCodec.parse(parts[0], LocalDate::parse) : null;
+
+    return attendanceRepository.findStudentAttendListAfter(courseId,
+        toStudentRequest(studentId, dto), STUDENT_PERIOD_NAMES, cursorDate, size, includeTotal);
+  }
+
+  // 해당 날짜 요일의 교시명 모음
+  private List<String> findPeriodNamesOfDate(Long courseId, LocalDate date) {
+    DayOfWeek dayOfWeek = date.getDayOfWeek();
+    log.info("해당하는 요일: {}",dayOfWeek);
+
+    List<String> periods = periodCache.getPeriodNames(courseId, dayOfWeek);
+    log.info("{} 의"
+        + " 교시명 모음: {}",dayOfWeek, periods);
+    return periods;
+  }
+
+  // 수강생 조회 조건 -> 공통 조회 조건
+  private AllAttendancesRequestDTO toStudentRequest(Long studentId, StudentAllAttendRequestDTO dto) {
+    return AllAttendancesRequestDTO.builder()
+        .date(null)
+        .studentId(studentId)
+        .startDate(dto.getStartDate())
+        .endDate(dto.getEndDate())
+        .status(dto.getStatus())
+        .build();
+  }
+
   //  관리자
   /* 학생별 출석 조회 => 출석 전체 조회랑 같이 만들어질 확률 많음 */
   /*public AttendanceResponseDTO getAttendanceByCourseIdAndMemberId(AttendanceRequestDTO dto) {
@@ -210,6 +264,8 @@ public class AttendanceService {
     attendance.updateStatus(newStatus);
     //attendance.updateModifiedDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
     Attendance saved = attendanceRepository.save(attendance);
+    attendanceRateSummaryService.refresh(saved.getCourseId(), saved.getMemberId(),
+        saved.getDate());
     AttendanceResponseDTO savedStatus = AttendanceResponseDTO.builder()
         .attendanceId(saved.getId())
         .status(saved.getStatus().toKorean())
@@ -345,29 +401,15 @@ public class AttendanceService {
 
     LocalDateTime now = LocalDateTime.now();
 
-    int year = now.getYear(); // 교육과정의 연도를 기준으로 공휴일 가져오기
-
-    log.info("now: {}, dayOfWeek: {}, 오늘의 연도: {}", now, now.getDayOfWeek()
-        .getDisplayName(TextStyle.FULL, Locale.KOREAN),year);
-
-
-    // ✅ 해당 연도의 공휴일 정보를 DB에서 가져오기
-    Set<LocalDate> holidays = holidayService.getHolidaysForYear(year);
-
+    log.info("now: {}, dayOfWeek: {}", now, now.getDayOfWeek());
 
     /*
     * holidays나 주말일 경우 입실/퇴실이 불가능하게 예외처리
+    * (공휴일은 메모리 달력에서 확인 - DB 조회 없음)
     * */
     LocalDate today = now.toLocalDate(); // LocalDateTime에서 LocalDate로 변환
-    DayOfWeek dayOfWeek = today.getDayOfWeek();
 
-// 주말 체크 (토요일: SATURDAY, 일요일: SUNDAY)
-    boolean isWeekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
-
-// 공휴일 체크
-    boolean isHoliday = holidays.contains(today);
-
-    if (isWeekend || isHoliday) {
+    if (!holidayService.isWorkingDay(today)) {
       log.warn("주말 또는 공휴일({})에는 출석 체크를 할 수 없습니다.", today);
 
       throw new InvalidRequestException(ATTENDANCE_ENTRY_INVALID_DATE);
@@ -379,7 +421,7 @@ public class AttendanceService {
     String userIp = getClientIp(request); // 클라이언트 IP 가져오기
     log.info("사용자의 IP 주소: {}", userIp);
 
-    if (!isWithinNetwork(userIp)) {
+    if (!allowedNetworks.contains(userIp)) {
       log.error("User IP 가 허용된 범주 안에 있지 않습니다: {}", userIp);
       throw new InvalidRequestException(ATTENDANCE_NOT_IN_RANGE);
     }
@@ -387,29 +429,32 @@ public class AttendanceService {
 
 
     // 모든 교시 조회
-    List<Period> periods = periodRepository.getScheduleByCourseId(now.getDayOfWeek()
-        .getDisplayName(TextStyle.FULL, Locale.KOREAN), courseId);
+    List<Period> periods = periodCache.getPeriods(courseId, now.getDayOfWeek());
     if (periods.isEmpty()) {
       throw new NoSuchElementException("오늘의 교시 정보가 없습니다.");
     }
 
     log.debug("조회된 교시 정보: {}", periods);
 
-    switch (attendanceType) {
+    AttendanceResponseDTO response = switch (attendanceType) {
       case "ENTER" -> {
         handleEnterAttendance(userDetails, periods, now,courseId);
-        return AttendanceResponseDTO.builder().enterTime(now).build(); // 입실
+        yield AttendanceResponseDTO.builder().enterTime(now).build(); // 입실
       }
       case "EARLY_EXIT" -> {
         handleEarlyLeaveAttendance(userDetails, periods, now, earlyLeavePeriodId,courseId);
-        return AttendanceResponseDTO.builder().exitTime(now).build();
+        yield AttendanceResponseDTO.builder().exitTime(now).build();
       }
       case "EXIT" -> {
         handleExitAttendance(userDetails, periods, now,courseId);
-        return AttendanceResponseDTO.builder().exitTime(now).build();
+        yield AttendanceResponseDTO.builder().exitTime(now).build();
       }
       default -> throw new InvalidRequestException(ATTENDANCE_FAILED);
-    }
+    };
+
+    // 오늘이 속한 차수의 출석률 요약 갱신
+    attendanceRateSummaryService.refresh(courseId, userDetails.getId(), today);
+    return response;
 
   }
 
@@ -422,24 +467,26 @@ public class AttendanceService {
       Long earlyLeavePeriodId, Long courseId) {
     log.info("조퇴 처리 시작");
 
+    Map<Long, Attendance> dayAttendances = loadDayAttendances(userDetails.getId(), courseId,
+        earlyLeaveTDateTime.toLocalDate());
+
     // 입실한 기록이 있는지 체크하기
-    boolean hasEntryRecord = attendanceRepository.existsByMemberIdAndDateAndCourseIdAndEnterTimeNotNull(
-        userDetails.getId(), earlyLeaveTDateTime.toLocalDate(),courseId);
+    boolean hasEntryRecord = dayAttendances.values().stream()
+        .anyMatch(a -> a.getEnterTime() != null);
     if (!hasEntryRecord) {
       log.warn("입실한 기록이 없습니다. 조퇴 처리를 할 수 없습니다.");
       throw new InvalidRequestException(ATTENDANCE_ENTRY_NOT_FOUND);
     }
 
     // 이미 퇴실한 기록이 있으면 중복 방지
-    boolean alreadyExited = attendanceRepository.existsByMemberIdAndDateAndCourseIdAndExitTimeNotNull(
-        userDetails.getId(), earlyLeaveTDateTime.toLocalDate(),courseId);
+    boolean alreadyExited = dayAttendances.values().stream()
+        .anyMatch(a -> a.getExitTime() != null);
     if (alreadyExited) {
       log.warn("조퇴 - 이미 퇴실한 기록이 있습니다. 조퇴를 할 수 없습니다.");
       throw new InvalidRequestException(ATTENDANCE_ALREADY_EXITED);
     }
 
-    // Periods 리스트를 정렬 (시간 순서 보장)
-    periods.sort(Comparator.comparing(Period::getStartTime));
+    // periods 는 교시 캐시의 수정 불가 목록이며 이미 시작 시간순으로 정렬되어 있음
 
     // 조퇴할 교시 찾기
     Period earlyLeavePeriod = periods.stream()
@@ -463,11 +510,10 @@ public class AttendanceService {
     }*/
 
     // ✅ 조퇴 처리 로직
+    List<Attendance> toSave = new ArrayList<>(periods.size());
     for (Period period : periods) {
-      Attendance attendance = attendanceRepository.findByMemberIdAndPeriodIdAndDate(userDetails.getId(),
-              period.getId(), earlyLeaveTDateTime.toLocalDate())
-          .orElseGet(() -> new Attendance(null, null, null, null, null, period.getId(),
-              period.getCourseId(), userDetails.getId(), null, null, null));
+      Attendance attendance = getOrCreateAttendance(dayAttendances, period, userDetails.getId(),
+          AttendanceStatus.PENDING);
 
 //      // ✅ 이미 출석한 교시에 대해 조퇴할 수 없도록 예외 처리
 //      if (period.equals(earlyLeavePeriod) && attendance.getStatus() != null) {
@@ -495,8 +541,9 @@ public class AttendanceService {
       }*/
       log.info("(조퇴)저장 전 Attendance 객체 확인 - ID: {}, enterTime: {}, status: {}", attendance.getId(),
           attendance.getEnterTime(), attendance.getStatus());
-      attendanceRepository.save(attendance);
+      toSave.add(attendance);
     }
+    saveDayAttendances(toSave);
 
     log.info("조퇴 처리 완료");
 
@@ -512,8 +559,10 @@ public class AttendanceService {
 
     log.info("퇴실 처리 시작");
 
-    Optional<Attendance> entryCheck = attendanceRepository.findByMemberIdAndPeriodIdAndDate(
-        userDetails.getId(), periods.get(0).getId(), exitDateTime.toLocalDate());
+    Map<Long, Attendance> dayAttendances = loadDayAttendances(userDetails.getId(), courseId,
+        exitDateTime.toLocalDate());
+
+    Optional<Attendance> entryCheck = Optional.ofNullable(dayAttendances.get(periods.get(0).getId()));
 
     if (entryCheck.isPresent()) {
       log.debug("🚀 DEBUG: 퇴실 시점에서 첫 번째 교시 Attendance 객체 확인 - ID: {}, enterTime: {}",
@@ -523,7 +572,8 @@ public class AttendanceService {
     }
 
     // 입실한 기록이 있는지 체크하기
-    boolean hasEntryRecord = attendanceRepository.existsByMemberIdAndDateAndCourseIdAndEnterTimeNotNull(userDetails.getId(), exitDateTime.toLocalDate(),courseId);
+    boolean hasEntryRecord = dayAttendances.values().stream()
+        .anyMatch(a -> a.getEnterTime() != null);
     log.debug("입실 여부 체크 결과 - hasEntryRecord: {}", hasEntryRecord);
     if (!hasEntryRecord) {
       log.warn("입실한 기록이 없습니다. 퇴실 처리를 할 수 없습니다.");
@@ -532,15 +582,14 @@ public class AttendanceService {
 
 
     // 이미 퇴실한 기록이 있으면 중복 방지
-    boolean alreadyExited =
-        attendanceRepository.existsByMemberIdAndDateAndCourseIdAndExitTimeNotNull(userDetails.getId(), exitDateTime.toLocalDate(),courseId);
+    boolean alreadyExited = dayAttendances.values().stream()
+        .anyMatch(a -> a.getExitTime() != null);
     if (alreadyExited) {
       log.warn("이미 퇴실한 기록이 있습니다. 중복 퇴실을 방지합니다.");
       throw new InvalidRequestException(ATTENDANCE_ALREADY_EXITED);
     }
 
-    // Periods 리스트가 시간 순으로 정렬되었는지 확인
-    periods.sort(Comparator.comparing(Period::getStartTime));
+    // periods 는 교시 캐시의 수정 불가 목록이며 이미 시작 시간순으로 정렬되어 있음
 
 
     // 마지막 교시 찾기
@@ -559,11 +608,10 @@ public class AttendanceService {
     }
 
     // 기록되지 않은 교시 자동 출석 처리
+    List<Attendance> toSave = new ArrayList<>(periods.size());
     for (Period period : periods) {
-      Attendance attendance = attendanceRepository.findByMemberIdAndPeriodIdAndDate(userDetails.getId(),
-              period.getId(),exitDateTime.toLocalDate())
-          .orElseGet(() -> new Attendance(null, null, null, null, null, period.getId(),
-              period.getCourseId(), userDetails.getId(), null, null, null));
+      Attendance attendance = getOrCreateAttendance(dayAttendances, period, userDetails.getId(),
+          AttendanceStatus.PENDING);
 
       if (attendance.getStatus() == AttendanceStatus.PENDING) {
         // 아직 기록되지 않은 교시는 자동 출석 처리
@@ -573,10 +621,9 @@ public class AttendanceService {
       attendance.updateExitTime(exitDateTime);
       log.info("(퇴실)저장 전 Attendance 객체 확인 - ID: {}, enterTime: {}, status: {}", attendance.getId(),
           attendance.getEnterTime(), attendance.getStatus());
-      attendanceRepository.save(attendance);
-
-
+      toSave.add(attendance);
     }
+    saveDayAttendances(toSave);
     log.info("퇴실 처리 완료");
   }
 
@@ -593,15 +640,15 @@ public class AttendanceService {
     log.info("입실하는 날짜시간: {}", enterDateTime);
 
     // 이미 입실한 기록이 있으면 중복 방지
-    boolean alreadyEntered = attendanceRepository.existsByMemberIdAndDateAndCourseId(userDetails.getId(),
-        enterDateTime.toLocalDate(),courseId);
+    Map<Long, Attendance> dayAttendances = loadDayAttendances(userDetails.getId(), courseId,
+        enterDateTime.toLocalDate());
+    boolean alreadyEntered = !dayAttendances.isEmpty();
     if (alreadyEntered) {
       log.warn("이미 입실한 기록이 있습니다. 중복 입실을 방지합니다.");
       throw new InvalidRequestException(ATTENDANCE_ALREADY_ENTERED);
     }
 
-    // Periods 리스트가 시간 순으로 정렬되었는지 확인
-    periods.sort(Comparator.comparing(Period::getStartTime));
+    // periods 는 교시 캐시의 수정 불가 목록이며 이미 시작 시간순으로 정렬되어 있음
 
     // 1교시 및 마지막 교시 확인
     Period firstPeriod = periods.get(0);
@@ -662,12 +709,10 @@ public class AttendanceService {
     log.info("현재 시간: {}, 입실 교시: {}, 교시 ID: {}", enterDateTime, enterPeriod.getName(),
         enterPeriod.getId());
 
+    List<Attendance> toSave = new ArrayList<>(periods.size());
     for(Period period: periods) {      // 해당학생이 해당 교시에 출석을 한 적이 있는지 검증 없다면 엔티티 생성
-      Attendance attendance = attendanceRepository.findByMemberIdAndPeriodIdAndDate(
-              userDetails.getId(),
-              period.getId(), enterDateTime.toLocalDate())
-          .orElseGet(() -> new Attendance(null, null, null, null, null, period.getId(),
-              period.getCourseId(), userDetails.getId(), null, null, null));
+      Attendance attendance = getOrCreateAttendance(dayAttendances, period, userDetails.getId(),
+          null);
 
       attendance.updateEnterTime(enterDateTime);
 
@@ -719,8 +764,9 @@ public class AttendanceService {
       log.info("(입실)저장 전 Attendance 객체 확인 - ID: {}, enterTime: {}, status: {}", attendance.getId(),
           attendance.getEnterTime(), attendance.getStatus());
 
-      attendanceRepository.save(attendance);
+      toSave.add(attendance);
     }
+    saveDayAttendances(toSave);
 
 /*    // ✅ 저장 후 enterTime이 정상적으로 들어갔는지 확인
     Optional<Attendance> savedAttendance = attendanceRepository.findByMemberIdAndPeriodIdAndDate(
@@ -738,94 +784,41 @@ public class AttendanceService {
   }
 
   /**
-   * 이전 교시들을 자동으로 결석 처리하는 메서드
+   * 수강생의 하루 출석을 한 번에 조회 (교시 ID -> 출석)
+   * - 입실/퇴실/조퇴 처리에서 교시마다 조회하지 않도록 사용
    */
-  private void updatePreviousPeriodsToAbsent(CustomUserDetails userDetails, Period enterPeriod,
-      LocalDateTime enterDateTime, List<Period> allPeriods) {
-
-    // 모든 Period 에서 enterPeriod 의 시작 시간이 이전인 교시들만 필터링
-    List<Period> periodsBefore = allPeriods.stream()
-        .filter(p -> p.getStartTime().isBefore(enterPeriod.getStartTime()))
-        .toList();
-
-
-    for (Period period : periodsBefore) {
-      // 이전 교시의 출석 데이터가 있으면 가져오고, 없으면 새로 생성
-      Attendance prevAttendance = attendanceRepository.findByMemberIdAndPeriodIdAndDate(
-              userDetails.getId(), period.getId(), enterDateTime.toLocalDate())
-          .orElseGet(
-              () -> new Attendance(null, null, null, null, null, period.getId(),
-                  period.getCourseId(),
-                  userDetails.getId(), null, null, null));
-
-      // 이전 교시들은 모두 결석 처리
-      prevAttendance.updateStatus(AttendanceStatus.ABSENT);
-      attendanceRepository.save(prevAttendance);
+  private Map<Long, Attendance> loadDayAttendances(Long memberId, Long courseId, LocalDate date) {
+    Map<Long, Attendance> dayAttendances = new HashMap<>();
+    for (Attendance attendance : attendanceRepository.findByMemberIdAndCourseIdAndDate(memberId,
+        courseId, date)) {
+      dayAttendances.put(attendance.getPeriodId(), attendance);
     }
+    return dayAttendances;
   }
 
-  @Value("${attendance.network.allowed-ip-1}")
-  private String myIp1;
-  @Value("${attendance.network.allowed-ip-1}")
-  private String myIp2;
-  @Value("${attendance.network.allowed-ip-1}")
-  private String myIp3;
-  @Value("${attendance.network.allowed-ip-1}")
-  private String myIp4;
-
-  private boolean isWithinNetwork(String targetIp) {
-    // 학원 와이파이 네트워크 범위를 설정
-    // 192.168.1.0/24 네트워크 범위를 사용하는 경우
-    String[] allowedNetworks = {
-        "127.0.0.1/32", // 로컬, 추가 네트워크 범위가 있을 경우 추가 가능
-        "192.168.0.0/24", // 학원 네트워크(로컬네트워크)
-        "115.93.9.232/29",  // 학원 와이파이 공인 ip 115.93.9.232~239 범위 (115.93.9.234 포함)
-        "118.235.12.0/24",  // 118.235.12.x 범위 (118.235.12.207 포함)
-        "118.235.15.0/24",  // 118.235.15.x 범위 (118.235.15.114 포함)
-        myIp1,
-        myIp2,
-        myIp3,
-        myIp4,
-    };
-    log.debug("myIp1: {}, myIp2: {}, myIp3: {}, myIp4: {}",myIp1,myIp2,myIp3,myIp4);
-
-    try {
-      InetAddress targetAddress = InetAddress.getByName(targetIp);
-
-      for (String network : allowedNetworks) {
-        String[] parts = network.split("/");
-        InetAddress networkAddress = InetAddress.getByName(parts[0]);
-        int prefixLength = Integer.parseInt(parts[1]);
-
-        if (isInRange(targetAddress, networkAddress, prefixLength)) {
-          return true; // IP가 지정된 네트워크 범위 내에 있으면 true 반환
-        }
-      }
-    } catch (UnknownHostException e) {
-      log.error("허용 네트워크 감지 중 에러 발생: {}", e.getMessage());
+  // 해당 교시의 출석이 없으면 새 엔티티 생성 (저장은 saveDayAttendances 에서 일괄 처리)
+  private Attendance getOrCreateAttendance(Map<Long, Attendance> dayAttendances, Period period,
+      Long memberId, AttendanceStatus initialStatus) {
+    Attendance attendance = dayAttendances.get(period.getId());
+    if (attendance != null) {
+      return attendance;
     }
-
-    // 만약 클라이언트 IP가 어느 네트워크 범위에도 포함되지 않으면 false 반환
-    return false;
+    return new Attendance(null, initialStatus, null, null, null, period.getId(),
+        period.getCourseId(), memberId, null, null, null);
   }
 
-  private boolean isInRange(InetAddress target, InetAddress network, int prefixLength) {
-    byte[] targetBytes = target.getAddress();
-    byte[] networkBytes = network.getAddress();
-
-    int byteCount = prefixLength / 8;
-    int bitRemainder = prefixLength % 8;
-
-    for (int i = 0; i < byteCount; i++) {
-      if (targetBytes[i] != networkBytes[i]) return false;
-    }
-
-    if (bitRemainder > 0) {
-      int mask = (1 << (8 - bitRemainder)) - 1;
-      if ((targetBytes[byteCount] & ~mask) != (networkBytes[byteCount] & ~mask)) return false;
+  /**
+   * 하루 출석 일괄 저장
+   * - 새 출석은 JDBC batch insert 한 번으로 저장 (IDENTITY 전략이라 JPA 로는 batch 불가)
+   * - 기존 출석은 영속 상태이므로 변경 감지로 flush 시점에 update (hibernate.jdbc.batch_size 로 묶어서 전송)
+   */
+  private void saveDayAttendances(List<Attendance> attendances) {
+    List<Attendance> newAttendances = attendances.stream()
+        .filter(a -> a.getId() == null)
+        .toList();
+    if (!newAttendances.isEmpty()) {
+      attendanceBatchRepository.batchInsert(newAttendances, newAttendances.size());
     }
-
-    return true;
   }
 
   private String getClientIp(HttpServletRequest request) {
@@ -989,7 +982,7 @@ public class AttendanceService {
     log.info("main 에서 사용하기 위해 시간표 조회하기");
     log.debug("학생 ID: {}, 교육과정 ID: {}", userDetails.getId(), courseId);
 
-    List<Period> periods = periodRepository.getScheduleByCourseId(null, courseId);
+    List<Period> periods = periodCache.getWeekPeriods(courseId);
 
     log.debug(periods.toString());
 
@@ -997,30 +990,20 @@ public class AttendanceService {
   }
 
   @Transactional
-  public Map<String, Object> getStudentAttendanceRates(Long memberId, Long courseId) {
+  public AttendanceRateDto getStudentAttendanceRates(Long memberId, Long courseId) {
 
     log.info("출석률 조회 요청");
     log.debug("memberId: {}, courseId: {}",memberId,courseId);
 
     Course course = courseRepository.findCourseById(courseId);
-    LocalDate startDate = course.getStartDate();
-    LocalDate endDate = course.getEndDate();
-
-    List<AttendanceDailyStats> dailyStats = attendanceRepository.findAttendanceStatsByMemberAndCourse(memberId, courseId);
-    dailyStats.forEach(stat -> log.debug("학생-AttendanceDailyStats: {}", stat));
-
-    int year = startDate.getYear(); // 교육과정의 연도를 기준으로 공휴일 가져오기
-
-    log.debug("교육과정 기간 기준 연도: {}", year);
 
-    // ✅ 해당 연도의 공휴일 정보를 DB에서 가져오기
-    Set<LocalDate> holidays = holidayService.getHolidaysForYear(year);
-
-    return AttendanceCalculator.calculateAttendanceRates(dailyStats, startDate, endDate,holidays);
+    // 출석률 요약 테이블에서 조회 (출석 변경 시 차수 단위로 갱신됨)
+    return attendanceRateSummaryService.getAttendanceRates(course, memberId);
   }
 
 
-  public Map<Long, Map<String, Object>> getAllStudentsAttendanceRates(Long courseId) {
+  @Transactional
+  public Map<Long, AttendanceRateDto> getAllStudentsAttendanceRates(Long courseId) {
 
     log.info("관리자용 출석률 조회 요청 - Course ID: {}", courseId);
 
@@ -1029,55 +1012,12 @@ public class AttendanceService {
       log.warn("코스 ID {}에 해당하는 과정을 찾을 수 없습니다.", courseId);
       return new HashMap<>();
     }
-    LocalDate startDate = course.getStartDate();
-    LocalDate endDate = course.getEndDate();
 
-    // 해당 강좌의 모든 학생별 출석 데이터 조회
-    List<AttendanceDailyStats> dailyStatsList = attendanceRepository.findAttendanceStatsByCourse(courseId);
-    //dailyStatsList.forEach(stat -> log.debug("관리자-AttendanceDailyStats: {}", stat));
-    if (dailyStatsList.isEmpty()) {
+    // 학생별 출석률 (출석률 요약 테이블에서 조회)
+    Map<Long, AttendanceRateDto> studentAttendanceRates =
+        attendanceRateSummaryService.getAllAttendanceRates(course);
+    if (studentAttendanceRates.isEmpty()) {
       log.warn("과정 ID {}에 대한 출석 데이터가 없습니다.", courseId);
-      return new HashMap<>();
-    }
-
-    // 학생별 출석률 계산 결과를 저장할 Map
-    Map<Long, Map<String, Object>> studentAttendanceRates = new HashMap<>();
-
-    // 학생별로 데이터를 그룹화
-    Map<Long, List<AttendanceDailyStats>> groupedStats = dailyStatsList.stream()
-        .collect(Collectors.groupingBy(AttendanceDailyStats::getStudentId));
-
-    // 학생별 출석률 계산
-    for (Map.Entry<Long, List<AttendanceDailyStats>> entry : groupedStats.entrySet()) {
-      Long studentId = entry.getKey();
-      List<AttendanceDailyStats> studentStats = entry.getValue();
-
-      log.debug("학생 {} 출석률 계산 시작", studentId);
-
-      try {
-        int year = startDate.getYear(); // 교육과정의 연도를 기준으로 공휴일 가져오기
-        log.debug("(관리자) - 교육과정 기간 기준 연도: {}", year);
-
-        // 해당 연도의 공휴일 정보를 DB에서 가져오기
-        Set<LocalDate> holidays = holidayService.getHolidaysForYear(year);
-
-        Map<String, Object> attendanceRate = AttendanceCalculator.calculateAttendanceRates(
-            studentStats, startDate, endDate, holidays);
-        studentAttendanceRates.put(studentId, attendanceRate);
-
-        log.debug("학생 {} 출석률 계산 완료: {}", studentId, attendanceRate);
-      } catch (Exception e) {
-        // 예외 발생 시 해당 학생은 기본값으로 처리하고 다음 학생으로 넘어감
-        log.error("학생 {} 출석률 계산 중 오류 발생: {}", studentId, e.getMessage(), e);
-
-        Map<String, Object> defaultRate = Map.of(
-            "validAttendanceDays", 0,
-            "overallAttendanceRate", 0.0,
-            "twentyDayRate", 0.0,
-            "twentyDayRates", new ArrayList<>()
-        );
-        studentAttendanceRates.put(studentId, defaultRate);
-      }
     }
 
     return studentAttendanceRates;
@@ -1163,6 +1103,19 @@ public class AttendanceService {
     log.debug("시작일: {}", startDate);
     log.debug("종료일: {}", endDate);
 
+    // 해당 기간의 출석 데이터를 한 번에 조회해서 학생 -> 날짜 -> 교시 순으로 묶기
+    List<Tuple> gridTuples = attendanceRepository.findAttendanceGridByCourseIdAndDates(courseId,
+        startDate, endDate);
+    log.info("기간 내 출석 데이터 사이즈: {}", gridTuples.size());
+
+    Map<Long, Map<LocalDate, List<Tuple>>> attendanceGrid = new HashMap<>();
+    for (Tuple tuple : gridTuples) {
+      attendanceGrid
+          .computeIfAbsent(tuple.get(attendance.memberId), id -> new HashMap<>())
+          .computeIfAbsent(tuple.get(attendance.date), d -> new ArrayList<>())
+          .add(tuple);
+    }
+
     // 페이지별 데이터 생성 (5일씩 분할)
     List<AttendancePrintResponseDto.PrintAttendancePageDto> pages = new ArrayList<>();
 
@@ -1198,16 +1151,17 @@ public class AttendanceService {
         int earlyLeaveCount = 0;
         int absentCount = 0;
 
-        // 각 날짜별 출석 데이터 조회
+        Map<LocalDate, List<Tuple>> studentGrid = attendanceGrid.getOrDefault(student.getId(),
+            Map.of());
+
+        // 각 날짜별 출석 데이터 (미리 조회한 grid 에서 꺼내기)
         for (LocalDate date : pageDates) {
-          log.info("해당 날짜의 출석 데이터 조회: {}", date);
           AttendancePrintResponseDto.PrintDailyAttendanceDto dailyDto =
               AttendancePrintResponseDto.PrintDailyAttendanceDto.builder()
                   .date(date)
                   .build(); // 나머지 항목 업데이트하기
 
-          List<Tuple> attendances = attendanceRepository.findAttendanceStatusByStudentIdAndCourseIdAndDate(
-              student.getId(), courseId, date);
+          List<Tuple> attendances = studentGrid.getOrDefault(date, List.of());
 
           // 하루동안의 8교시 출석상태
           List<AttendancePrintResponseDto.PeriodAttendanceDto> periods = new ArrayList<>();
@@ -1218,6 +1172,10 @@ public class AttendanceService {
 
           // 하루동안의 8교시 출석상태
           for (Tuple tuple : attendances) {
+            // 삭제된 교시의 출석은 페이지에 출력하지 않음
+            if (tuple.get(period.id) == null || tuple.get(period.deletedBy) != null) {
+              continue;
+            }
 
             String status = Objects.requireNonNull(tuple.get(attendance.status)).toKorean();
             String periodName = tuple.get(period.name);
@@ -1297,8 +1255,8 @@ public class AttendanceService {
     }
 
     // 요약 페이지 생성
-    AttendancePrintResponseDto.SummaryPageDto summaryPage = createSummaryPage(students, courseId,
-        startDate, endDate, courseDates, termLabel);
+    AttendancePrintResponseDto.SummaryPageDto summaryPage = createSummaryPage(students,
+        attendanceGrid, courseDates);
 
     // 최종 응답 DTO 생성
     AttendancePrintResponseDto responseDto =
@@ -1317,9 +1275,8 @@ public class AttendanceService {
 
   }
 
-  private SummaryPageDto createSummaryPage(List<Member> students, Long courseId,
-      LocalDate startDate, LocalDate endDate,
-      List<LocalDate> courseDates, String termLabel) {
+  private SummaryPageDto createSummaryPage(List<Member> students,
+      Map<Long, Map<LocalDate, List<Tuple>>> attendanceGrid, List<LocalDate> courseDates) {
     log.info("프린트 마지막 장 요약본 메소드 진입");
 
     AttendancePrintResponseDto.SummaryPageDto summaryPage = new AttendancePrintResponseDto.SummaryPageDto();
@@ -1337,9 +1294,9 @@ public class AttendanceService {
               .build();
 
       // 한 사람당 기간 동안의 출석 정보 총 20일치
-      List<AttendanceDailyStats> dailyStats = attendanceRepository.findAttendanceStatsByStudentIdAndCourseIdAndDates(
-          student.getId(), courseId, startDate, endDate);
-      log.info("dailyStats 사이즈: {}", dailyStats.size());
+      List<AttendanceDailyStats> dailyStats = toDailyStats(student.getId(),
+          attendanceGrid.getOrDefault(student.getId(), Map.of()));
+      log.debug("dailyStats 사이즈: {}", dailyStats.size());
 
       Map<String, Object> twentyDayMap = calculateTwentyDayAttendanceRatesForPrint(dailyStats,
           courseDates);
@@ -1367,15 +1324,49 @@ public class AttendanceService {
 
   }
 
+  /**
+   * 학생 한 명의 날짜별 출석 row 들을 AttendanceDailyStats 로 집계 (findAttendanceStatsBy... 쿼리와 동일한 기준)
+   */
+  private List<AttendanceDailyStats> toDailyStats(Long studentId,
+      Map<LocalDate, List<Tuple>> studentGrid) {
+    List<AttendanceDailyStats> dailyStats = new ArrayList<>(studentGrid.size());
+
+    for (Map.Entry<LocalDate, List<Tuple>> entry : studentGrid.entrySet()) {
+      int total = 0;
+      int late = 0;
+      int absent = 0;
+      int earlyLeave = 0;
+
+      for (Tuple tuple : entry.getValue()) {
+        AttendanceStatus status = tuple.get(attendance.status);
+        if (status == null) {
+          continue;
+        }
+        total++;
+        switch (status) {
+          case LATE -> late++;
+          case ABSENT -> absent++;
+          case EARLY_LEAVE -> earlyLeave++;
+          default -> {
+          }
+        }
+      }
+      dailyStats.add(new AttendanceDailyStats(studentId, entry.getKey(), total, late, absent,
+          earlyLeave));
+    }
+
+    dailyStats.sort(Comparator.comparing(AttendanceDailyStats::getDate));
+    return dailyStats;
+  }
+
+  private static final Pattern PERIOD_NUMBER_PATTERN = Pattern.compile("\\d+");
+
   // 교시명에서 숫자 추출 (예: "1교시" -> 1)
   private int extractPeriodNumber(String periodName) {
-    log.info("교시명에서 숫자 추출하는 로직 시작");
     // 정규식으로 숫자만 추출
-    Pattern pattern = Pattern.compile("\\d+");  // \d 숫자 의미, + 1개 이상의 숫자가 연속될 경우 => 문자열에서 숫자 찾아냄
-    Matcher matcher = pattern.matcher(periodName);  // periodName 에서 숫자를 찾기
+    Matcher matcher = PERIOD_NUMBER_PATTERN.matcher(periodName);  // periodName 에서 숫자를 찾기
 
     if (matcher.find()) {
-      log.info("교시명에서 숫자 추출 성공: 교시명: {}, 숫자: {}", periodName, Integer.parseInt(matcher.group()));
       return Integer.parseInt(matcher.group()); // matcher.group() 찾은 숫자 부분을 문자열로 반환 후 정수로 변환
     }
 
@@ -1387,19 +1378,12 @@ public class AttendanceService {
    * cron 표현식: 초 분 시 일 월 요일
    */
   @Scheduled(cron = "0 0 23 * * MON-FRI")  // 월-금 11시에 실행
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED) // 과정별 트랜잭션은 AttendanceBatchService 에서 관리
   public void processUnmarkedAttendance() {
     log.info("미기록 출석 자동 처리 시작");
     LocalDate today = LocalDate.now();
     log.info("현재 날짜: {}", today);
 
-    int year = today.getYear(); // 교육과정의 연도를 기준으로 공휴일 가져오기
-
-    log.debug("오늘의 연도: {}", year);
-
-    // ✅ 해당 연도의 공휴일 정보를 DB에서 가져오기
-    Set<LocalDate> holidays = holidayService.getHolidaysForYear(year);
-
     /*
      * holidays나 주말일 경우 결석처리 생략
      * */
@@ -1409,7 +1393,7 @@ public class AttendanceService {
     boolean isWeekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
 
     // 공휴일 체크
-    boolean isHoliday = holidays.contains(today);
+    boolean isHoliday = !isWeekend && !holidayService.isWorkingDay(today);
 
     if (isWeekend || isHoliday) {
       if (isWeekend) {
@@ -1420,117 +1404,49 @@ public class AttendanceService {
       return; // 여기서 메소드 종료 - 이후 로직 실행하지 않음
     }
 
-    try {
-      // 오늘 날짜의 모든 활성 수업 조회
-      List<Course> todayCourses = courseRepository.findAllActiveCourses();
-      log.info("오늘의 활성 수업 수: {}", todayCourses.size());
-
-      for (Course course : todayCourses) {
-        // 해당 수업의 모든 학생 ID와 교시 조회
-        List<Long> studentIds = enrollRepository.findStudentIdByCourseId(course.getId());
-
-        String todayDayOfWeek = today.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.KOREAN); // 예: "월요일"
-        List<Period> periods = periodRepository.getScheduleByCourseId(todayDayOfWeek, course.getId());
-
-        log.info("수업 ID: {}, 학생 수: {}, 교시 수: {}",
-            course.getId(), studentIds.size(), periods.size());
-
-        for (Long studentId : studentIds) {
-          for (Period period : periods) {
-            // 해당 학생/교시에 대한 출석 기록이 있는지 확인
-            Optional<Attendance> attendanceOpt = attendanceRepository
-                .findByMemberIdAndDateAndPeriodId(studentId, today, period.getId());
-
-            if (attendanceOpt.isEmpty()) {
-              // 1. 출석 기록이 없는 경우: 결석 처리
-              AttendanceDTO dto = AttendanceDTO.builder()
-                  .memberId(studentId)
-                  .date(today)
-                  .periodId(period.getId())
-                  .courseId(course.getId())
-                  .status("ABSENT")
-                  .build();
-
-              Attendance attendance = toEntityForAbsent(dto);
-              attendanceRepository.save(attendance);
-              log.info("자동 결석 처리: 학생 ID={}, 날짜={}, 교시={}, 상태={}",
-                  studentId, today, period.getName(), "새 기록 생성");
-
-            } else {
-              // 기존 기록이 있는 경우
-              Attendance attendance = attendanceOpt.get();
-              boolean updated = false;
-
-              // 2. 출석 상태가 PENDING인 경우: 결석으로 변경하고 exitTime 업데이트
-              if (attendance.getStatus() == AttendanceStatus.PENDING) {
-                attendance.updateStatus(AttendanceStatus.ABSENT);
-                if (attendance.getExitTime() == null) {
-                  attendance.updateExitTime(LocalDateTime.now());
-                }
-                updated = true;
-              }
-              // 3. 출석 상태가 이미 있고(출석, 지각, 결석) exitTime이 null인 경우: exitTime만 업데이트
-              else if (attendance.getExitTime() == null) {
-                attendance.updateExitTime(LocalDateTime.now());
-                updated = true;
-              }
+    runAbsenceBatch(today);
+  }
 
-              if (updated) {
-                attendanceRepository.save(attendance);
-                log.info("자동 출석 기록 업데이트: 학생 ID={}, 날짜={}, 교시={}, 상태={}, exitTime={}",
-                    studentId, today, period.getName(), attendance.getStatus(), attendance.getExitTime());
-              }
-            }
-          }
-        }
+  /**
+   * 활성 과정 전체에 대해 특정 날짜의 결석 일괄 처리
+   * - 과정마다 별도 트랜잭션으로 커밋되므로 실패한 과정만 다시 실행하면 됨
+   */
+  private List<AbsenceBatchResultDto> runAbsenceBatch(LocalDate date) {
+    long startedAt = System.currentTimeMillis();
+
+    // 오늘 날짜의 모든 활성 수업 조회
+    List<Course> courses = courseRepository.findAllActiveCourses();
+    log.info("{} 결석 일괄 처리 - 활성 수업 수: {}", date, courses.size());
+
+    List<AbsenceBatchResultDto> results = new ArrayList<>(courses.size());
+    for (Course course : courses) {
+      long courseStartedAt = System.currentTimeMillis();
+      try {
+        results.add(attendanceBatchService.processCourse(course.getId(), date));
+      } catch (Exception e) {
+        log.error("수업 ID: {}, 날짜: {} 결석 처리 중 오류 발생 - 해당 수업만 롤백됩니다.",
+            course.getId(), date, e);
+        results.add(attendanceBatchService.failedResult(course.getId(), date, courseStartedAt, e));
       }
-      log.info("미기록 출석 자동 처리 완료");
-    } catch (Exception e) {
-      log.error("미기록 출석 자동 처리 중 오류 발생", e);
     }
-  }
 
-  private Attendance toEntityForAbsent(AttendanceDTO attendanceDTO){
-    log.info("attendanceDTO: {}",attendanceDTO);
-    return  new Attendance(
-        null,
-        attendanceDTO.getStatus() == null ? null : AttendanceStatus.fromENStatus(attendanceDTO.getStatus()),
-        attendanceDTO.getDate() == null ? null : attendanceDTO.getDate(),
-        null,
-        null,
-        attendanceDTO.getPeriodId(),
-        attendanceDTO.getCourseId(),
-        attendanceDTO.getMemberId(),
-        null,
-        LocalDateTime.now(),
-        LocalDateTime.now()
-    );
+    long failed = results.stream().filter(r -> !r.isSuccess()).count();
+    int inserted = results.stream().mapToInt(AbsenceBatchResultDto::getInsertedCount).sum();
+    int updated = results.stream().mapToInt(AbsenceBatchResultDto::getUpdatedCount).sum();
+    log.info("{} 결석 일괄 처리 완료 - 수업 수: {}, 실패: {}, 생성: {}, 수정: {}, 소요: {}ms",
+        date, results.size(), failed, inserted, updated, System.currentTimeMillis() - startedAt);
+
+    return results;
   }
 
   /**
    * 수동으로 특정 날짜의 미기록 출석을 처리하는 메소드
-   * 관리자 API에서 호출할 수 있습니다.
+   * 여러 날짜를 복구할 때는 AttendanceBackfillService 를 사용합니다.
    */
-  @Transactional
-  public void processUnmarkedAttendanceForDate(LocalDate date) {
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<AbsenceBatchResultDto> processUnmarkedAttendanceForDate(LocalDate date) {
     log.info("{}일 미기록 출석 수동 처리 시작", date);
-
-    // 위의 자동 처리와 동일한 로직을 수행하지만, 오늘 날짜 대신 지정된 날짜 사용
-    try {
-      List<Course> courses = courseRepository.findAllActiveCourses();
-
-      for (Course course : courses) {
-        List<Long> studentIds = enrollRepository.findStudentIdByCourseId(course.getId());
-        List<Period> periods = periodRepository.findByCourseId(course.getId());
-
-        // 나머지 로직은 위와 동일
-        // ...
-      }
-
-      log.info("{}일 미기록 출석 수동 처리 완료", date);
-    } catch (Exception e) {
-      log.error("{}일 미기록 출석 수동 처리 중 오류 발생", date, e);
-    }
+    return runAbsenceBatch(date);
   }
 
   /**
@@ -1556,7 +1472,10 @@ public class AttendanceService {
     }
 
     // 리포지토리에서 삭제 실행 및 결과 반환
-    return attendanceRepository.deleteAllAttendancesByDateAndStudentAndCourse(date, studentId, courseId);
+    DeleteResultDto result = attendanceRepository.deleteAllAttendancesByDateAndStudentAndCourse(
+        date, studentId, courseId);
+    attendanceRateSummaryService.refresh(courseId, studentId, date);
+    return result;
   }
 }
 
@@ -2,6 +2,7 @@ package com.syi.project.attendance.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.syi.project.attendance.HolidayCalendar;
 import com.syi.project.attendance.entity.Holiday;
 import com.syi.project.attendance.repository.HolidayRepository;
 import com.syi.project.common.enums.HolidayType;
@@ -13,7 +14,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +31,7 @@ public class HolidayService {
 
   private final WebClient webClient;
   private final HolidayRepository holidayRepository;
+  private final HolidayCalendar holidayCalendar;
 
   @Value("${public.api.service-key}")
   private String serviceKey;
@@ -73,6 +74,9 @@ public class HolidayService {
     }
 
     log.info("✅ {}년 공휴일 데이터 저장 완료!", year);
+
+    // 메모리 공휴일 달력 갱신
+    holidayCalendar.reload();
   }
 
   // API 호출 후 DB 저장
@@ -144,12 +148,14 @@ public class HolidayService {
         .orElse("평일");
   }
 
-  // ✅ 특정 연도의 공휴일 데이터를 DB에서 가져오기
+  // ✅ 특정 연도의 공휴일 데이터 가져오기 (메모리 달력에서 조회, DB 조회 없음)
   public Set<LocalDate> getHolidaysForYear(int year) {
-    return holidayRepository.findAll().stream()
-        .map(Holiday::getDate) // 해당 연도의 공휴일만 필터링
-        .filter(date -> date.getYear() == year)
-        .collect(Collectors.toSet());
+    return holidayCalendar.getHolidaysForYear(year);
+  }
+
+  // 주말, 공휴일이 아닌 날인지 확인
+  public boolean isWorkingDay(LocalDate date) {
+    return holidayCalendar.isWorkingDay(date);
   }
 
   // 매년 12월 31일 자동 업데이트 (스케줄러 실행)
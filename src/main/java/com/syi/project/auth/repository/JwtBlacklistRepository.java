@@ -2,6 +2,7 @@ package com.syi.project.auth.repository;
 
 import com.syi.project.auth.entity.JwtBlacklist;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -18,6 +19,22 @@ public interface JwtBlacklistRepository extends JpaRepository<JwtBlacklist, Long
    */
   Optional<JwtBlacklist> findByTokenIdAndTokenType(String tokenId, String tokenType);
 
+  /**
+   * 아직 만료되지 않은 블랙리스트 항목 조회 (서버 시작 시 메모리 캐시 적재용)
+   *
+   * @param date 기준 날짜/시간
+   * @return 블랙리스트 항목 목록
+   */
+  List<JwtBlacklist> findByExpiryDateAfter(LocalDateTime date);
+
+  /**
+   * id 이후에 추가된 블랙리스트 항목 조회 (다른 인스턴스에서 등록한 항목 동기화용)
+   *
+   * @param id 마지막으로 읽은 id
+   * @return 블랙리스트 항목 목록
+   */
+  List<JwtBlacklist> findByIdGreaterThan(long id);
+
   /**
    * 특정 IP 주소에서 발행된 블랙리스트 토큰 조회
    *
@@ -29,6 +29,10 @@ public class CustomUserDetails implements UserDetails {
     return List.of(new SimpleGrantedAuthority(roleWithPrefix));
   }
 
+  AuthUserDTO getAuthUser() {
+    return authUser;
+  }
+
   public Long getId() {
     return authUser.getId();
   }
@@ -3,20 +3,38 @@ package com.syi.project.auth.service;
 import com.syi.project.auth.dto.AuthUserDTO;
 import com.syi.project.auth.entity.Member;
 import com.syi.project.auth.repository.MemberRepository;
-import lombok.RequiredArgsConstructor;
+import com.syi.project.common.config.JwtClaims;
+import com.syi.project.common.enums.Role;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CustomUserDetailsService implements UserDetailsService {
 
   private final MemberRepository memberRepository;
 
+  // 인증된 사용자 정보 캐시 (key: 사용자 ID) - 요청마다 회원 조회하지 않도록 짧게 보관
+  private final Map<Long, CachedUser> principalCache = new ConcurrentHashMap<>();
+  private final long principalCacheTtlMillis;
+  // true 이면 DB 조회 없이 Access Token Claims 만으로 사용자 정보 생성
+  private final boolean claimsOnly;
+
+  public CustomUserDetailsService(MemberRepository memberRepository,
+      @Value("${jwt.principal-cache-ttl-seconds:60}") long principalCacheTtlSeconds,
+      @Value("${jwt.claims-only-principal:false}") boolean claimsOnly) {
+    this.memberRepository = memberRepository;
+    this.principalCacheTtlMillis = principalCacheTtlSeconds * 1000;
+    this.claimsOnly = claimsOnly;
+  }
 
   /**
    * 사용자 username 을 통해 사용자 정보를 조회하고 UserDetails 로 반환
@@ -65,4 +83,60 @@ public class CustomUserDetailsService implements UserDetailsService {
     AuthUserDTO authUser = AuthUserDTO.fromEntity(member);
     return new CustomUserDetails(authUser);
   }
+
+  /**
+   * Access Token Claims 로 인증 사용자 정보를 반환
+   * - claims-only 모드: Claims 만으로 생성 (username 은 토큰에 없으므로 null)
+   * - 기본 모드: 사용자 ID 기준 캐시 조회 후 없거나 만료되었으면 DB 조회
+   *
+   * @param claims 서명 검증을 마친 Access Token Claims
+   * @return UserDetails 객체
+   * @throws UsernameNotFoundException 사용자 정보를 찾을 수 없을 때 발생
+   */
+  public UserDetails loadUserByClaims(JwtClaims claims) throws UsernameNotFoundException {
+    if (claimsOnly) {
+      return new CustomUserDetails(new AuthUserDTO(claims.getMemberId(), null, claims.getName(),
+          Role.valueOf(claims.getRole())));
+    }
+
+    Long id = claims.getMemberId();
+    long now = System.currentTimeMillis();
+    CachedUser cached = principalCache.get(id);
+    if (cached != null && cached.expiresAt > now) {
+      return new CustomUserDetails(cached.authUser);
+    }
+
+    CustomUserDetails userDetails = (CustomUserDetails) loadUserById(id);
+    principalCache.put(id, new CachedUser(userDetails.getAuthUser(), now + principalCacheTtlMillis));
+    return userDetails;
+  }
+
+  /**
+   * 회원 정보(역할, 승인 상태, 탈퇴 등) 변경 시 캐시된 사용자 정보 제거
+   * - 트랜잭션 안에서 호출되면 커밋 이후에 제거해서 변경 전 정보가 다시 캐시되지 않도록 함
+   *
+   * @param id 사용자 기본키 ID
+   */
+  public void evictUser(Long id) {
+    principalCache.remove(id);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          principalCache.remove(id);
+        }
+      });
+    }
+  }
+
+  private static final class CachedUser {
+
+    private final AuthUserDTO authUser;
+    private final long expiresAt;
+
+    private CachedUser(AuthUserDTO authUser, long expiresAt) {
+      this.authUser = authUser;
+      this.expiresAt = expiresAt;
+    }
+  }
 }
@@ -1,14 +1,30 @@
 package com.syi.project.auth.service;
 
+import com.syi.project.auth.entity.JwtBlacklist;
 import com.syi.project.auth.repository.JwtBlacklistRepository;
+import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * JWT 블랙리스트 관리
+ * - DB(JwtBlacklist)를 원본으로 두고, 만료 전 항목만 메모리에 올려서 요청마다 DB 를 조회하지 않음
+ * - 블랙리스트에 없는 토큰(대부분의 요청)은 메모리 조회만으로 끝남
+ * - 항목은 토큰 만료 시각이 지나면 조회 시점에 제거됨 (만료된 토큰은 서명 검증 단계에서 이미 거부됨)
+ * - 다중 인스턴스: 다른 서버에서 등록한 항목은 주기적으로(sync-interval-ms) 새로 추가된 row 만 읽어서 반영
+ *   (커밋 순서가 id 순서와 다를 수 있으므로 최근 SYNC_LOOKBACK_ROUNDS 회 동안 읽은 범위는 다시 읽음)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -16,12 +32,99 @@ public class JwtBlacklistService {
 
   private final JwtBlacklistRepository jwtBlacklistRepository;
 
+  // 동기화 시 다시 읽는 이전 회차 수 (5초 간격이면 약 1분)
+  private static final int SYNC_LOOKBACK_ROUNDS = 12;
+
+  // key: "토큰타입:jti", value: 토큰 만료 시각
+  private final Map<String, LocalDateTime> revokedTokens = new ConcurrentHashMap<>();
+  // 최근 동기화 회차별로 읽은 최대 id (가장 오래된 값부터 다시 읽음, 스케줄러 스레드에서만 사용)
+  private final Deque<Long> syncedMaxIds = new ArrayDeque<>();
+
+  @PostConstruct
+  public void loadBlacklist() {
+    List<JwtBlacklist> entries = jwtBlacklistRepository.findByExpiryDateAfter(LocalDateTime.now());
+    entries.forEach(entry -> revokedTokens.put(key(entry.getTokenId(), entry.getTokenType()),
+        entry.getExpiryDate()));
+    syncedMaxIds.addLast(entries.stream().mapToLong(JwtBlacklist::getId).max().orElse(0L));
+    log.info("JWT 블랙리스트 메모리 적재 완료 - {}건", revokedTokens.size());
+  }
+
+  /**
+   * 다른 인스턴스에서 등록한 블랙리스트 항목 반영
+   * - 최근 회차에서 읽은 범위부터 새로 추가된 row 만 조회
+   */
+  @Scheduled(fixedDelayString = "${jwt.blacklist-sync-interval-ms:5000}")
+  public void syncBlacklist() {
+    long fromId = syncedMaxIds.isEmpty() ? 0L : syncedMaxIds.peekFirst();
+    long maxId = syncedMaxIds.isEmpty() ? 0L : syncedMaxIds.peekLast();
+    LocalDateTime now = LocalDateTime.now();
+    try {
+      for (JwtBlacklist entry : jwtBlacklistRepository.findByIdGreaterThan(fromId)) {
+        maxId = Math.max(maxId, entry.getId());
+        if (entry.getExpiryDate().isAfter(now)) {
+          revokedTokens.put(key(entry.getTokenId(), entry.getTokenType()), entry.getExpiryDate());
+        }
+      }
+    } catch (RuntimeException e) {
+      log.error("JWT 블랙리스트 동기화 실패 - fromId: {}, error: {}", fromId, e.getMessage());
+      return;
+    }
+
+    syncedMaxIds.addLast(maxId);
+    while (syncedMaxIds.size() > SYNC_LOOKBACK_ROUNDS) {
+      syncedMaxIds.removeFirst();
+    }
+  }
+
+  /**
+   * 토큰을 블랙리스트에 등록 (DB 저장 후 메모리에 반영)
+   *
+   * @param blacklist 등록할 블랙리스트 항목
+   */
+  @Transactional
+  public void blacklist(JwtBlacklist blacklist) {
+    jwtBlacklistRepository.save(blacklist);
+    revokedTokens.put(key(blacklist.getTokenId(), blacklist.getTokenType()),
+        blacklist.getExpiryDate());
+  }
+
+  /**
+   * 토큰이 블랙리스트에 포함되어 있는지 확인 (DB 조회 없음, 다른 인스턴스의 등록은 동기화 주기 이내에 반영)
+   *
+   * @param tokenId   JWT 토큰의 jti
+   * @param tokenType 토큰 유형 (ACCESS/REFRESH)
+   * @return 블랙리스트에 포함 여부
+   */
+  public boolean isBlacklisted(String tokenId, String tokenType) {
+    if (tokenId == null) {
+      return false;
+    }
+    String key = key(tokenId, tokenType);
+    LocalDateTime expiryDate = revokedTokens.get(key);
+    if (expiryDate == null) {
+      return false;
+    }
+    if (expiryDate.isBefore(LocalDateTime.now())) {
+      revokedTokens.remove(key, expiryDate);
+      return false;
+    }
+    return true;
+  }
+
   @Transactional
   public void cleanupExpiredTokens() {
     LocalDateTime nowKST = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
     log.info("만료된 Access Token 삭제 작업 시작 - 현재 시각: {}", nowKST);
     int deletedCount = jwtBlacklistRepository.deleteByExpiryDateBefore(nowKST);
     log.info("만료된 Access Token {}개 삭제 완료", deletedCount);
+
+    // 조회되지 않은 채 만료된 항목 정리
+    LocalDateTime now = LocalDateTime.now();
+    revokedTokens.values().removeIf(expiryDate -> expiryDate.isBefore(now));
+  }
+
+  private static String key(String tokenId, String tokenType) {
+    return tokenType + ":" + tokenId;
   }
 
 }
@@ -3,7 +3,6 @@ package com.syi.project.auth.service;
 import com.syi.project.auth.entity.JwtBlacklist;
 import com.syi.project.auth.entity.Member;
 import com.syi.project.auth.entity.RefreshToken;
-import com.syi.project.auth.repository.JwtBlacklistRepository;
 import com.syi.project.auth.repository.MemberRepository;
 import com.syi.project.auth.repository.RefreshTokenRepository;
 import com.syi.project.common.config.JwtProvider;
@@ -26,7 +25,7 @@ public class JwtService {
   private final JwtProvider jwtProvider;
   private final MemberRepository memberRepository;
   private final RefreshTokenRepository refreshTokenRepository;
-  private final JwtBlacklistRepository jwtBlacklistRepository;
+  private final JwtBlacklistService jwtBlacklistService;
 
   /**
    * Refresh Token을 이용하여 새로운 Access Token을 발급
@@ -113,7 +112,7 @@ public class JwtService {
     }
 
     // 이미 블랙리스트에 있는지 확인
-    if (jwtBlacklistRepository.findByTokenIdAndTokenType(tokenId, "ACCESS").isPresent()) {
+    if (jwtBlacklistService.isBlacklisted(tokenId, "ACCESS")) {
       log.info("이미 블랙리스트에 등록된 토큰 - Token ID: {}", tokenId);
       return;
     }
@@ -121,7 +120,7 @@ public class JwtService {
     LocalDateTime expiryDate = jwtProvider.getExpirationDate(token);
 
     // 블랙리스트에 추가 (디바이스 정보 포함)
-    jwtBlacklistRepository.save(JwtBlacklist.builder()
+    jwtBlacklistService.blacklist(JwtBlacklist.builder()
         .tokenId(tokenId)
         .expiryDate(expiryDate)
         .tokenType("ACCESS")
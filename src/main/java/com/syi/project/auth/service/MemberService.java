@@ -12,7 +12,6 @@ import com.syi.project.auth.dto.PasswordResetResponseDTO;
 import com.syi.project.auth.entity.JwtBlacklist;
 import com.syi.project.auth.entity.Member;
 import com.syi.project.auth.entity.RefreshToken;
-import com.syi.project.auth.repository.JwtBlacklistRepository;
 import com.syi.project.auth.repository.MemberRepository;
 import com.syi.project.auth.repository.RefreshTokenRepository;
 import com.syi.project.common.config.JwtProvider;
@@ -45,7 +44,8 @@ public class MemberService {
   private final JwtProvider jwtProvider;
   private final MemberRepository memberRepository;
   private final RefreshTokenRepository refreshTokenRepository;
-  private final JwtBlacklistRepository jwtBlacklistRepository;
+  private final JwtBlacklistService jwtBlacklistService;
+  private final CustomUserDetailsService customUserDetailsService;
 
   // 아이디 중복 검사
   public DuplicateCheckDTO checkUsernameDuplicate(String username) {
@@ -176,7 +176,7 @@ public class MemberService {
     if (accessToken != null && jwtProvider.validateAccessToken(accessToken)) {
       String tokenId = jwtProvider.getJti(accessToken);
       LocalDateTime expiryDate = jwtProvider.getExpirationDate(accessToken);
-      jwtBlacklistRepository.save(new JwtBlacklist(tokenId, expiryDate, "ACCESS"));
+      jwtBlacklistService.blacklist(new JwtBlacklist(tokenId, expiryDate, "ACCESS"));
       log.info("Access Token 블랙리스트 등록 - Token ID: {}, Expiry: {}", tokenId, expiryDate);
     } else {
       log.warn("유효하지 않은 Access Token - 로그아웃 처리 건너뜀");
@@ -231,6 +231,7 @@ public class MemberService {
         });
 
     member.updateCheckStatus(newStatus);
+    customUserDetailsService.evictUser(id);
     log.info("회원 승인 상태 업데이트 완료 - 회원 ID: {}, 새로운 상태: {}", id, newStatus);
   }
 
@@ -243,6 +244,7 @@ public class MemberService {
           return new InvalidRequestException(ErrorCode.USER_NOT_FOUND);
         });
     member.updateRole(newRole);
+    customUserDetailsService.evictUser(id);
     log.info("역할 변경 완료 - 회원 ID: {}, 새로운 역할: {}", id, newRole);
   }
   
@@ -287,6 +289,7 @@ public class MemberService {
       }
       member.updateEmail(requestDTO.getEmail());
     }
+    customUserDetailsService.evictUser(memberId);
 
     return MemberDTO.fromEntity(member);
   }
@@ -323,6 +326,7 @@ public class MemberService {
         requestDTO.getRole(),
         requestDTO.getCheckStatus()
     );
+    customUserDetailsService.evictUser(memberId);
 
     log.info("관리자에 의한 회원 정보 수정 완료 - 회원 ID: {}", memberId);
     return MemberDTO.fromEntity(member);
@@ -342,6 +346,7 @@ public class MemberService {
 
     member.updatePassword(encodedPassword);
     member.setPasswordChangeRequired(true);
+    customUserDetailsService.evictUser(memberId);
 
     log.info("회원 비밀번호 초기화 완료 - 회원 ID: {}", memberId);
 
@@ -401,6 +406,7 @@ public class MemberService {
     }
 
     member.deactivate(memberId);
+    customUserDetailsService.evictUser(memberId);
     log.info("회원 자체 탈퇴 처리 완료 - 회원 ID: {}", memberId);
   }
 
@@ -422,6 +428,7 @@ public class MemberService {
 
     member.updateCheckStatus(CheckStatus.N);
     member.deactivate(adminId);
+    customUserDetailsService.evictUser(memberId);
 
     log.info("관리자에 의한 회원 탈퇴 처리 완료 - 회원 ID: {}, 관리자 ID: {}", memberId, adminId);
   }
@@ -0,0 +1,140 @@
+package com.syi.project.club;
+
+import com.syi.project.club.dto.ClubResponseDTO;
+import com.syi.project.common.entity.Criteria;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 동아리 목록(페이지) 캐시
+ * - 키: 반 번호 + 검색 조건 + 페이지 (LRU, 최대 max-size 개)
+ * - 등록/수정/승인/삭제 시 evict(courseId) 로 해당 반의 목록을 모두 무효화 (트랜잭션 종료 후 한 번 더 제거)
+ * - 작성자/승인자 이름 변경 등 동아리 밖의 변경은 ttl-seconds 이내에 반영
+ */
+@Slf4j
+@Component
+public class ClubListCache {
+
+    private final long ttlMillis;
+    private final Map<ListKey, CachedPage> pages;
+    // 무효화 횟수 (조회 중에 무효화되면 조회 결과를 캐시에 넣지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    public ClubListCache(@Value("${club.list-cache.ttl-seconds:60}") long ttlSeconds,
+                         @Value("${club.list-cache.max-size:1000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.pages = Collections.synchronizedMap(
+                new LinkedHashMap<>(256, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<ListKey, CachedPage> eldest) {
+                        return size() > maxSize;
+                    }
+                });
+    }
+
+    /**
+     * 캐시된 목록을 반환하고, 없으면 loader 로 조회해서 저장
+     *
+     * @param cri      검색 조건 (페이지 번호, 페이지 크기, 검색 타입, 키워드)
+     * @param courseId 반 번호
+     * @param loader   목록 조회
+     * @return 동아리 목록 페이지
+     */
+    public Page<ClubResponseDTO.ClubList> get(Criteria cri, Long courseId,
+                                              Supplier<Page<ClubResponseDTO.ClubList>> loader) {
+        ListKey key = new ListKey(courseId, cri);
+        CachedPage cached = pages.get(key);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.page;
+        }
+
+        long loadedAt = generation.get();
+        Page<ClubResponseDTO.ClubList> page = loader.get();
+        if (generation.get() == loadedAt) {
+            pages.put(key, new CachedPage(page, System.currentTimeMillis() + ttlMillis));
+        }
+        return page;
+    }
+
+    /**
+     * 반의 동아리 목록 캐시 무효화
+     *
+     * @param courseId 반 번호
+     */
+    public void evict(Long courseId) {
+        remove(courseId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(courseId);
+                }
+            });
+        }
+        log.debug("동아리 목록 캐시 무효화 - courseId: {}", courseId);
+    }
+
+    private void remove(Long courseId) {
+        generation.incrementAndGet();
+        synchronized (pages) {
+            pages.keySet().removeIf(key -> Objects.equals(key.courseId, courseId));
+        }
+    }
+
+    private static final class ListKey {
+
+        private final Long courseId;
+        private final int pageNum;
+        private final int amount;
+        private final String type;
+        private final String keyword;
+
+        private ListKey(Long courseId, Criteria cri) {
+            this.courseId = courseId;
+            this.pageNum = cri.getPageNum();
+            this.amount = cri.getAmount();
+            this.type = cri.getType();
+            this.keyword = cri.getKeyword();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ListKey other)) {
+                return false;
+            }
+            return pageNum == other.pageNum && amount == other.amount
+                    && Objects.equals(courseId, other.courseId)
+                    && Objects.equals(type, other.type)
+                    && Objects.equals(keyword, other.keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courseId, pageNum, amount, type, keyword);
+        }
+    }
+
+    private static final class CachedPage {
+
+        private final Page<ClubResponseDTO.ClubList> page;
+        private final long expiresAt;
+
+        private CachedPage(Page<ClubResponseDTO.ClubList> page, long expiresAt) {
+            this.page = page;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
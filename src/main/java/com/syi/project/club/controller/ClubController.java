@@ -11,6 +11,7 @@ import com.syi.project.club.dto.ClubResponseDTO;
 import com.syi.project.club.entity.Club;
 import com.syi.project.club.service.ClubService;
 import com.syi.project.common.config.JwtProvider;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.common.dto.PageInfoDTO;
 import com.syi.project.common.entity.Criteria;
 import com.syi.project.common.enums.CheckStatus;
@@ -159,6 +160,22 @@ public class ClubController {
         return ResponseEntity.ok(response);
     }
 
+    // 커서 기반 club 목록 조회 (작성일, 코드번호 내림차순 / 첫 목록은 cursor 없이 요청, 이후 응답의 nextCursor 전달)
+    @GetMapping("/{courseId}/list/cursor")
+    public ResponseEntity<CursorPageDTO<ClubResponseDTO.ClubList>> getClubListByCursor(@PathVariable("courseId") Long courseId,
+                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                     @RequestParam(value = "size", defaultValue = "20") int size,
+                                                     @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal,
+                                                     @RequestParam(value = "type", required = false) String type,
+                                                     @RequestParam(value = "keyword", required = false) String keyword) {
+        Criteria cri = new Criteria();
+        cri.setType(type);
+        cri.setKeyword(keyword);
+
+        return ResponseEntity.ok(clubService.getClubListByCursor(cri, courseId, cursor,
+                Math.min(Math.max(size, 1), 100), includeTotal));
+    }
+
     // 페이지 정보 반환 (Pageable에서 제공하는 기본 정보 사용)
 //    private Map<String, Object> getPageInfo(Page<ClubResponseDTO.ClubList> clubPage) {
 //        Map<String, Object> pageInfo = new HashMap<>();
@@ -7,6 +7,7 @@ import com.syi.project.club.dto.ClubResponseDTO;
 import com.syi.project.club.entity.Club;
 import com.syi.project.club.service.ClubService;
 import com.syi.project.common.config.JwtProvider;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.common.dto.PageInfoDTO;
 import com.syi.project.common.entity.Criteria;
 import com.syi.project.common.enums.CheckStatus;
@@ -31,6 +32,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -103,6 +105,23 @@ public class AdminClubController {
         return ResponseEntity.ok(response);
     }
 
+    // 커서 기반 club 목록 조회 (작성일, 코드번호 내림차순 / 첫 목록은 cursor 없이 요청, 이후 응답의 nextCursor 전달)
+    @GetMapping("/{courseId}/list/cursor")
+    public ResponseEntity<CursorPageDTO<ClubResponseDTO.ClubList>> getClubListByCursor(@PathVariable("courseId") Long courseId,
+                                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                                     @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                     @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal,
+                                                                     @RequestParam(value = "status", required = false) String status) {
+        Criteria cri = new Criteria();
+        if (status != null && !status.equals("ALL")) {
+            cri.setType("C");
+            cri.setKeyword(status);
+        }
+
+        return ResponseEntity.ok(clubService.getClubListByCursor(cri, courseId, cursor,
+                Math.min(Math.max(size, 1), 100), includeTotal));
+    }
+
     // 페이지 정보 반환 (Pageable에서 제공하는 기본 정보 사용)
 //    private Map<String, Object> getPageInfo(Page<ClubResponseDTO.ClubList> clubPage) {
 //        Map<String, Object> pageInfo = new HashMap<>();
@@ -188,7 +207,7 @@ public class AdminClubController {
 
     @Operation(summary = "클럽 파일 일괄 다운로드")
     @PostMapping("/download-batch")
-    public ResponseEntity<Resource> downloadClubFilesBatch(
+    public ResponseEntity<StreamingResponseBody> downloadClubFilesBatch(
       @RequestBody List<Long> clubIds,
       @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
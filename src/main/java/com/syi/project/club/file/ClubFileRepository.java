@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +14,9 @@ public interface ClubFileRepository extends JpaRepository<ClubFile, Long> {
 
     List<ClubFile> findByClubId(Long id);
 
+    // 목록 화면용: 여러 동아리의 첨부파일을 파일, 업로드한 회원(FileResponseDTO 의 uploadedBy 이름)과 함께 한 번에 조회
+    @Query("SELECT cf FROM ClubFile cf JOIN FETCH cf.file f LEFT JOIN FETCH f.uploadedBy "
+            + "WHERE cf.club.id IN :clubIds ORDER BY cf.id")
+    List<ClubFile> findWithFileByClubIdIn(@Param("clubIds") Collection<Long> clubIds);
+
 }
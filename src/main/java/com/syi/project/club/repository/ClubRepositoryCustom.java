@@ -6,8 +6,16 @@ import com.syi.project.common.entity.Criteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.List;
+
 public interface ClubRepositoryCustom {
 
     // 클래스 번호(courseId)에 해당하는 동아리 목록을 페이징 처리하여 조회
     Page<Club> findClubListByCourseId(Criteria cri, Long courseId, Pageable pageable);
+
+    // 커서 조회 (작성일, 코드번호 내림차순 / cursorRegDate 가 null 이면 처음부터)
+    List<Club> findClubListByCourseIdAfter(Criteria cri, Long courseId, LocalDate cursorRegDate, Long cursorId, int limit);
+
+    long countClubListByCourseId(Criteria cri, Long courseId);
 }
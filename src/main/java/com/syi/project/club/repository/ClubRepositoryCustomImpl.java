@@ -19,6 +19,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -40,6 +41,55 @@ public class ClubRepositoryCustomImpl implements ClubRepositoryCustom {
     @Override
     public Page<Club> findClubListByCourseId(Criteria cri, Long courseId, Pageable pageable) {
 
+        BooleanBuilder builder = buildCondition(cri, courseId);
+
+        // 동아리 목록을 쿼리하고 페이징 처리
+        // 작성일 내림차순, 활동일 내림차순으로 정렬
+        List<Club> clubs = queryFactory.selectFrom(club)
+                .where(builder) // 조건을 BooleanBuilder로 설정
+                .orderBy(
+                    club.regDate.desc(), // 작성일 내림차순
+                    club.studyDate.desc() // 활동일 내림차순
+                )
+                .offset(pageable.getOffset()) // 페이징 처리
+                .limit(pageable.getPageSize()) // 페이지 크기
+                .fetch(); // 결과 가져오기
+
+        // 전체 동아리 수 조회
+        long total = countClubListByCourseId(cri, courseId);
+
+        return new PageImpl<>(clubs, pageable, total); // 결과를 페이징 처리하여 반환
+    }
+
+    // 커서 조회 (작성일, 코드번호 내림차순 / cursorRegDate 가 null 이면 처음부터)
+    // - 활동일은 유일하지 않아 커서 키로 쓸 수 없으므로 같은 작성일 안에서는 코드번호로 정렬
+    @Override
+    public List<Club> findClubListByCourseIdAfter(Criteria cri, Long courseId,
+                                                  LocalDate cursorRegDate, Long cursorId, int limit) {
+        BooleanBuilder builder = buildCondition(cri, courseId);
+        if (cursorRegDate != null && cursorId != null) {
+            builder.and(club.regDate.lt(cursorRegDate)
+                    .or(club.regDate.eq(cursorRegDate).and(club.id.lt(cursorId))));
+        }
+
+        return queryFactory.selectFrom(club)
+                .where(builder)
+                .orderBy(club.regDate.desc(), club.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countClubListByCourseId(Criteria cri, Long courseId) {
+        Long count = queryFactory.select(club.count())
+                .from(club)
+                .where(buildCondition(cri, courseId))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    // 클래스 번호(courseId)와 검색 조건(cri)으로 조회 조건 생성
+    private BooleanBuilder buildCondition(Criteria cri, Long courseId) {
         BooleanBuilder builder = new BooleanBuilder();
 
         // 클래스 번호(courseId)에 따른 필터링
@@ -82,24 +132,7 @@ public class ClubRepositoryCustomImpl implements ClubRepositoryCustom {
             }
         }
 
-        // 동아리 목록을 쿼리하고 페이징 처리
-        // 작성일 내림차순, 활동일 내림차순으로 정렬
-        List<Club> clubs = queryFactory.selectFrom(club)
-                .where(builder) // 조건을 BooleanBuilder로 설정
-                .orderBy(
-                    club.regDate.desc(), // 작성일 내림차순
-                    club.studyDate.desc() // 활동일 내림차순
-                )
-                .offset(pageable.getOffset()) // 페이징 처리
-                .limit(pageable.getPageSize()) // 페이지 크기
-                .fetch(); // 결과 가져오기
-
-        // 전체 동아리 수 조회
-        long total = queryFactory.selectFrom(club)
-                .where(builder)
-                .fetchCount(); // 전체 개수 조회
-
-        return new PageImpl<>(clubs, pageable, total); // 결과를 페이징 처리하여 반환
+        return builder;
     }
 
 }
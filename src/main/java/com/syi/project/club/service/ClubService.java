@@ -2,6 +2,7 @@ package com.syi.project.club.service;
 
 import com.syi.project.auth.entity.Member;
 import com.syi.project.auth.repository.MemberRepository;
+import com.syi.project.club.ClubListCache;
 import com.syi.project.club.controller.ClubController;
 import com.syi.project.club.dto.ClubRequestDTO;
 import com.syi.project.club.dto.ClubResponseDTO;
@@ -9,10 +10,12 @@ import com.syi.project.club.entity.Club;
 import com.syi.project.club.file.ClubFile;
 import com.syi.project.club.file.ClubFileRepository;
 import com.syi.project.club.repository.ClubRepository;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.common.entity.Criteria;
 import com.syi.project.common.enums.CheckStatus;
 import com.syi.project.common.exception.ErrorCode;
 import com.syi.project.common.exception.InvalidRequestException;
+import com.syi.project.common.utils.CursorCodec;
 import com.syi.project.common.utils.S3Uploader;
 import com.syi.project.file.dto.FileDownloadDTO;
 import com.syi.project.file.dto.FileResponseDTO;
@@ -36,6 +39,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -44,12 +48,15 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -69,6 +76,8 @@ public class ClubService {
     private final FileService fileService;
     @Autowired
     private final S3Uploader s3Uploader;
+    @Autowired
+    private final ClubListCache clubListCache;
 
     private static final Logger log = LoggerFactory.getLogger(ClubController.class);
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("hwp", "hwpx", "docx", "doc");
@@ -79,6 +88,7 @@ public class ClubService {
                                                Long courseId, LocalDate regDate, CheckStatus checkStatus) {
         Club club = clubDTO.toEntity(writerId, courseId, regDate, checkStatus);
         club = clubRepository.save(club);
+        clubListCache.evict(courseId);
 
         return ClubResponseDTO.ClubList.toListDTO(club, getMemberName(writerId), null, null);
     }
@@ -93,7 +103,10 @@ public class ClubService {
     public Page<ClubResponseDTO.ClubList> getClubListWithPaging(Criteria cri, Long courseId) {
         // Pageable 객체 생성 (cri에서 pageNum과 amount 가져오기)
         Pageable pageable = cri.getPageable();
-        return clubRepository.findClubListByCourseId(cri, courseId, pageable).map(this::toClubListDTO);
+        return clubListCache.get(cri, courseId, () -> {
+            Page<Club> clubs = clubRepository.findClubListByCourseId(cri, courseId, pageable);
+            return new PageImpl<>(toClubListDTOs(clubs.getContent()), pageable, clubs.getTotalElements());
+        });
 
         //System.out.println("service: " + clubRepository.findClubListByCourseId(cri, courseId, pageable));
         //페이징과 조건에 맞는 동아리 목록 조회
@@ -120,29 +133,56 @@ public class ClubService {
 //                 });
     }
 
-    //페이징DTO변환
-    @Transactional
-    private ClubResponseDTO.ClubList toClubListDTO(Club club) {
-        ClubFile clubFile = clubFileRepository.findByClubId(club.getId()).stream().findFirst().orElse(null);
-        FileResponseDTO savedFile = null;
+    //리스트(커서)
+    // - 작성일, 코드번호 내림차순으로 cursor 다음 size 건 조회 (전체 건수는 includeTotal 일 때만 조회)
+    public CursorPageDTO<ClubResponseDTO.ClubList> getClubListByCursor(Criteria cri, Long courseId,
+                                                                       String cursor, int size, boolean includeTotal) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        LocalDate cursorRegDate = parts != null ? CursorCodec.parse(parts[0], LocalDate::parse) : null;
+        Long cursorId = parts != null ? CursorCodec.parse(parts[1], Long::valueOf) : null;
 
-        if (clubFile != null) {
-            File file = clubFile.getFile();
-            if(file != null){
-                savedFile = FileResponseDTO.from(file, s3Uploader);
-            }
+        List<Club> clubs = clubRepository.findClubListByCourseIdAfter(cri, courseId, cursorRegDate, cursorId, size + 1);
+        Long total = includeTotal ? clubRepository.countClubListByCourseId(cri, courseId) : null;
+
+        return CursorPageDTO.of(clubs, size, club -> CursorCodec.encode(club.getRegDate(), club.getId()), total)
+                .mapContent(this::toClubListDTOs);
+    }
+
+    //페이징DTO변환
+    // - 첨부파일(파일 포함)과 작성자/승인자 이름을 목록 전체에 대해 IN 쿼리 한 번씩으로 조회
+    private List<ClubResponseDTO.ClubList> toClubListDTOs(List<Club> clubs) {
+        if (clubs.isEmpty()) {
+            return List.of();
         }
 
-//        List<String> fileIcons = clubFiles.stream()
-//                .map(clubFile -> {
-//                    File file = fileRepository.findById(clubFile.getFileId()).orElse(null);
-//                    return (file != null && file.getPath() != null && !file.getPath().isEmpty()) ? "clip_icon" : "";
-//                }).collect(Collectors.toList());
+        List<Long> clubIds = clubs.stream().map(Club::getId).toList();
+        Map<Long, FileResponseDTO> filesByClubId = new HashMap<>();
+        for (ClubFile clubFile : clubFileRepository.findWithFileByClubIdIn(clubIds)) {
+            filesByClubId.putIfAbsent(clubFile.getClub().getId(),
+                    FileResponseDTO.from(clubFile.getFile(), s3Uploader));
+        }
 
-        String writer = getMemberName(club.getWriterId());
-        String checker = club.getCheckerId() != null ? getMemberName(club.getCheckerId()) : null;
+        Set<Long> memberIds = new HashSet<>();
+        for (Club club : clubs) {
+            memberIds.add(club.getWriterId());
+            if (club.getCheckerId() != null) {
+                memberIds.add(club.getCheckerId());
+            }
+        }
+        memberIds.remove(null);
+        Map<Long, String> memberNames = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Member::getName));
 
-        return ClubResponseDTO.ClubList.toListDTO(club, writer, checker, savedFile);
+        List<ClubResponseDTO.ClubList> result = new ArrayList<>(clubs.size());
+        for (Club club : clubs) {
+            String writer = club.getWriterId() != null
+                    ? memberNames.getOrDefault(club.getWriterId(), "Unknown") : null;
+            String checker = club.getCheckerId() != null
+                    ? memberNames.getOrDefault(club.getCheckerId(), "Unknown") : null;
+            result.add(ClubResponseDTO.ClubList.toListDTO(club, writer, checker,
+                    filesByClubId.get(club.getId())));
+        }
+        return result;
     }
 
     //상세
@@ -238,6 +278,7 @@ public class ClubService {
         // 클럽 저장
         Club updatedClub = clubRepository.save(club);
         log.info("클럽 업데이트 완료: clubId={}", updatedClub.getId());
+        clubListCache.evict(updatedClub.getCourseId());
 
         // 파일 정보 가져오기
         FileResponseDTO fileDto = getClubFileInfo(clubId);
@@ -320,6 +361,7 @@ public class ClubService {
         club.updateApprove(adminId, clubApproval.getCheckStatus(), clubApproval.getCheckMessage());
 
         Club updatedClub = clubRepository.save(club);
+        clubListCache.evict(updatedClub.getCourseId());
         String writer = getMemberName(club.getWriterId());
         String adminName = getMemberName(adminId);
 
@@ -340,6 +382,7 @@ public class ClubService {
         }
 
         clubRepository.deleteById(clubId);
+        clubListCache.evict(club.getCourseId());
     }
 
     @Transactional
@@ -352,6 +395,7 @@ public class ClubService {
         }
 
         clubRepository.deleteById(clubId);
+        clubListCache.evict(club.getCourseId());
     }
 
     // 파일확장자 및 개수 제한
@@ -498,7 +542,7 @@ public class ClubService {
      * @return 압축 파일 다운로드 응답
      */
     @Transactional(readOnly = true)
-    public ResponseEntity<Resource> downloadClubFilesBatch(List<Long> clubIds, Long memberId) {
+    public ResponseEntity<StreamingResponseBody> downloadClubFilesBatch(List<Long> clubIds, Long memberId) {
         log.info("클럽 파일 일괄 다운로드 서비스 시작 - clubIds: {}, memberId: {}", clubIds, memberId);
 
         // 멤버 정보 조회
@@ -547,8 +591,8 @@ public class ClubService {
         //String zipFileName = "club_files_" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".zip";
         String zipFileName = "동아리일지_일괄다운로드.zip";
 
-        // 파일 서비스를 통해 zip 파일 생성
-        Resource zipResource = fileService.downloadFilesAsZip(files, zipFileName, file -> {
+        // 파일 서비스를 통해 zip 스트리밍 (S3 에서 받는 대로 응답에 기록)
+        StreamingResponseBody zipBody = fileService.streamFilesAsZip(files, file -> {
             Club club = fileIdToClubMap.get(file.getId());
             String dateFormat = club.getStudyDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             String extension = file.getOriginalName().substring(file.getOriginalName().lastIndexOf("."));
@@ -560,7 +604,7 @@ public class ClubService {
         return ResponseEntity.ok()
             .contentType(MediaType.APPLICATION_OCTET_STREAM)
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + zipFileName + "\"")
-            .body(zipResource);
+            .body(zipBody);
     }
 }
 
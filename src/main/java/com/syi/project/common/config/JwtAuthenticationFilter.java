@@ -1,7 +1,7 @@
 package com.syi.project.common.config;
 
-import com.syi.project.auth.repository.JwtBlacklistRepository;
 import com.syi.project.auth.service.CustomUserDetailsService;
+import com.syi.project.auth.service.JwtBlacklistService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +21,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtProvider jwtProvider;
   private final CustomUserDetailsService userDetailsService;
-  private final JwtBlacklistRepository jwtBlacklistRepository;
+  private final JwtBlacklistService jwtBlacklistService;
 
   /**
    * 특정 경로를 필터링하지 않도록 설정
@@ -63,33 +63,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String refreshToken = getTokenFromRequest(request, "Refresh-Token");
     String deviceFingerprint = request.getHeader("X-Device-Fingerprint");
 
-    // Access Token 처리
+    // Access Token 처리 - 토큰당 한 번만 파싱/서명 검증한 Claims 사용
     if (accessToken != null) {
-      if (isTokenBlacklisted(accessToken, "ACCESS")) {
-        log.warn("블랙리스트에 등록된 Access Token 요청 차단 - Token: {}, URL: {}", accessToken, request.getRequestURI());
+      JwtClaims accessClaims = jwtProvider.getVerifiedClaims(accessToken).orElse(null);
+
+      if (accessClaims != null && isTokenBlacklisted(accessClaims.getTokenId(), "ACCESS")) {
+        log.warn("블랙리스트에 등록된 Access Token 요청 차단 - jti: {}, URL: {}", accessClaims.getTokenId(), request.getRequestURI());
         setUnauthorizedResponse(response, "로그아웃된 Access Token입니다.");
         return;
       }
 
       // 디바이스 지문 검증
-      if (deviceFingerprint != null && !validateDeviceFingerprint(accessToken, deviceFingerprint)) {
-        log.warn("디바이스 지문 불일치 - Token: {}, URL: {}", accessToken, request.getRequestURI());
+      if (accessClaims != null && deviceFingerprint != null
+          && !validateDeviceFingerprint(accessClaims, deviceFingerprint)) {
+        log.warn("디바이스 지문 불일치 - jti: {}, URL: {}", accessClaims.getTokenId(), request.getRequestURI());
         setUnauthorizedResponse(response, "인증 정보가 일치하지 않습니다.");
         return;
       }
 
-      processAccessToken(request, response, accessToken);
+      processAccessToken(request, accessClaims);
     }
 
     // Refresh Token 처리
     if (refreshToken != null) {
-      if (isTokenBlacklisted(refreshToken, "REFRESH")) {
-        log.warn("블랙리스트에 등록된 Refresh Token 요청 차단 - Token: {}", refreshToken);
+      JwtClaims refreshClaims = jwtProvider.getVerifiedClaims(refreshToken).orElse(null);
+
+      if (refreshClaims != null && isTokenBlacklisted(refreshClaims.getTokenId(), "REFRESH")) {
+        log.warn("블랙리스트에 등록된 Refresh Token 요청 차단 - jti: {}", refreshClaims.getTokenId());
         setUnauthorizedResponse(response, "로그아웃된 Refresh Token입니다.");
         return;
       }
-      if (!jwtProvider.validateRefreshToken(refreshToken)) {
-        log.warn("유효하지 않은 Refresh Token - Token: {}", refreshToken);
+      if (refreshClaims == null) {
+        log.warn("유효하지 않은 Refresh Token - URL: {}", request.getRequestURI());
         setUnauthorizedResponse(response, "유효하지 않은 Refresh Token입니다.");
         return;
       }
@@ -102,48 +107,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   /**
    * Access Token 검증 및 인증 설정
    */
-  private void processAccessToken(HttpServletRequest request, HttpServletResponse response, String accessToken) {
-    if (!jwtProvider.validateAccessToken(accessToken)) {
+  private void processAccessToken(HttpServletRequest request, JwtClaims claims) {
+    if (claims == null) {
       log.warn("유효하지 않은 Access Token 요청 - IP: {}, URL: {}", request.getRemoteAddr(), request.getRequestURI());
       return;
     }
 
-    jwtProvider.getMemberPrimaryKeyId(accessToken).ifPresent(id -> {
-      jwtProvider.getName(accessToken).ifPresent(name -> {
-        jwtProvider.getRole(accessToken).ifPresent(role -> {
-          try {
-            var userDetails = userDetailsService.loadUserById(id);
-            var authentication = new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            log.info("JWT 인증 성공 - 사용자 ID: {}, 이름: {}, 역할: {}", id, name, role);
-          } catch (Exception e) {
-            log.error("사용자 로드 중 예외 발생: {}", e.getMessage());
-          }
-        });
-      });
-    });
+    Long id = claims.getMemberId();
+    String name = claims.getName();
+    String role = claims.getRole();
+    if (id == null || name == null || role == null) {
+      log.warn("Access Token 에 사용자 정보가 없습니다 - jti: {}", claims.getTokenId());
+      return;
+    }
+
+    try {
+      var userDetails = userDetailsService.loadUserByClaims(claims);
+      var authentication = new UsernamePasswordAuthenticationToken(
+          userDetails, null, userDetails.getAuthorities());
+      authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+      SecurityContextHolder.getContext().setAuthentication(authentication);
+
+      log.info("JWT 인증 성공 - 사용자 ID: {}, 이름: {}, 역할: {}", id, name, role);
+    } catch (Exception e) {
+      log.error("사용자 로드 중 예외 발생: {}", e.getMessage());
+    }
   }
 
   /**
    * 디바이스 지문 검증
    */
-  private boolean validateDeviceFingerprint(String token, String deviceFingerprint) {
-    try {
-      String tokenDeviceFingerprint = jwtProvider.getDeviceFingerprint(token).orElse(null);
+  private boolean validateDeviceFingerprint(JwtClaims claims, String deviceFingerprint) {
+    String tokenDeviceFingerprint = claims.getDeviceFingerprint();
 
-      // 토큰에 디바이스 지문이 없는 경우 검증 스킵 (이전 버전 호환성)
-      if (tokenDeviceFingerprint == null) {
-        return true;
-      }
-
-      return tokenDeviceFingerprint.equals(deviceFingerprint);
-    } catch (Exception e) {
-      log.error("디바이스 지문 검증 실패: {}", e.getMessage());
-      return false;
+    // 토큰에 디바이스 지문이 없는 경우 검증 스킵 (이전 버전 호환성)
+    if (tokenDeviceFingerprint == null) {
+      return true;
     }
+
+    return tokenDeviceFingerprint.equals(deviceFingerprint);
   }
 
   /**
@@ -176,14 +178,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   }
 
   /**
-   * JWT 토큰이 블랙리스트에 포함되어 있는지 확인
+   * JWT 토큰이 블랙리스트에 포함되어 있는지 확인 (메모리 캐시 조회)
    *
-   * @param token 검증할 JWT 토큰
+   * @param tokenId 검증할 JWT 토큰의 jti
    * @param tokenType 토큰 유형 (ACCESS/REFRESH)
    * @return 블랙리스트에 포함 여부
    */
-  private boolean isTokenBlacklisted(String token, String tokenType) {
-    String tokenId = jwtProvider.getJti(token);
-    return tokenId != null && jwtBlacklistRepository.findByTokenIdAndTokenType(tokenId, tokenType).isPresent();
+  private boolean isTokenBlacklisted(String tokenId, String tokenType) {
+    return jwtBlacklistService.isBlacklisted(tokenId, tokenType);
   }
 }
@@ -0,0 +1,74 @@
+package com.syi.project.common.config;
+
+import io.jsonwebtoken.Claims;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 서명 검증을 마친 JWT 의 Claims (한 번 파싱해서 재사용)
+ */
+@Getter
+@ToString
+public class JwtClaims {
+
+  private final String tokenId; // jti
+  private final Long memberId; // subject (숫자가 아니면 null)
+  private final String name;
+  private final String role;
+  private final String deviceFingerprint;
+  private final Date issuedAt;
+  private final Date expiration;
+
+  private JwtClaims(String tokenId, Long memberId, String name, String role,
+      String deviceFingerprint, Date issuedAt, Date expiration) {
+    this.tokenId = tokenId;
+    this.memberId = memberId;
+    this.name = name;
+    this.role = role;
+    this.deviceFingerprint = deviceFingerprint;
+    this.issuedAt = issuedAt;
+    this.expiration = expiration;
+  }
+
+  static JwtClaims from(Claims claims) {
+    return new JwtClaims(
+        claims.getId(),
+        parseMemberId(claims.getSubject()),
+        claims.get("name", String.class),
+        claims.get("role", String.class),
+        claims.get("device", String.class),
+        claims.getIssuedAt(),
+        claims.getExpiration()
+    );
+  }
+
+  public boolean isExpired() {
+    return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+  }
+
+  public LocalDateTime getExpirationDateTime() {
+    return toLocalDateTime(expiration);
+  }
+
+  public LocalDateTime getIssuedAtDateTime() {
+    return toLocalDateTime(issuedAt);
+  }
+
+  private static LocalDateTime toLocalDateTime(Date date) {
+    return date == null ? null : date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+  }
+
+  private static Long parseMemberId(String subject) {
+    if (subject == null || subject.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.valueOf(subject);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
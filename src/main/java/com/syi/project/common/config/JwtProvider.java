@@ -6,10 +6,17 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +29,10 @@ public class JwtProvider {
   private final SecretKey key; // HMAC-SHA 알고리즘을 위한 비밀 키
   private final long accessTokenValidity; // Access Token 유효시간
   private final long refreshTokenValidity;  // Refresh Token 유효시간
+  private final JwtParser parser; // 서명 검증용 파서 (thread-safe, 재사용)
+  private final Map<String, JwtClaims> claimsCache; // 토큰 해시 -> 검증된 Claims
+  private final int claimsCacheSize; // Claims 캐시 최대 개수
+  private final AtomicBoolean evicting = new AtomicBoolean(); // 캐시 정리는 한 스레드만 수행
 
   /**
    * 생성자 - JWT 시크릿키 및 유효시간 초기화
@@ -29,15 +40,22 @@ public class JwtProvider {
    * @param secretKey            비밀키 값, 환경 변수나 설정 파일에서 주입
    * @param accessTokenValidity  Access Token 유효 시간
    * @param refreshTokenValidity Refresh Token 유효 시간
+   * @param claimsCacheSize      검증된 Claims 캐시 최대 개수
    */
   public JwtProvider(
       @Value("${jwt.secret}") String secretKey,
       @Value("${jwt.accessTokenValidity}") long accessTokenValidity,
-      @Value("${jwt.refreshTokenValidity}") long refreshTokenValidity
+      @Value("${jwt.refreshTokenValidity}") long refreshTokenValidity,
+      @Value("${jwt.claims-cache-size:10000}") int claimsCacheSize
   ) {
     this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
     this.accessTokenValidity = accessTokenValidity;
     this.refreshTokenValidity = refreshTokenValidity;
+    this.parser = Jwts.parserBuilder()
+        .setSigningKey(key)
+        .build();
+    this.claimsCache = new ConcurrentHashMap<>(256);
+    this.claimsCacheSize = claimsCacheSize;
   }
 
   /**
@@ -101,33 +119,75 @@ public class JwtProvider {
   }
 
   /**
-   * 토큰에서 사용자 기본키 ID 추출
+   * 서명 검증을 마친 토큰의 Claims 조회
+   * - 토큰 해시를 키로 하는 캐시에 만료 시점까지 보관하여 같은 토큰은 한 번만 파싱/검증
+   * - 인증된 모든 요청이 거치므로 전역 잠금 없는 ConcurrentHashMap 사용 (최대 개수 초과 시 evictClaims 로 정리)
+   * - 만료되었거나 검증에 실패한 토큰은 Optional.empty
    *
    * @param token JWT 토큰
-   * @return Optional 로 감싼 사용자 기본키 ID (추출 실패 시 Optional.empty)
+   * @return Optional 로 감싼 검증된 Claims
    */
-  public Optional<Long> getMemberPrimaryKeyId(String token) {
-    try {
-      Optional<String> idOptional = getClaims(token).map(Claims::getSubject);
+  public Optional<JwtClaims> getVerifiedClaims(String token) {
+    if (token == null || token.isBlank()) {
+      return Optional.empty();
+    }
 
-      if (idOptional.isEmpty() || idOptional.get().isBlank()) {
-        log.warn("토큰에서 사용자 기본키 ID 추출 실패 - subject가 null이거나 비어 있습니다.");
-        return Optional.empty();
+    String cacheKey = hashToken(token);
+    JwtClaims cached = claimsCache.get(cacheKey);
+    if (cached != null) {
+      if (!cached.isExpired()) {
+        return Optional.of(cached);
       }
+      claimsCache.remove(cacheKey);
+      log.warn("토큰 만료 - 만료 시간: {}", cached.getExpiration());
+      return Optional.empty();
+    }
 
-      String id = idOptional.get();
-      log.info("토큰에서 사용자 기본키 ID 추출 성공 - 사용자 기본키 ID: {}", id);
+    Optional<JwtClaims> claims = getClaims(token).map(JwtClaims::from);
+    claims.filter(c -> !c.isExpired()).ifPresent(c -> {
+      claimsCache.put(cacheKey, c);
+      if (claimsCache.size() > claimsCacheSize) {
+        evictClaims();
+      }
+    });
+    return claims.filter(c -> !c.isExpired());
+  }
 
-      try {
-        return Optional.of(Long.valueOf(id));
-      } catch (NumberFormatException e) {
-        log.error("토큰에서 추출한 ID가 숫자 형식이 아닙니다. ID: {}", id, e);
-        return Optional.empty();
+  /**
+   * Claims 캐시가 최대 개수를 넘었을 때 정리
+   * - 만료된 항목을 먼저 지우고, 그래도 넘치면 최대 개수의 90% 가 될 때까지 임의의 항목 제거
+   * - 다른 스레드가 정리 중이면 건너뜀 (잠깐 최대 개수를 넘는 것은 허용)
+   */
+  private void evictClaims() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      claimsCache.values().removeIf(JwtClaims::isExpired);
+
+      int target = claimsCacheSize - claimsCacheSize / 10;
+      Iterator<String> keys = claimsCache.keySet().iterator();
+      while (claimsCache.size() > target && keys.hasNext()) {
+        keys.next();
+        keys.remove();
       }
-    } catch (Exception e) {
-      log.error("토큰에서 사용자 ID 추출 실패 - 원인: {}", e.getMessage());
-      return Optional.empty();
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  /**
+   * 토큰에서 사용자 기본키 ID 추출
+   *
+   * @param token JWT 토큰
+   * @return Optional 로 감싼 사용자 기본키 ID (추출 실패 시 Optional.empty)
+   */
+  public Optional<Long> getMemberPrimaryKeyId(String token) {
+    Optional<Long> id = getVerifiedClaims(token).map(JwtClaims::getMemberId);
+    if (id.isEmpty()) {
+      log.warn("토큰에서 사용자 기본키 ID 추출 실패 - subject가 없거나 숫자 형식이 아닙니다.");
     }
+    return id;
   }
 
   /**
@@ -137,14 +197,7 @@ public class JwtProvider {
    * @return Optional 로 감싼 사용자 이름 (추출 실패 시 Optional.empty)
    */
   public Optional<String> getName(String token) {
-    try {
-      String name = getClaims(token).map(claims -> claims.get("name", String.class)).orElse(null);
-      log.info("토큰에서 이름 추출 성공 - 이름: {}", name);
-      return Optional.ofNullable(name);
-    } catch (Exception e) {
-      log.error("토큰에서 이름 추출 실패 - 원인: {}", e.getMessage());
-      return Optional.empty();
-    }
+    return getVerifiedClaims(token).map(JwtClaims::getName);
   }
 
   /**
@@ -154,14 +207,7 @@ public class JwtProvider {
    * @return Optional 로 감싼 사용자 역할 (추출 실패 시 Optional.empty)
    */
   public Optional<String> getRole(String token) {
-    try {
-      String role = getClaims(token).map(claims -> claims.get("role", String.class)).orElse(null);
-      log.info("토큰에서 역할 정보 추출 성공 - 역할: {}", role);
-      return Optional.ofNullable(role);
-    } catch (Exception e) {
-      log.error("토큰에서 역할 정보 추출 실패 - 원인: {}", e.getMessage());
-      return Optional.empty();
-    }
+    return getVerifiedClaims(token).map(JwtClaims::getRole);
   }
 
   /**
@@ -171,13 +217,7 @@ public class JwtProvider {
    * @return Optional 로 감싼 디바이스 지문 (추출 실패 시 Optional.empty)
    */
   public Optional<String> getDeviceFingerprint(String token) {
-    try {
-      String device = getClaims(token).map(claims -> claims.get("device", String.class)).orElse(null);
-      return Optional.ofNullable(device);
-    } catch (Exception e) {
-      log.error("토큰에서 디바이스 지문 추출 실패 - 원인: {}", e.getMessage());
-      return Optional.empty();
-    }
+    return getVerifiedClaims(token).map(JwtClaims::getDeviceFingerprint);
   }
 
   /**
@@ -208,35 +248,23 @@ public class JwtProvider {
    * @return 유효 여부 (true: 유효, false: 유효하지 않음)
    */
   private boolean validateToken(String token, String tokenType) {
-    try {
-      Claims claims = getClaims(token).orElseThrow();
-      boolean isExpired = claims.getExpiration().before(new Date());
-      if (isExpired) {
-        log.warn("{} 만료됨 - 만료 시간: {}, 현재 시간: {}", tokenType, claims.getExpiration(), new Date());
-        return false;
-      }
-      log.info("{} 유효성 검증 성공 - 만료 시간: {}", tokenType, claims.getExpiration());
-      return true;
-    } catch (Exception e) {
-      log.warn("유효하지 않은 {} - 원인: {}", tokenType, e.getMessage());
-      return false;
+    boolean valid = getVerifiedClaims(token).isPresent();
+    if (!valid) {
+      log.warn("유효하지 않은 {}", tokenType);
     }
+    return valid;
   }
 
   /**
-   * JWT 토큰에서 Claims 추출
+   * JWT 토큰에서 Claims 추출 (서명 검증 포함)
    *
    * @param token JWT 토큰
    * @return Optional 로 감싼 Claims 객체 (추출 실패 시 Optional.empty 반환)
    */
   private Optional<Claims> getClaims(String token) {
     try {
-      // JWT 파서를 통해 토큰의 Claims 추출
-      JwtParser parser = Jwts.parserBuilder()
-          .setSigningKey(key)
-          .build();
       Claims claims = parser.parseClaimsJws(token).getBody();
-      log.info("토큰에서 Claims 추출 성공 - Claims: {}", claims);
+      log.debug("토큰에서 Claims 추출 성공 - jti: {}", claims.getId());
       return Optional.of(claims);
     } catch (io.jsonwebtoken.ExpiredJwtException e) {
       log.warn("토큰 만료 - 원인: {}", e.getMessage());
@@ -250,6 +278,17 @@ public class JwtProvider {
     return Optional.empty();
   }
 
+  // 캐시 키 - 토큰 원문 대신 SHA-256 해시 보관
+  private static String hashToken(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
   /**
    * JWT에서 jti (토큰 ID) 추출
    *
@@ -257,8 +296,8 @@ public class JwtProvider {
    * @return jti 값
    */
   public String getJti(String token) {
-    return getClaims(token)
-        .map(Claims::getId)
+    return getVerifiedClaims(token)
+        .map(JwtClaims::getTokenId)
         .orElse(null);
   }
 
@@ -269,9 +308,8 @@ public class JwtProvider {
    * @return 만료 시간 (LocalDateTime)
    */
   public LocalDateTime getExpirationDate(String token) {
-    return getClaims(token)
-        .map(Claims::getExpiration)
-        .map(exp -> exp.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime())
+    return getVerifiedClaims(token)
+        .map(JwtClaims::getExpirationDateTime)
         .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
   }
 
@@ -282,10 +320,9 @@ public class JwtProvider {
    * @return 발급 시간 (LocalDateTime)
    */
   public LocalDateTime getIssuedAt(String token) {
-    return getClaims(token)
-        .map(Claims::getIssuedAt)
-        .map(iat -> iat.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime())
+    return getVerifiedClaims(token)
+        .map(JwtClaims::getIssuedAtDateTime)
         .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
   }
 
-}
\ No newline at end of file
+}
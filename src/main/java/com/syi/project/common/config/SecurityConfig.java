@@ -1,7 +1,8 @@
 package com.syi.project.common.config;
 
-import com.syi.project.auth.repository.JwtBlacklistRepository;
 import com.syi.project.auth.service.CustomUserDetailsService;
+import com.syi.project.auth.service.JwtBlacklistService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.Arrays;
@@ -33,13 +34,13 @@ public class SecurityConfig {
 
   private final CustomUserDetailsService customUserDetailsService;
   private final JwtProvider jwtProvider;
-  private final JwtBlacklistRepository jwtBlacklistRepository;
+  private final JwtBlacklistService jwtBlacklistService;
 
   // JWT 인증 필터 Bean 설정
   @Bean
   public JwtAuthenticationFilter jwtAuthenticationFilter() {
     return new JwtAuthenticationFilter(jwtProvider, customUserDetailsService,
-        jwtBlacklistRepository);
+        jwtBlacklistService);
   }
 
   // PasswordEncoder Bean 설정
@@ -63,6 +64,8 @@ public class SecurityConfig {
         .sessionManagement(session -> session.sessionCreationPolicy(
             SessionCreationPolicy.STATELESS)) // 세션을 사용하지 않고 JWT 인증 사용
         .authorizeHttpRequests(authorize -> authorize
+            // 스트리밍 응답(zip 일괄 다운로드 등)의 비동기 디스패치는 최초 요청에서 이미 인가됨
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             // OPTIONS 메서드에 대해 인증 없이 허용
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
             // 인증 없이 접근 가능한 경로 설정
@@ -114,7 +117,7 @@ public class SecurityConfig {
     configuration.setAllowedHeaders(Arrays.asList(
         "Authorization", "Refresh-Token", "Content-Type",
         "Cache-Control", "Pragma", "Expires", "*",
-        "X-Device-Fingerprint", "X-Requested-With"
+        "X-Device-Fingerprint", "X-Requested-With", "Idempotency-Key"
     ));    configuration.setExposedHeaders(List.of("Authorization", "Content-Disposition"));
     configuration.setAllowCredentials(true); // 쿠키 허용
     configuration.setMaxAge(3600L); // preflight 캐시 시간
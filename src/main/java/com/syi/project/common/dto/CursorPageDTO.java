@@ -0,0 +1,64 @@
+package com.syi.project.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * 커서(keyset) 기반 목록 응답
+ * - offset 없이 마지막 항목의 정렬 키 다음부터 조회하므로 깊은 페이지도 첫 페이지와 같은 비용
+ * - totalElements 는 요청 시(includeTotal)에만 별도 count 쿼리로 채움
+ */
+@Getter
+@Schema(description = "커서 기반 목록 응답")
+public class CursorPageDTO<T> {
+
+  @Schema(description = "조회된 항목")
+  private final List<T> content;
+
+  @Schema(description = "다음 목록 조회 시 전달할 커서 (마지막 목록이면 null)")
+  private final String nextCursor;
+
+  @Schema(description = "다음 목록 존재 여부")
+  private final boolean hasNext;
+
+  @Schema(description = "전체 항목 수 (includeTotal=false 이면 null)")
+  private final Long totalElements;
+
+  private CursorPageDTO(List<T> content, String nextCursor, boolean hasNext, Long totalElements) {
+    this.content = content;
+    this.nextCursor = nextCursor;
+    this.hasNext = hasNext;
+    this.totalElements = totalElements;
+  }
+
+  /**
+   * size + 1 개까지 조회한 결과로 응답 생성 (초과분이 있으면 다음 목록이 있는 것)
+   *
+   * @param rows          size + 1 개까지 조회한 결과
+   * @param size          요청한 목록 크기
+   * @param cursorOf      항목의 정렬 키로 커서를 만드는 함수
+   * @param totalElements 전체 항목 수 (생략 시 null)
+   */
+  public static <T> CursorPageDTO<T> of(List<T> rows, int size, Function<T, String> cursorOf,
+      Long totalElements) {
+    boolean hasNext = rows.size() > size;
+    List<T> content = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+    return new CursorPageDTO<>(content, nextCursor, hasNext, totalElements);
+  }
+
+  public <R> CursorPageDTO<R> map(Function<T, R> mapper) {
+    return new CursorPageDTO<>(content.stream().map(mapper).toList(), nextCursor, hasNext,
+        totalElements);
+  }
+
+  /**
+   * 목록 전체를 한 번에 변환 (키만 조회한 뒤 상세 데이터를 일괄 조회하는 경우)
+   */
+  public <R> CursorPageDTO<R> mapContent(Function<List<T>, List<R>> mapper) {
+    return new CursorPageDTO<>(content.isEmpty() ? List.of() : mapper.apply(content), nextCursor,
+        hasNext, totalElements);
+  }
+}
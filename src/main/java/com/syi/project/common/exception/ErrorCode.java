@@ -47,10 +47,13 @@ public enum ErrorCode {
   FILE_NOT_IN_STORAGE_BATCH("FILE_011", "선택한 항목 중 저장소에서 찾을 수 없는 파일이 있습니다.", HttpStatus.NOT_FOUND),
   FILE_INVALID_STATE("FILE_009", "파일이 유효하지 않은 상태입니다.", HttpStatus.BAD_REQUEST),
   FILE_COUNT_EXCEEDED("FILE_010", "파일 개수 초과", HttpStatus.BAD_REQUEST),
+  FILE_PRESIGNED_NOT_SUPPORTED("FILE_012", "현재 저장소는 직접 업로드/다운로드를 지원하지 않습니다.", HttpStatus.BAD_REQUEST),
+  FILE_SIZE_EXCEEDED("FILE_013", "파일 크기가 허용 범위를 초과했습니다.", HttpStatus.BAD_REQUEST),
 
 
   // 유효성 검증 관련 에러
   VALIDATION_FAILED("COMMON_001", "입력값이 유효하지 않습니다.", HttpStatus.BAD_REQUEST),
+  INVALID_CURSOR("COMMON_002", "유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
 
   // 시스템 관련 에러
   INTERNAL_SERVER_ERROR("SYSTEM_001", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -106,6 +109,10 @@ public enum ErrorCode {
   // 프린트 관련
   ATTENDANCE_PRINT_DATA_NOT_FOUND("ATTENDANCE_PRINT_001","해당 차수에 대한 프린트 데이터가 없습니다",HttpStatus.NOT_FOUND),
 
+  // 결석 일괄 처리(백필) 관련
+  ATTENDANCE_BACKFILL_ALREADY_RUNNING("ATTENDANCE_BACKFILL_001","이미 진행 중인 결석 일괄 처리 작업이 있습니다.",HttpStatus.CONFLICT),
+  ATTENDANCE_BACKFILL_INVALID_RANGE("ATTENDANCE_BACKFILL_002","결석 일괄 처리 기간이 올바르지 않습니다.",HttpStatus.BAD_REQUEST),
+
   // 수강신청 관련 에러
   ENROLL_NOT_FOUND("ENROLL_001", "수강 이력을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
   ENROLL_ACCESS_DENIED("ENROLL_002", "수강 이력에 대한 접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
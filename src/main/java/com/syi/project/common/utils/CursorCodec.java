@@ -0,0 +1,72 @@
+package com.syi.project.common.utils;
+
+import com.syi.project.common.exception.ErrorCode;
+import com.syi.project.common.exception.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목록 커서 인코딩/디코딩
+ * - 정렬 키 값들을 '|' 로 이어 URL-safe Base64 로 감싼 불투명 문자열 (클라이언트는 그대로 돌려보내기만 함)
+ */
+@Slf4j
+public final class CursorCodec {
+
+  private static final String DELIMITER = "|";
+
+  private CursorCodec() {
+  }
+
+  public static String encode(Object... values) {
+    StringBuilder raw = new StringBuilder();
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        raw.append(DELIMITER);
+      }
+      raw.append(values[i]);
+    }
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서를 정렬 키 값들로 분리
+   *
+   * @param cursor        클라이언트가 보낸 커서 (null/빈 값이면 첫 목록)
+   * @param expectedParts 정렬 키 개수
+   * @return 정렬 키 문자열 배열, 첫 목록이면 null
+   */
+  public static String[] decode(String cursor, int expectedParts) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + DELIMITER, -1);
+      if (parts.length == expectedParts) {
+        return parts;
+      }
+    } catch (IllegalArgumentException e) {
+      // 아래에서 처리
+    }
+    log.warn("잘못된 커서 - cursor: {}", cursor);
+    throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+  }
+
+  /**
+   * 커서에서 꺼낸 값을 정렬 키 타입으로 변환 (형식이 맞지 않으면 INVALID_CURSOR)
+   *
+   * @param value  decode 결과의 한 항목
+   * @param parser 변환 함수 (예: LocalDate::parse, Long::valueOf)
+   */
+  public static <T> T parse(String value, Function<String, T> parser) {
+    try {
+      return parser.apply(value);
+    } catch (RuntimeException e) {
+      log.warn("잘못된 커서 값 - value: {}", value);
+      throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
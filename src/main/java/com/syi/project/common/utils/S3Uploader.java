@@ -1,14 +1,16 @@
 package com.syi.project.common.utils;
 
-import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.amazonaws.services.s3.model.S3Object;
 import com.syi.project.auth.service.CustomUserDetails;
 import com.syi.project.file.dto.FileResponseDTO;
+import com.syi.project.file.storage.FileUrlResolver;
+import com.syi.project.file.storage.StorageBackend;
 import io.swagger.v3.oas.annotations.Operation;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.stream.Collectors;
@@ -26,6 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,13 +37,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3Uploader {
 
-  private final AmazonS3Client amazonS3Client;
-
-  @Value("${cloud.aws.s3.bucket}")
-  private String bucket;
-
-  @Value("${cloud.aws.region.static}")
-  private String region;
+  // 실제 저장소 (file.storage.type 에 따라 S3 또는 로컬 디스크)
+  private final StorageBackend storageBackend;
+  private final FileUrlResolver fileUrlResolver;
 
   // 파일 업로드 (단일/다중 처리 통합)
   @Operation(summary = "파일 업로드 (단일/다중)")
@@ -48,19 +47,18 @@ public class S3Uploader {
   public String uploadFile(MultipartFile file, String dirName, LocalDate date) throws IOException {
     // Member 엔티티에서 ID를 가져오도록 수정
     Long memberId = ((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getId();
+    return uploadFile(file, dirName, memberId, date);
+  }
+
+  // 업로드 사용자 ID 를 직접 전달 (SecurityContext 가 없는 병렬 업로드 스레드용)
+  public String uploadFile(MultipartFile file, String dirName, Long memberId, LocalDate date) throws IOException {
     String dateFolder = date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
     String fileName = createFileName(file.getOriginalFilename());
 
     // dirName/memberId/dateFolder/fileName 형태로 경로 구성
     String fullPath = String.format("%s/%s/%s/%s", dirName, memberId, dateFolder, fileName);
 
-    ObjectMetadata metadata = new ObjectMetadata();
-    metadata.setContentType(file.getContentType());
-    metadata.setContentLength(file.getSize());
-
-    amazonS3Client.putObject(
-        new PutObjectRequest(bucket, fullPath, file.getInputStream(), metadata)
-    );
+    storageBackend.store(fullPath, file);
 
     log.info("파일 업로드 성공 경로: {}", fullPath);
     return fullPath;
@@ -95,7 +93,7 @@ public class S3Uploader {
 
       String fileName = fileUrl;  // 이미 Object Key일 경우, 그대로 사용
 
-      amazonS3Client.deleteObject(bucket, fileName);
+      storageBackend.delete(fileName);
       log.info("파일 삭제 완료: {}", fileName);
 
     } catch (IllegalArgumentException e) {
@@ -108,9 +106,71 @@ public class S3Uploader {
   }
 
   // 파일 다운로드
-  public InputStream downloadFile(String path) {
-    S3Object s3Object = amazonS3Client.getObject(bucket, path);
-    return s3Object.getObjectContent();
+  public InputStream downloadFile(String path) throws IOException {
+    return storageBackend.open(path);
+  }
+
+  // 다운로드 응답용 Resource (로컬 저장소는 파일 기반 Resource)
+  public Resource loadAsResource(String path) throws IOException {
+    return storageBackend.load(path);
+  }
+
+  // 파일 존재 여부 확인 (본문은 받지 않음)
+  public boolean doesFileExist(String path) {
+    return storageBackend.exists(path);
+  }
+
+  /**
+   * 내용 기반(content-addressed) 업로드
+   * - 같은 내용의 파일은 같은 경로(contents/해시 앞 2자리/해시.확장자)에 저장되므로 이미 있으면 업로드 생략
+   *
+   * @param file        업로드할 파일
+   * @param contentHash 파일 내용 SHA-256 (hex)
+   * @return 저장소 경로
+   */
+  public String uploadContent(MultipartFile file, String contentHash) throws IOException {
+    String path = contentPath(file.getOriginalFilename(), contentHash);
+
+    if (storageBackend.exists(path)) {
+      log.info("동일한 내용의 파일이 이미 저장되어 있어 업로드 생략: {}", path);
+      return path;
+    }
+
+    storageBackend.store(path, file);
+    log.info("파일 업로드 성공 경로: {}", path);
+    return path;
+  }
+
+  // 내용 기반 저장 경로 (contents/해시 앞 2자리/해시.확장자)
+  public String contentPath(String originalName, String contentHash) {
+    return String.format("contents/%s/%s%s", contentHash.substring(0, 2), contentHash,
+        getFileExtension(originalName).toLowerCase());
+  }
+
+  // 파일별 고유 키 (dirName/memberId/dateFolder/UUID.확장자) - 저장소 경로와 별개로 파일 레코드를 구분
+  public String createObjectKey(MultipartFile file, String dirName, Long memberId, LocalDate date) {
+    return createObjectKey(file.getOriginalFilename(), dirName, memberId, date);
+  }
+
+  public String createObjectKey(String originalName, String dirName, Long memberId, LocalDate date) {
+    String dateFolder = date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    return String.format("%s/%s/%s/%s", dirName, memberId, dateFolder,
+        createFileName(originalName));
+  }
+
+  // 파일 내용 SHA-256 계산 (업로드 전에 한 번 읽음 - 업로드와 별도 패스, FileUploadPipeline.storeOne 참고)
+  public String hashContent(MultipartFile file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+    }
+
+    try (DigestInputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+      inputStream.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(digest.digest());
   }
 
   // UUID(파일명 중복방지)로 파일명 생성
@@ -127,8 +187,8 @@ public class S3Uploader {
     }
   }
 
-  // S3 URL 반환
+  // 공개 URL 반환 (CDN 접두사 또는 캐시된 저장소 URL)
   public String getUrl(String path) {
-    return amazonS3Client.getUrl(bucket, path).toString();
+    return fileUrlResolver.resolve(path);
   }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.syi.project.course.repository;
 
 import com.syi.project.course.entity.Course;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,4 +20,12 @@ public interface CourseRepository extends JpaRepository<Course, Long>, CourseRep
    */
   @Query("SELECT c FROM Course c WHERE c.status = 'Y'")
   List<Course> findAllActiveCourses();
+
+  /**
+   * 기간과 교육 기간이 겹치는 삭제되지 않은 수업을 조회합니다. (활성 상태와 관계없음 - 지난 기간의 결석 백필용)
+   */
+  @Query("SELECT c FROM Course c WHERE c.deletedBy IS NULL "
+      + "AND c.startDate <= :endDate AND c.endDate >= :startDate")
+  List<Course> findCoursesOverlapping(@Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
 }
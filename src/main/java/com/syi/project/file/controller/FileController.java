@@ -2,14 +2,20 @@ package com.syi.project.file.controller;
 
 import com.syi.project.auth.entity.Member;
 import com.syi.project.auth.repository.MemberRepository;
+import com.syi.project.auth.service.CustomUserDetails;
 import com.syi.project.common.utils.S3Uploader;
 import com.syi.project.file.dto.FileDownloadDTO;
 import com.syi.project.file.dto.FileResponseDTO;
 import com.syi.project.file.dto.FileUpdateDTO;
+import com.syi.project.file.dto.PresignedUploadCompleteRequestDTO;
+import com.syi.project.file.dto.PresignedUploadRequestDTO;
+import com.syi.project.file.dto.PresignedUrlResponseDTO;
 import com.syi.project.file.entity.File;
 import com.syi.project.file.service.FileService;
+import com.syi.project.file.service.PresignedFileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -34,6 +40,7 @@ public class FileController {
   private final FileService fileService;
   private final MemberRepository memberRepository;
   private final S3Uploader s3Uploader;  // S3Uploader 추가
+  private final PresignedFileService presignedFileService;
 
   @Operation(summary = "단일 파일 업로드")
   @PostMapping("/upload")
@@ -130,4 +137,38 @@ public class FileController {
     return ResponseEntity.noContent().build();
   }
 
-}
\ No newline at end of file
+  @Operation(summary = "직접 업로드 URL 발급",
+      description = "저장소에 파일을 직접 PUT 할 수 있는 URL 을 발급합니다. 업로드 시 Content-Type 헤더는 요청한 contentType 과 같아야 합니다.")
+  @PostMapping("/presigned-uploads")
+  public ResponseEntity<PresignedUrlResponseDTO> createPresignedUpload(
+      @Valid @RequestBody PresignedUploadRequestDTO requestDTO,
+      @AuthenticationPrincipal CustomUserDetails userDetails
+  ) {
+    return ResponseEntity.ok(
+        presignedFileService.createPresignedUpload(requestDTO, userDetails.getId()));
+  }
+
+  @Operation(summary = "직접 업로드 완료", description = "저장소 업로드가 끝난 파일을 등록합니다.")
+  @PostMapping("/presigned-uploads/complete")
+  public ResponseEntity<FileResponseDTO> completePresignedUpload(
+      @Valid @RequestBody PresignedUploadCompleteRequestDTO requestDTO,
+      @AuthenticationPrincipal CustomUserDetails userDetails
+  ) {
+    Member member = memberRepository.findById(userDetails.getId())
+        .orElseThrow(() -> new IllegalArgumentException("회원이 존재하지 않습니다."));
+
+    File savedFile = presignedFileService.completePresignedUpload(requestDTO, member);
+    return ResponseEntity.ok(FileResponseDTO.from(savedFile, s3Uploader));
+  }
+
+  @Operation(summary = "직접 다운로드 URL 발급", description = "저장소에서 파일을 직접 받을 수 있는 URL 을 발급합니다. 파일이 연결된 게시글을 볼 수 있는 사용자만 발급받을 수 있습니다.")
+  @GetMapping("/{fileId}/download-url")
+  public ResponseEntity<PresignedUrlResponseDTO> getDownloadUrl(
+      @PathVariable Long fileId,
+      @AuthenticationPrincipal CustomUserDetails userDetails
+  ) {
+    return ResponseEntity.ok(presignedFileService.createPresignedDownload(fileId,
+        userDetails.getId(), userDetails.getRole()));
+  }
+
+}
@@ -0,0 +1,22 @@
+package com.syi.project.file.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@Schema(description = "저장소 직접 업로드 완료 요청 DTO")
+public class PresignedUploadCompleteRequestDTO {
+
+  @NotBlank(message = "objectKey 는 필수입니다.")
+  @Schema(description = "업로드 URL 발급 시 받은 objectKey", example = "notices/1/2024-03-04/uuid.pdf")
+  private String objectKey;
+
+  @NotBlank(message = "파일명은 필수입니다.")
+  @Schema(description = "원본 파일명", example = "강의자료.pdf")
+  private String originalName;
+}
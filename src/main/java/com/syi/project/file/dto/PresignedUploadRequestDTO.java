@@ -0,0 +1,33 @@
+package com.syi.project.file.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@Schema(description = "저장소 직접 업로드(presigned PUT) URL 발급 요청 DTO")
+public class PresignedUploadRequestDTO {
+
+  @NotBlank(message = "파일명은 필수입니다.")
+  @Schema(description = "원본 파일명", example = "강의자료.pdf")
+  private String originalName;
+
+  @NotBlank(message = "파일 타입은 필수입니다.")
+  @Schema(description = "파일 MIME 타입 (업로드 시 Content-Type 헤더와 같아야 함)", example = "application/pdf")
+  private String contentType;
+
+  @NotNull(message = "파일 크기는 필수입니다.")
+  @Positive(message = "파일 크기는 0보다 커야 합니다.")
+  @Schema(description = "파일 크기 (byte)", example = "52428800")
+  private Long size;
+
+  @NotBlank(message = "저장 디렉토리는 필수입니다.")
+  @Schema(description = "저장 디렉토리", example = "notices")
+  private String dirName;
+}
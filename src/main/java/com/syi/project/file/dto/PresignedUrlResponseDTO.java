@@ -0,0 +1,21 @@
+package com.syi.project.file.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "저장소 직접 업로드/다운로드 URL 응답 DTO")
+public class PresignedUrlResponseDTO {
+
+  @Schema(description = "presigned URL")
+  private String url;
+
+  @Schema(description = "업로드 완료 요청 시 전달할 objectKey (다운로드 URL 에서는 null)")
+  private String objectKey;
+
+  @Schema(description = "URL 만료 시각")
+  private LocalDateTime expiresAt;
+}
@@ -0,0 +1,16 @@
+package com.syi.project.file.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 저장소 업로드는 끝났지만 아직 DB 에 메타데이터가 저장되지 않은 파일
+@Getter
+@Builder
+public class StoredFileDTO {
+  private String originalName;
+  private String objectKey;
+  private String path;
+  private String contentHash;
+  private Long size;
+  private String mimeType;
+}
@@ -19,7 +19,9 @@ import lombok.NoArgsConstructor;
         @Index(columnList = "objectKey", name = "uk_files_objectKey", unique = true),
         @Index(columnList = "uploadedBy", name = "idx_files_uploadedBy"),
         @Index(columnList = "mimeType", name = "idx_files_mimeType"),
-        @Index(columnList = "status", name = "idx_files_status")
+        @Index(columnList = "status", name = "idx_files_status"),
+        @Index(columnList = "path", name = "idx_files_path"),
+        @Index(columnList = "contentHash", name = "idx_files_contentHash")
     }
 )
 @Getter
@@ -39,7 +41,10 @@ public class File extends BaseTimeEntity {
   private String objectKey; // S3에 저장된 파일 키
 
   @Column(nullable = false)
-  private String path; // S3 저장 경로 (dirName + objectKey)
+  private String path; // S3 저장 경로 (같은 내용의 파일끼리 공유될 수 있음)
+
+  @Column(length = 64)
+  private String contentHash; // 파일 내용 SHA-256 (내용 기반 저장 이전 파일은 null)
 
   @Column(nullable = false)
   private Long size; // 파일 크기
@@ -73,6 +78,7 @@ public class File extends BaseTimeEntity {
       String path,
       Long size,
       String mimeType,
+      String contentHash,
       Member modifier
   ) {
     this.originalName = originalName;
@@ -80,6 +86,7 @@ public class File extends BaseTimeEntity {
     this.path = path;
     this.size = size;
     this.mimeType = mimeType;
+    this.contentHash = contentHash;
   }
 
   // S3 URL을 반환하는 메서드
@@ -0,0 +1,37 @@
+package com.syi.project.file.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 업로드 URL 을 발급했지만 아직 완료 처리되지 않은 직접 업로드 (완료되지 않으면 저장소 객체를 정리)
+@Entity
+@Table(name = "presigned_upload",
+    indexes = {
+        @Index(columnList = "objectKey", name = "uk_presigned_upload_objectKey", unique = true),
+        @Index(columnList = "expiresAt", name = "idx_presigned_upload_expiresAt")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PresignedUpload {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private String objectKey; // 발급한 저장소 키
+
+  @Column(nullable = false)
+  private Long memberId; // URL 을 발급받은 사용자 ID
+
+  @Column(nullable = false)
+  private LocalDateTime expiresAt; // 업로드 URL 만료 시각
+}
@@ -0,0 +1,25 @@
+package com.syi.project.file.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 내용 기반 저장 경로의 마지막 사용 시각 - 업로드(재사용)와 저장소 삭제가 이 행의 잠금으로 직렬화됨
+@Entity
+@Table(name = "storage_path_claim")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoragePathClaim {
+
+  @Id
+  @Column(nullable = false)
+  private String path; // 저장소 경로 (contents/xx/hash.ext)
+
+  @Column(nullable = false)
+  private LocalDateTime claimedAt; // 업로드가 이 경로를 마지막으로 사용(업로드 또는 생략)한 시각
+}
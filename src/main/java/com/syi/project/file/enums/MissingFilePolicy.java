@@ -0,0 +1,14 @@
+package com.syi.project.file.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// zip 일괄 다운로드 중 저장소에 없는 파일을 만났을 때의 처리 방식
+@Getter
+@RequiredArgsConstructor
+public enum MissingFilePolicy {
+  SKIP_WITH_MANIFEST("건너뛰고 누락 목록 파일 추가"),
+  FAIL_FAST("즉시 중단");
+
+  private final String description;
+}
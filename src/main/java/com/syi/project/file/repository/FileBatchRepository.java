@@ -0,0 +1,75 @@
+package com.syi.project.file.repository;
+
+import com.syi.project.file.dto.StoredFileDTO;
+import com.syi.project.file.enums.FileStatus;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 파일 메타데이터 일괄 저장용 JDBC 리포지토리
+ * - IDENTITY 전략에서는 JPA batch insert 가 동작하지 않으므로 JDBC batch 로 저장하고 생성된 ID 를 돌려받음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class FileBatchRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO files (original_name, object_key, path, content_hash, size, mime_type, "
+          + "uploaded_by, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 업로드된 파일들의 메타데이터를 한 번의 batch 로 저장
+   *
+   * @return 저장된 파일 ID 목록 (입력 순서)
+   */
+  public List<Long> batchInsert(List<StoredFileDTO> storedFiles, Long uploaderId) {
+    if (storedFiles.isEmpty()) {
+      return List.of();
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+      try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL,
+          Statement.RETURN_GENERATED_KEYS)) {
+        for (StoredFileDTO storedFile : storedFiles) {
+          ps.setString(1, storedFile.getOriginalName());
+          ps.setString(2, storedFile.getObjectKey());
+          ps.setString(3, storedFile.getPath());
+          ps.setString(4, storedFile.getContentHash());
+          ps.setLong(5, storedFile.getSize());
+          ps.setString(6, storedFile.getMimeType());
+          ps.setObject(7, uploaderId);
+          ps.setString(8, FileStatus.ACTIVE.name());
+          ps.setTimestamp(9, now);
+          ps.setTimestamp(10, now);
+          ps.addBatch();
+        }
+        ps.executeBatch();
+
+        List<Long> generatedIds = new ArrayList<>(storedFiles.size());
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+          while (keys.next()) {
+            generatedIds.add(keys.getLong(1));
+          }
+        }
+        return generatedIds;
+      }
+    });
+
+    log.debug("파일 메타데이터 batch insert 완료 - row 수: {}", ids.size());
+    return ids;
+  }
+}
@@ -2,9 +2,14 @@ package com.syi.project.file.repository;
 
 import com.syi.project.file.entity.File;
 import com.syi.project.file.enums.FileStatus;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +19,34 @@ public interface FileRepository extends JpaRepository<File, Long> {
   List<File> findByUploadedByIdAndStatus(Long uploadedBy, FileStatus status);
   boolean existsByObjectKey(String objectKey);
 
+  // 같은 저장소 경로를 참조하는 (삭제되지 않은) 파일 수 - 내용 기반 저장의 참조 카운트
+  long countByPathAndStatusNot(String path, FileStatus status);
+
+  // 회원이 파일을 볼 수 있는지 - 업로드한 본인이거나, 파일이 연결된 공지(전체 공지 또는 수강 중인 반)/본인 교육일지/
+  // 본인 문의/수강 중인 반의 동아리 글을 볼 수 있는 경우
+  @Query("SELECT COUNT(f) > 0 FROM File f WHERE f.id = :fileId AND ("
+      + "f.uploadedBy.id = :memberId "
+      + "OR EXISTS (SELECT nf FROM NoticeFile nf WHERE nf.file = f AND nf.notice.deletedBy IS NULL "
+      + "AND (nf.notice.course IS NULL OR EXISTS (SELECT e FROM Enroll e WHERE e.memberId = :memberId "
+      + "AND e.courseId = nf.notice.course.id AND e.deletedBy IS NULL))) "
+      + "OR EXISTS (SELECT jf FROM JournalFile jf WHERE jf.file = f AND jf.journal.member.id = :memberId) "
+      + "OR EXISTS (SELECT sf FROM SupportFile sf WHERE sf.file = f AND sf.support.member.id = :memberId) "
+      + "OR EXISTS (SELECT cf FROM ClubFile cf WHERE cf.file = f AND EXISTS (SELECT e FROM Enroll e "
+      + "WHERE e.memberId = :memberId AND e.courseId = cf.club.courseId AND e.deletedBy IS NULL)))")
+  boolean isAccessibleBy(@Param("fileId") Long fileId, @Param("memberId") Long memberId);
+
+  // 첨부 확인 전에 파일 행을 잠가 같은 파일을 동시에 첨부하지 못하게 함 (ID 순으로 잠가 교착 방지)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT f FROM File f WHERE f.id IN :fileIds ORDER BY f.id")
+  List<File> findAllByIdForUpdate(@Param("fileIds") Collection<Long> fileIds);
+
+  // 이미 게시글(공지/교육일지/문의/동아리)에 첨부된 파일 ID
+  // - 잠금 읽기(FOR SHARE)로 조회해야 트랜잭션 스냅샷 이후 다른 트랜잭션이 커밋한 첨부까지 보임
+  @Query(value = "(SELECT file_id FROM notice_file WHERE file_id IN (:fileIds) FOR SHARE) "
+      + "UNION (SELECT file_id FROM journal_files WHERE file_id IN (:fileIds) FOR SHARE) "
+      + "UNION (SELECT file_id FROM support_files WHERE file_id IN (:fileIds) FOR SHARE) "
+      + "UNION (SELECT file_id FROM club_file WHERE file_id IN (:fileIds) FOR SHARE)",
+      nativeQuery = true)
+  List<Long> findAttachedIds(@Param("fileIds") Collection<Long> fileIds);
+
 }
@@ -0,0 +1,17 @@
+package com.syi.project.file.repository;
+
+import com.syi.project.file.entity.PresignedUpload;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PresignedUploadRepository extends JpaRepository<PresignedUpload, Long> {
+
+  Optional<PresignedUpload> findByObjectKey(String objectKey);
+
+  // 정리 대상 (URL 만료 후 완료 대기 시간이 지난 업로드) - 한 번에 최대 500 건
+  List<PresignedUpload> findTop500ByExpiresAtBeforeOrderByIdAsc(LocalDateTime date);
+}
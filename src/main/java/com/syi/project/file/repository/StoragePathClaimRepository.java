@@ -0,0 +1,53 @@
+package com.syi.project.file.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 내용 기반 저장 경로 사용 기록 (storage_path_claim)
+ * - 업로드는 저장소 존재 확인 전에 claim 으로 사용 시각을 남기고, 저장소 삭제는 같은 행을 잠근 채로 사용 시각과
+ *   참조 수를 확인한 뒤 삭제 -> 삭제 중에는 claim 이 기다리고, claim 직후의 경로는 삭제하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoragePathClaimRepository {
+
+  private static final String CLAIM_SQL =
+      "INSERT INTO storage_path_claim (path, claimed_at) VALUES (?, ?) "
+          + "ON DUPLICATE KEY UPDATE claimed_at = VALUES(claimed_at)";
+
+  // 사용 기록이 없는 경로도 잠글 수 있도록 아주 오래된 시각으로 행을 만든 뒤 잠금
+  private static final String ENSURE_SQL =
+      "INSERT IGNORE INTO storage_path_claim (path, claimed_at) VALUES (?, ?)";
+
+  private static final String LOCK_SQL =
+      "SELECT claimed_at FROM storage_path_claim WHERE path = ? FOR UPDATE";
+
+  private static final String DELETE_SQL = "DELETE FROM storage_path_claim WHERE path = ?";
+
+  private static final Timestamp NEVER = Timestamp.valueOf(LocalDateTime.of(2000, 1, 1, 0, 0));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 경로 사용 기록 (진행 중인 삭제가 있으면 끝날 때까지 대기)
+   */
+  public void claim(String path, LocalDateTime claimedAt) {
+    jdbcTemplate.update(CLAIM_SQL, path, Timestamp.valueOf(claimedAt));
+  }
+
+  /**
+   * 경로 행을 잠그고 마지막 사용 시각을 반환 (트랜잭션 안에서 호출해야 커밋/롤백까지 잠금 유지)
+   */
+  public LocalDateTime lockForRelease(String path) {
+    jdbcTemplate.update(ENSURE_SQL, path, NEVER);
+    return jdbcTemplate.queryForObject(LOCK_SQL, Timestamp.class, path).toLocalDateTime();
+  }
+
+  public void delete(String path) {
+    jdbcTemplate.update(DELETE_SQL, path);
+  }
+}
@@ -9,8 +9,11 @@ import com.syi.project.common.exception.handler.FileErrorHandler;
 import com.syi.project.common.utils.S3Uploader;
 import com.syi.project.file.dto.FileDownloadDTO;
 import com.syi.project.file.dto.FileUpdateDTO;
+import com.syi.project.file.dto.StoredFileDTO;
 import com.syi.project.file.entity.File;
 import com.syi.project.file.enums.FileStatus;
+import com.syi.project.file.enums.MissingFilePolicy;
+import com.syi.project.file.repository.FileBatchRepository;
 import com.syi.project.file.repository.FileRepository;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
@@ -19,20 +22,24 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 
@@ -50,70 +57,145 @@ public class FileService {
   private final FileRepository fileRepository;
   private final S3Uploader s3Uploader;
   private final FileErrorHandler fileErrorHandler; // 생성자 주입 추가
+  private final ZipArchiveWriter zipArchiveWriter;
+  private final FileUploadPipeline fileUploadPipeline;
+  private final FileBatchRepository fileBatchRepository;
+  private final TransactionTemplate transactionTemplate;
 
-  // 다중 파일 업로드
-  @Transactional
+  // 다중 파일 업로드 - 저장소 업로드는 트랜잭션 밖에서 병렬로, 메타데이터는 한 번에 저장
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public List<File> uploadFiles(List<MultipartFile> multipartFiles, String dirName, Member uploader, LocalDate date) {
-    List<File> uploadedFiles = new ArrayList<>();
-
-    for (MultipartFile file : multipartFiles) {
-      try {
-        File uploadedFile = uploadFile(file, dirName, uploader, date);
-        uploadedFiles.add(uploadedFile);
-      } catch (Exception e) {
-        // 롤백 로직...
-      }
+    List<StoredFileDTO> storedFiles = storeFiles(multipartFiles, dirName, uploader.getId(), date);
+    try {
+      return transactionTemplate.execute(status -> saveStoredFiles(storedFiles, uploader));
+    } catch (RuntimeException e) {
+      discardStoredFiles(storedFiles);
+      throw e;
     }
-    return uploadedFiles;
   }
 
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public List<File> uploadFiles(List<MultipartFile> multipartFiles, String dirName, Member uploader) {
     return uploadFiles(multipartFiles, dirName, uploader, LocalDate.now());
   }
 
-  // 다중 파일 수정
-  @Transactional
+  // 다중 파일 수정 - 새 파일은 트랜잭션 밖에서 먼저 업로드
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public List<File> updateFiles(FileUpdateDTO updateDTO, String dirName, Member modifier) {
-    List<File> updatedFiles = new ArrayList<>();
+    List<StoredFileDTO> storedFiles = storeFiles(updateDTO.getNewFiles(), dirName,
+        modifier.getId(), LocalDate.now());
+    try {
+      return transactionTemplate.execute(status -> {
+        // 1. 삭제 요청된 파일들 처리
+        if (updateDTO.getDeleteFileIds() != null && !updateDTO.getDeleteFileIds().isEmpty()) {
+          for (Long fileId : updateDTO.getDeleteFileIds()) {
+            deleteFile(fileId, modifier);
+          }
+        }
 
-    // 1. 삭제 요청된 파일들 처리
-    if (updateDTO.getDeleteFileIds() != null && !updateDTO.getDeleteFileIds().isEmpty()) {
-      for (Long fileId : updateDTO.getDeleteFileIds()) {
-        deleteFile(fileId, modifier);
-      }
+        // 2. 새로운 파일들 추가
+        return saveStoredFiles(storedFiles, modifier);
+      });
+    } catch (RuntimeException e) {
+      discardStoredFiles(storedFiles);
+      throw e;
     }
+  }
 
-    // 2. 새로운 파일들 추가
-    if (updateDTO.getNewFiles() != null && !updateDTO.getNewFiles().isEmpty()) {
-      for (MultipartFile newFile : updateDTO.getNewFiles()) {
-        try {
-          File uploadedFile = uploadFile(newFile, dirName, modifier);
-          updatedFiles.add(uploadedFile);
-        } catch (Exception e) {
-          log.error("새 파일 업로드 실패: {}", newFile.getOriginalFilename());
-          throw new RuntimeException("파일 업로드 중 오류가 발생했습니다.", e);
-        }
+  /**
+   * 저장소에 파일 업로드 (DB 저장 없음)
+   * - 트랜잭션 밖에서 호출해야 업로드 동안 DB 커넥션을 점유하지 않음
+   * - 하나라도 실패하면 이미 올라간 파일을 삭제하고 FILE_UPLOAD_FAILED 예외 발생
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<StoredFileDTO> storeFiles(List<MultipartFile> multipartFiles, String dirName,
+      Long uploaderId, LocalDate date) {
+    return fileUploadPipeline.store(multipartFiles, dirName, uploaderId, date);
+  }
+
+  /**
+   * 업로드된 파일들의 메타데이터를 한 번의 batch insert 로 저장 (호출한 쪽 트랜잭션에 참여)
+   * - 트랜잭션이 실패하면 호출한 쪽에서 discardStoredFiles 로 저장소 파일을 정리해야 함
+   */
+  @Transactional
+  public List<File> saveStoredFiles(List<StoredFileDTO> storedFiles, Member uploader) {
+    if (storedFiles.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    List<Long> ids = fileBatchRepository.batchInsert(storedFiles, uploader.getId());
+    Map<Long, File> filesById = fileRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(File::getId, Function.identity()));
+
+    List<File> files = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      files.add(filesById.get(id));
+    }
+    return files;
+  }
+
+  /**
+   * 직접 업로드(presigned)로 등록한 파일을 게시글에 첨부하기 위해 조회 (호출한 쪽 트랜잭션에 참여)
+   * - 본인이 올린 활성 파일이고, 아직 어떤 게시글에도 첨부되지 않은 파일만 허용
+   * - 파일 행을 잠근 뒤 첨부 여부를 확인하므로, 같은 파일을 동시에 첨부하면 나중 요청은 먼저 요청의 커밋을 기다린 뒤 거절됨
+   *
+   * @param fileIds 첨부할 파일 ID 목록 (요청 순서 유지, null 이면 빈 목록)
+   * @param owner   첨부하는 사용자
+   * @return 첨부할 파일 목록
+   */
+  @Transactional
+  public List<File> claimUploadedFiles(List<Long> fileIds, Member owner) {
+    if (fileIds == null || fileIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Map<Long, File> filesById = fileRepository.findAllByIdForUpdate(fileIds).stream()
+        .collect(Collectors.toMap(File::getId, Function.identity()));
+    List<Long> attachedIds = filesById.isEmpty()
+        ? List.of() : fileRepository.findAttachedIds(filesById.keySet());
+
+    List<File> files = new ArrayList<>(fileIds.size());
+    for (Long fileId : fileIds.stream().distinct().toList()) {
+      File file = filesById.get(fileId);
+      if (file == null || file.getStatus() != FileStatus.ACTIVE) {
+        log.error("첨부할 파일이 없거나 삭제됨 - fileId: {}", fileId);
+        throw new InvalidRequestException(ErrorCode.FILE_NOT_FOUND);
+      }
+      if (!file.getUploadedBy().getId().equals(owner.getId())) {
+        log.error("본인이 올린 파일이 아님 - fileId: {}, memberId: {}", fileId, owner.getId());
+        throw new InvalidRequestException(ErrorCode.FILE_ACCESS_DENIED);
+      }
+      if (attachedIds.contains(fileId)) {
+        log.error("이미 다른 게시글에 첨부된 파일 - fileId: {}", fileId);
+        throw new InvalidRequestException(ErrorCode.FILE_INVALID_STATE);
       }
+      files.add(file);
     }
+    return files;
+  }
 
-    return updatedFiles;
+  // 사용되지 않게 된 업로드 파일 삭제 (보상 처리)
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void discardStoredFiles(List<StoredFileDTO> storedFiles) {
+    fileUploadPipeline.discard(storedFiles);
   }
 
   // 단일 파일 업로드
   @Transactional
   public File uploadFile(MultipartFile multipartFile, String dirName, Member uploader, LocalDate date) {
     try {
-      // 1. S3에 파일 업로드하고 저장 경로 받기
-      String fullPath = s3Uploader.uploadFile(multipartFile, dirName, date);
+      // 1. 저장소에 내용 기반으로 업로드 (같은 내용이 이미 있으면 재사용)
+      StoredFileDTO storedFile = fileUploadPipeline.storeOne(multipartFile, dirName,
+          uploader.getId(), date);
 
       // 2. DB에 메타데이터 저장
       File file = File.builder()
-          .originalName(multipartFile.getOriginalFilename())
-          .objectKey(fullPath)
-          .path(fullPath)
-          .size(multipartFile.getSize())
-          .mimeType(multipartFile.getContentType())
+          .originalName(storedFile.getOriginalName())
+          .objectKey(storedFile.getObjectKey())
+          .path(storedFile.getPath())
+          .contentHash(storedFile.getContentHash())
+          .size(storedFile.getSize())
+          .mimeType(storedFile.getMimeType())
           .uploadedBy(uploader)
           .status(FileStatus.ACTIVE)
           .build();
@@ -144,23 +226,27 @@ public class FileService {
 
     try {
       // 1. 새 파일 업로드 시도 - 날짜 전달
-      String newFileUrl = s3Uploader.uploadFile(newFile, dirName, date);
-
-      // 2. 기존 파일 삭제
-      s3Uploader.deleteFile(existingFile.getPath());
+      StoredFileDTO storedFile = fileUploadPipeline.storeOne(newFile, dirName, modifier.getId(),
+          date);
+      String oldPath = existingFile.getPath();
 
-      // 3. 파일 메타데이터 업데이트
-      String newObjectKey = extractObjectKeyFromUrl(newFileUrl);
+      // 2. 파일 메타데이터 업데이트
       existingFile.updateFile(
-          newFile.getOriginalFilename(),
-          newObjectKey,
-          dirName + "/" + newObjectKey,
-          newFile.getSize(),
-          newFile.getContentType(),
+          storedFile.getOriginalName(),
+          storedFile.getObjectKey(),
+          storedFile.getPath(),
+          storedFile.getSize(),
+          storedFile.getMimeType(),
+          storedFile.getContentHash(),
           modifier
       );
+      File updatedFile = fileRepository.save(existingFile);
 
-      return fileRepository.save(existingFile);
+      // 3. 기존 저장소 파일은 커밋 후 삭제 대기 (대기 시간이 지나도 참조가 없을 때만 삭제)
+      if (!oldPath.equals(storedFile.getPath())) {
+        fileUploadPipeline.release(oldPath);
+      }
+      return updatedFile;
     } catch (Exception e) {
       log.error("파일 수정 실패: {}", e.getMessage());
       throw new RuntimeException("파일 수정에 실패했습니다.", e);
@@ -180,11 +266,11 @@ public class FileService {
     File file = fileRepository.findById(fileId)
         .orElseThrow(() -> new IllegalArgumentException("파일이 존재하지 않습니다."));
 
-    // 2. S3에서 실제 파일 삭제
+    // 2. 삭제 처리 후, 커밋되면 저장소 파일 삭제 대기 (대기 시간이 지나도 같은 내용을 참조하는 파일이 없을 때만 삭제)
     try {
-      s3Uploader.deleteFile(file.getPath());
       file.delete(member); // Member 객체 전달, status를 DELETED로 변경
       fileRepository.save(file); // 이 라인 추가: 변경된 상태를 DB에 저장
+      fileUploadPipeline.release(file.getPath());
     } catch (Exception e) {
       log.error("파일 삭제 실패: {}", e.getMessage());
       throw new RuntimeException("파일 삭제에 실패했습니다.", e);
@@ -200,7 +286,7 @@ public class FileService {
     fileErrorHandler.validateFileStatus(file);
 
     try {
-      Resource resource = new InputStreamResource(s3Uploader.downloadFile(file.getPath()));
+      Resource resource = s3Uploader.loadAsResource(file.getPath());
       return FileDownloadDTO.builder()
           .originalName(file.getOriginalName())
           .contentType(file.getMimeType())
@@ -262,6 +348,31 @@ public class FileService {
     }
   }
 
+  /**
+   * 일괄 다운로드 zip 스트리밍
+   * - 압축 파일 전체를 메모리에 만들지 않고, 저장소에서 받는 대로 응답 스트림에 바로 기록
+   * - 저장소에 없는 파일은 건너뛰고 누락 목록 파일을 zip 에 추가
+   *
+   * @param files             압축할 파일 목록
+   * @param fileNameGenerator zip 안에서 사용할 파일명 생성 함수
+   * @return 응답 스트림에 zip 을 기록하는 StreamingResponseBody
+   */
+  public StreamingResponseBody streamFilesAsZip(List<File> files,
+      Function<File, String> fileNameGenerator) {
+    return streamFilesAsZip(files, fileNameGenerator, MissingFilePolicy.SKIP_WITH_MANIFEST);
+  }
+
+  // 누락 파일 처리 방식을 지정하는 오버로드 메서드
+  public StreamingResponseBody streamFilesAsZip(List<File> files,
+      Function<File, String> fileNameGenerator, MissingFilePolicy missingFilePolicy) {
+    return zipArchiveWriter.stream(files, fileNameGenerator, missingFilePolicy);
+  }
+
+  // 저장소에 실제로 존재하는 파일만 반환 (병렬 확인, 순서 유지)
+  public List<File> filterFilesInStorage(List<File> files) {
+    return zipArchiveWriter.filterAvailable(files);
+  }
+
   //추가
   public ResponseEntity<Resource> getDownloadResponseEntity(FileDownloadDTO downloadDTO) {
     return ResponseEntity.ok()
@@ -271,9 +382,4 @@ public class FileService {
         .body(downloadDTO.getResource());
   }
 
-  // 파일 URL에서 S3 객체 키를 추출하는 헬퍼 메서드
-  private String extractObjectKeyFromUrl(String fileUrl) {
-    return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-  }
-
 }
\ No newline at end of file
@@ -0,0 +1,231 @@
+package com.syi.project.file.service;
+
+import static com.syi.project.common.exception.ErrorCode.FILE_UPLOAD_FAILED;
+
+import com.syi.project.common.exception.InvalidRequestException;
+import com.syi.project.common.utils.S3Uploader;
+import com.syi.project.file.dto.StoredFileDTO;
+import com.syi.project.file.enums.FileStatus;
+import com.syi.project.file.repository.FileRepository;
+import com.syi.project.file.repository.StoragePathClaimRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 파일 저장소 업로드
+ * - DB 트랜잭션 밖에서 호출해서 업로드 동안 커넥션을 잡고 있지 않도록 함
+ * - 업로드는 병렬로 수행하고, 하나라도 실패하면 이미 올라간 파일을 정리한 뒤 예외 발생
+ * - 내용 기반 저장: 같은 내용의 파일은 저장소 객체 하나를 공유하고, 참조가 모두 사라질 때 삭제
+ * - 저장소 삭제는 지연 처리: release 는 커밋 후 삭제 대기 목록에 올리기만 하고, grace-seconds 가 지난 뒤
+ *   참조를 다시 세어서 여전히 없을 때만 삭제 (같은 내용을 다시 첨부하거나, 업로드를 생략한 요청이 아직
+ *   커밋되지 않은 경우에도 저장소 객체가 사라지지 않도록 함)
+ * - 업로드와 삭제는 storage_path_claim 행 잠금으로 직렬화: 업로드는 존재 확인 전에 경로 사용 시각을 기록하고,
+ *   삭제는 행을 잠근 채 사용 시각과 참조 수를 확인 (grace-seconds 이내에 사용된 경로는 삭제하지 않고 다시 대기)
+ */
+@Slf4j
+@Component
+public class FileUploadPipeline {
+
+  private final S3Uploader s3Uploader;
+  private final FileRepository fileRepository;
+  private final StoragePathClaimRepository storagePathClaimRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService uploadPool;
+  private final long releaseGraceMillis;
+
+  // 삭제 대기 중인 저장소 경로 -> 삭제 가능 시각
+  private final Map<String, Long> pendingReleases = new ConcurrentHashMap<>();
+
+  public FileUploadPipeline(S3Uploader s3Uploader, FileRepository fileRepository,
+      StoragePathClaimRepository storagePathClaimRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${file.upload.threads:4}") int uploadThreads,
+      @Value("${file.release.grace-seconds:600}") long releaseGraceSeconds) {
+    this.s3Uploader = s3Uploader;
+    this.fileRepository = fileRepository;
+    this.storagePathClaimRepository = storagePathClaimRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.releaseGraceMillis = releaseGraceSeconds * 1000;
+    this.uploadPool = Executors.newFixedThreadPool(uploadThreads,
+        new CustomizableThreadFactory("file-upload-"));
+  }
+
+  /**
+   * 파일들을 저장소에 병렬 업로드
+   *
+   * @param files      업로드할 파일 목록
+   * @param dirName    저장 디렉토리
+   * @param uploaderId 업로드 사용자 ID
+   * @param date       저장 날짜 폴더
+   * @return 업로드된 파일 정보 (입력 순서)
+   */
+  public List<StoredFileDTO> store(List<MultipartFile> files, String dirName, Long uploaderId,
+      LocalDate date) {
+    if (files == null || files.isEmpty()) {
+      return List.of();
+    }
+
+    List<Future<StoredFileDTO>> uploads = new ArrayList<>(files.size());
+    for (MultipartFile file : files) {
+      uploads.add(uploadPool.submit(() -> storeOne(file, dirName, uploaderId, date)));
+    }
+
+    // 실패가 있어도 모든 업로드가 끝날 때까지 기다린 뒤 성공한 파일을 정리
+    List<StoredFileDTO> stored = new ArrayList<>(files.size());
+    Exception failure = null;
+    for (int i = 0; i < uploads.size(); i++) {
+      try {
+        stored.add(uploads.get(i).get());
+      } catch (ExecutionException e) {
+        log.error("파일 업로드 실패 - filename: {}", files.get(i).getOriginalFilename(), e.getCause());
+        failure = e;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failure = e;
+      }
+    }
+
+    if (failure != null) {
+      discard(stored);
+      throw new InvalidRequestException(FILE_UPLOAD_FAILED);
+    }
+    log.info("파일 {}개 업로드 완료 - dirName: {}", stored.size(), dirName);
+    return stored;
+  }
+
+  /**
+   * 단일 파일을 내용 기반으로 저장 (호출한 스레드에서 수행)
+   * - 업로드 전에 내용을 한 번 읽어 SHA-256 을 계산하고, 같은 내용이 이미 저장소에 있으면 업로드하지 않음
+   * - 해시를 업로드 스트림에서 같이 계산하지 않는 이유: 업로드 전에는 최종 경로를 알 수 없어 임시 키에 올린 뒤
+   *   복사/삭제해야 하고, 중복 파일도 매번 네트워크로 전송됨. 첫 번째 읽기는 이미 서버에 받아 둔 multipart
+   *   (메모리/임시 파일)에서 읽으므로 저장소 전송보다 훨씬 싸고, 중복이면 업로드 자체를 생략할 수 있음
+   * - 존재 확인 전에 경로 사용을 기록해서, 업로드를 생략한 뒤 files 행이 커밋되기 전에 삭제되지 않도록 함
+   */
+  public StoredFileDTO storeOne(MultipartFile file, String dirName, Long uploaderId,
+      LocalDate date) throws IOException {
+    String contentHash = s3Uploader.hashContent(file);
+    String path = s3Uploader.contentPath(file.getOriginalFilename(), contentHash);
+    // 같은 경로를 삭제 중이면 삭제가 끝날 때까지 대기 (삭제 후에는 exists 가 false 라 다시 업로드)
+    storagePathClaimRepository.claim(path, LocalDateTime.now());
+    // 같은 내용이 삭제 대기 중이면 다시 사용하므로 대기 취소 (다른 인스턴스의 대기는 사용 시각 확인으로 보호)
+    pendingReleases.remove(path);
+    s3Uploader.uploadContent(file, contentHash);
+    return StoredFileDTO.builder()
+        .originalName(file.getOriginalFilename())
+        .objectKey(s3Uploader.createObjectKey(file, dirName, uploaderId, date))
+        .path(path)
+        .contentHash(contentHash)
+        .size(file.getSize())
+        .mimeType(file.getContentType())
+        .build();
+  }
+
+  /**
+   * 저장소 경로를 삭제 대기 목록에 등록
+   * - 트랜잭션 안에서 호출되면 커밋된 뒤에 등록 (롤백되면 참조가 그대로 남으므로 등록하지 않음)
+   * - 실제 삭제는 sweepReleases 에서 참조(삭제되지 않은 files 행)를 다시 세어서 없을 때만 수행
+   *
+   * @param path 저장소 경로
+   */
+  public void release(String path) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          scheduleRelease(path);
+        }
+      });
+      return;
+    }
+    scheduleRelease(path);
+  }
+
+  private void scheduleRelease(String path) {
+    pendingReleases.put(path, System.currentTimeMillis() + releaseGraceMillis);
+    log.debug("저장소 파일 삭제 대기 등록 - path: {}", path);
+  }
+
+  /**
+   * 대기 시간이 지난 저장소 경로 중 참조가 없는 것만 저장소에서 삭제
+   * - 경로마다 storage_path_claim 행을 잠근 트랜잭션 안에서 확인과 삭제를 수행
+   */
+  @Scheduled(fixedDelayString = "${file.release.sweep-interval-ms:60000}")
+  public void sweepReleases() {
+    long now = System.currentTimeMillis();
+    for (Map.Entry<String, Long> entry : pendingReleases.entrySet()) {
+      if (entry.getValue() > now) {
+        continue;
+      }
+      String path = entry.getKey();
+      // 삭제 가능 시각이 바뀌었으면(다시 release 됨) 다음 회차에 처리
+      if (!pendingReleases.remove(path, entry.getValue())) {
+        continue;
+      }
+
+      try {
+        transactionTemplate.executeWithoutResult(status -> releaseIfUnused(path));
+      } catch (Exception e) {
+        log.error("저장소 파일 삭제 실패 - path: {}", path, e);
+      }
+    }
+  }
+
+  private void releaseIfUnused(String path) {
+    // 잠금을 잡은 뒤에 시작한 업로드는 커밋까지 기다리므로, 여기서 본 사용 시각 이후의 재사용은 없음
+    LocalDateTime claimedAt = storagePathClaimRepository.lockForRelease(path);
+    if (claimedAt.isAfter(LocalDateTime.now().minus(Duration.ofMillis(releaseGraceMillis)))) {
+      log.info("최근 업로드에서 사용된 경로라 삭제 보류 - path: {}, 사용 시각: {}", path, claimedAt);
+      pendingReleases.merge(path, System.currentTimeMillis() + releaseGraceMillis, Math::max);
+      return;
+    }
+
+    long references = fileRepository.countByPathAndStatusNot(path, FileStatus.DELETED);
+    if (references > 0) {
+      log.info("다른 파일에서 참조 중이라 저장소 파일 유지 - path: {}, 참조 수: {}", path, references);
+      return;
+    }
+    s3Uploader.deleteFile(path);
+    storagePathClaimRepository.delete(path);
+  }
+
+  /**
+   * DB 저장 실패 등으로 사용되지 않게 된 저장소 파일 정리 (보상 처리)
+   *
+   * @param storedFiles 정리할 파일 목록
+   */
+  public void discard(List<StoredFileDTO> storedFiles) {
+    for (StoredFileDTO storedFile : storedFiles) {
+      try {
+        release(storedFile.getPath());
+      } catch (Exception e) {
+        log.error("업로드 파일 정리 실패 - path: {}", storedFile.getPath(), e);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    uploadPool.shutdownNow();
+  }
+}
@@ -0,0 +1,247 @@
+package com.syi.project.file.service;
+
+import com.syi.project.auth.entity.Member;
+import com.syi.project.common.enums.Role;
+import com.syi.project.common.exception.ErrorCode;
+import com.syi.project.common.exception.InvalidRequestException;
+import com.syi.project.common.exception.handler.FileErrorHandler;
+import com.syi.project.common.utils.S3Uploader;
+import com.syi.project.file.dto.PresignedUploadCompleteRequestDTO;
+import com.syi.project.file.dto.PresignedUploadRequestDTO;
+import com.syi.project.file.dto.PresignedUrlResponseDTO;
+import com.syi.project.file.entity.File;
+import com.syi.project.file.entity.PresignedUpload;
+import com.syi.project.file.enums.FileStatus;
+import com.syi.project.file.repository.FileRepository;
+import com.syi.project.file.repository.PresignedUploadRepository;
+import com.syi.project.file.storage.StorageBackend;
+import com.syi.project.file.storage.StoredObject;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 저장소 직접 업로드/다운로드 (presigned URL)
+ * - 파일 본문은 클라이언트와 저장소가 직접 주고받고, 서버는 URL 발급과 메타데이터 저장만 담당
+ * - 업로드: URL 발급 -> 클라이언트 PUT -> 완료 요청 시 저장소 메타데이터를 확인하고 files 에 저장
+ * - 발급한 objectKey 는 presigned_upload 에 기록하고, 만료 후 complete-grace-seconds 가 지나도 완료되지 않으면
+ *   저장소에 올라간 객체와 함께 정리
+ */
+@Slf4j
+@Service
+public class PresignedFileService {
+
+  private static final String DEFAULT_MIME_TYPE = "application/octet-stream";
+
+  private final StorageBackend storageBackend;
+  private final S3Uploader s3Uploader;
+  private final FileRepository fileRepository;
+  private final PresignedUploadRepository presignedUploadRepository;
+  private final FileErrorHandler fileErrorHandler;
+  private final long uploadTtlSeconds;
+  private final long downloadTtlSeconds;
+  private final long maxSize;
+  private final long completeGraceSeconds;
+
+  public PresignedFileService(StorageBackend storageBackend, S3Uploader s3Uploader,
+      FileRepository fileRepository, PresignedUploadRepository presignedUploadRepository,
+      FileErrorHandler fileErrorHandler,
+      @Value("${file.presigned.upload-ttl-seconds:600}") long uploadTtlSeconds,
+      @Value("${file.presigned.download-ttl-seconds:300}") long downloadTtlSeconds,
+      @Value("${file.presigned.max-size:104857600}") long maxSize,
+      @Value("${file.presigned.complete-grace-seconds:3600}") long completeGraceSeconds) {
+    this.storageBackend = storageBackend;
+    this.s3Uploader = s3Uploader;
+    this.fileRepository = fileRepository;
+    this.presignedUploadRepository = presignedUploadRepository;
+    this.fileErrorHandler = fileErrorHandler;
+    this.uploadTtlSeconds = uploadTtlSeconds;
+    this.downloadTtlSeconds = downloadTtlSeconds;
+    this.maxSize = maxSize;
+    this.completeGraceSeconds = completeGraceSeconds;
+  }
+
+  /**
+   * 업로드 URL 발급
+   * - objectKey 는 일반 업로드와 같은 규칙(dirName/memberId/날짜/uuid.확장자)으로 생성
+   * - 완료 확인과 미완료 정리를 위해 발급 내역을 저장
+   *
+   * @param requestDTO 업로드할 파일 정보
+   * @param memberId   업로드하는 사용자 ID
+   * @return 업로드 URL, objectKey, 만료 시각
+   */
+  public PresignedUrlResponseDTO createPresignedUpload(PresignedUploadRequestDTO requestDTO,
+      Long memberId) {
+    String dirName = requestDTO.getDirName();
+    if (dirName.contains("/") || dirName.contains("..")) {
+      log.error("허용되지 않은 저장 디렉토리 - dirName: {}", dirName);
+      throw new InvalidRequestException(ErrorCode.INVALID_FILE_FORMAT, "허용되지 않은 저장 디렉토리입니다.");
+    }
+    if (requestDTO.getOriginalName().lastIndexOf('.') < 0) {
+      log.error("확장자가 없는 파일 - originalName: {}", requestDTO.getOriginalName());
+      throw new InvalidRequestException(ErrorCode.FILE_EXTENSION_MISMATCH);
+    }
+    validateSize(requestDTO.getSize());
+
+    String objectKey = s3Uploader.createObjectKey(requestDTO.getOriginalName(), dirName, memberId,
+        LocalDate.now());
+    Date expiration = expiresIn(uploadTtlSeconds);
+    String url;
+    try {
+      url = storageBackend.createUploadUrl(objectKey, requestDTO.getContentType(), expiration);
+    } catch (UnsupportedOperationException e) {
+      throw new InvalidRequestException(ErrorCode.FILE_PRESIGNED_NOT_SUPPORTED);
+    }
+    presignedUploadRepository.save(PresignedUpload.builder()
+        .objectKey(objectKey)
+        .memberId(memberId)
+        .expiresAt(toLocalDateTime(expiration))
+        .build());
+
+    log.info("업로드 URL 발급 - memberId: {}, objectKey: {}", memberId, objectKey);
+    return PresignedUrlResponseDTO.builder()
+        .url(url)
+        .objectKey(objectKey)
+        .expiresAt(toLocalDateTime(expiration))
+        .build();
+  }
+
+  /**
+   * 업로드 완료 처리
+   * - 본인에게 발급된 objectKey 인지, 저장소에 실제로 올라왔는지, 크기가 허용 범위인지 확인 후 저장
+   *
+   * @param requestDTO 업로드 완료 정보
+   * @param uploader   업로드한 사용자
+   * @return 저장된 파일 엔티티
+   */
+  @Transactional
+  public File completePresignedUpload(PresignedUploadCompleteRequestDTO requestDTO,
+      Member uploader) {
+    String objectKey = requestDTO.getObjectKey();
+    PresignedUpload presignedUpload = presignedUploadRepository.findByObjectKey(objectKey)
+        .filter(upload -> upload.getMemberId().equals(uploader.getId()))
+        .orElseThrow(() -> {
+          log.error("발급되지 않은 objectKey - memberId: {}, objectKey: {}", uploader.getId(), objectKey);
+          return new InvalidRequestException(ErrorCode.FILE_ACCESS_DENIED);
+        });
+    if (fileRepository.existsByObjectKey(objectKey)) {
+      log.error("이미 등록된 objectKey - objectKey: {}", objectKey);
+      throw new InvalidRequestException(ErrorCode.FILE_INVALID_STATE);
+    }
+
+    StoredObject storedObject;
+    try {
+      storedObject = storageBackend.describe(objectKey);
+    } catch (IOException e) {
+      log.error("저장소 메타데이터 조회 실패 - objectKey: {}, error: {}", objectKey, e.getMessage());
+      throw new InvalidRequestException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+    if (storedObject == null) {
+      log.error("저장소에 업로드되지 않은 파일 - objectKey: {}", objectKey);
+      throw new InvalidRequestException(ErrorCode.FILE_NOT_IN_STORAGE_SINGLE);
+    }
+    if (storedObject.getSize() > maxSize) {
+      log.error("허용 크기 초과 - objectKey: {}, size: {}", objectKey, storedObject.getSize());
+      s3Uploader.deleteFile(objectKey);
+      throw new InvalidRequestException(ErrorCode.FILE_SIZE_EXCEEDED);
+    }
+
+    String mimeType = storedObject.getContentType() == null
+        ? DEFAULT_MIME_TYPE : storedObject.getContentType();
+    File file = File.builder()
+        .originalName(requestDTO.getOriginalName())
+        .objectKey(objectKey)
+        .path(objectKey)
+        .size(storedObject.getSize())
+        .mimeType(mimeType)
+        .uploadedBy(uploader)
+        .status(FileStatus.ACTIVE)
+        .build();
+
+    File savedFile = fileRepository.save(file);
+    presignedUploadRepository.delete(presignedUpload);
+    log.info("직접 업로드 파일 저장 완료 - fileId: {}, objectKey: {}", savedFile.getId(), objectKey);
+    return savedFile;
+  }
+
+  /**
+   * 다운로드 URL 발급
+   * - URL 은 인증 없이 누구나 사용할 수 있으므로, 발급 전에 파일을 볼 수 있는 사용자인지 확인 (관리자는 전체 허용)
+   * - 응답 Content-Disposition 에 원본 파일명이 들어가도록 서명
+   *
+   * @param fileId   파일 ID
+   * @param memberId 요청한 사용자 ID
+   * @param role     요청한 사용자 권한
+   * @return 다운로드 URL, 만료 시각
+   */
+  public PresignedUrlResponseDTO createPresignedDownload(Long fileId, Long memberId, Role role) {
+    File file = fileErrorHandler.validateFileExists(fileId);
+    fileErrorHandler.validateFileStatus(file);
+    if (role != Role.ADMIN && !fileRepository.isAccessibleBy(fileId, memberId)) {
+      log.error("다운로드 URL 발급 권한 없음 - fileId: {}, memberId: {}", fileId, memberId);
+      throw new InvalidRequestException(ErrorCode.FILE_ACCESS_DENIED);
+    }
+
+    Date expiration = expiresIn(downloadTtlSeconds);
+    String url;
+    try {
+      url = storageBackend.createDownloadUrl(file.getPath(), file.getOriginalName(), expiration);
+    } catch (UnsupportedOperationException e) {
+      throw new InvalidRequestException(ErrorCode.FILE_PRESIGNED_NOT_SUPPORTED);
+    }
+
+    return PresignedUrlResponseDTO.builder()
+        .url(url)
+        .expiresAt(toLocalDateTime(expiration))
+        .build();
+  }
+
+  /**
+   * 완료되지 않은 직접 업로드 정리
+   * - URL 만료 후 complete-grace-seconds 가 지나도 완료 요청이 없으면 저장소 객체(올라왔다면)와 발급 내역을 삭제
+   */
+  @Scheduled(fixedDelayString = "${file.presigned.sweep-interval-ms:600000}")
+  public void sweepIncompleteUploads() {
+    LocalDateTime threshold = LocalDateTime.now().minusSeconds(completeGraceSeconds);
+    List<PresignedUpload> expired = presignedUploadRepository
+        .findTop500ByExpiresAtBeforeOrderByIdAsc(threshold);
+    for (PresignedUpload upload : expired) {
+      String objectKey = upload.getObjectKey();
+      try {
+        // 완료 처리와 겹친 경우 files 에 등록된 객체는 유지
+        if (!fileRepository.existsByObjectKey(objectKey)) {
+          s3Uploader.deleteFile(objectKey);
+        }
+        presignedUploadRepository.delete(upload);
+      } catch (Exception e) {
+        log.error("미완료 직접 업로드 정리 실패 - objectKey: {}", objectKey, e);
+      }
+    }
+    if (!expired.isEmpty()) {
+      log.info("미완료 직접 업로드 정리 - 대상 수: {}", expired.size());
+    }
+  }
+
+  private void validateSize(long size) {
+    if (size > maxSize) {
+      log.error("허용 크기 초과 - size: {}, maxSize: {}", size, maxSize);
+      throw new InvalidRequestException(ErrorCode.FILE_SIZE_EXCEEDED);
+    }
+  }
+
+  private static Date expiresIn(long seconds) {
+    return new Date(System.currentTimeMillis() + seconds * 1000);
+  }
+
+  private static LocalDateTime toLocalDateTime(Date date) {
+    return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+  }
+}
@@ -0,0 +1,251 @@
+package com.syi.project.file.service;
+
+import com.syi.project.common.utils.S3Uploader;
+import com.syi.project.file.entity.File;
+import com.syi.project.file.enums.MissingFilePolicy;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * zip 일괄 다운로드 스트리밍
+ * - 저장소 객체를 prefetch-window 개, prefetch-max-bytes 바이트까지 미리 병렬로 받아두고, zip 에는 요청 순서대로 기록
+ * - stream-threshold-bytes 보다 크거나 크기를 모르는 객체는 미리 받지 않고 기록할 차례에 저장소 스트림을 바로 zip 에 복사
+ * - 앞의 엔트리를 기록해야 다음 객체를 요청하므로 요청 하나의 버퍼 메모리는 prefetch-max-bytes 이하로 제한됨
+ */
+@Slf4j
+@Component
+public class ZipArchiveWriter {
+
+  private static final String MISSING_MANIFEST_NAME = "누락된_파일_목록.txt";
+
+  private final S3Uploader s3Uploader;
+  private final int prefetchWindow;
+  private final long prefetchMaxBytes;
+  private final long streamThresholdBytes;
+  private final ExecutorService prefetchPool;
+
+  public ZipArchiveWriter(S3Uploader s3Uploader,
+      @Value("${file.zip.prefetch-threads:8}") int prefetchThreads,
+      @Value("${file.zip.prefetch-window:8}") int prefetchWindow,
+      @Value("${file.zip.prefetch-max-bytes:67108864}") long prefetchMaxBytes,
+      @Value("${file.zip.stream-threshold-bytes:8388608}") long streamThresholdBytes) {
+    this.s3Uploader = s3Uploader;
+    this.prefetchWindow = Math.max(1, prefetchWindow);
+    this.prefetchMaxBytes = prefetchMaxBytes;
+    // 한 객체가 예산 전체를 차지하지 않도록 임계값은 예산 이하로 제한
+    this.streamThresholdBytes = Math.min(streamThresholdBytes, prefetchMaxBytes);
+    this.prefetchPool = Executors.newFixedThreadPool(prefetchThreads,
+        new CustomizableThreadFactory("zip-prefetch-"));
+  }
+
+  /**
+   * 파일 목록을 zip 으로 스트리밍하는 응답 본문 생성
+   * - 응답 본문은 요청 스레드가 끝난 뒤 비동기로 기록되므로 엔티티 값(경로, 파일명)은 여기서 미리 꺼내 둠
+   *
+   * @param files             압축할 파일 목록 (zip 엔트리 순서)
+   * @param fileNameGenerator zip 안에서 사용할 파일명 생성 함수
+   * @param missingFilePolicy 저장소에 없는 파일 처리 방식
+   * @return 응답 스트림에 zip 을 기록하는 StreamingResponseBody
+   */
+  public StreamingResponseBody stream(List<File> files, Function<File, String> fileNameGenerator,
+      MissingFilePolicy missingFilePolicy) {
+    List<ZipSource> sources = new ArrayList<>(files.size());
+    for (File file : files) {
+      sources.add(new ZipSource(fileNameGenerator.apply(file), file.getPath(), file.getSize()));
+    }
+    return outputStream -> write(sources, missingFilePolicy, new ZipOutputStream(outputStream));
+  }
+
+  /**
+   * 저장소에 실제로 존재하는 파일만 순서를 유지해서 반환 (HEAD 요청을 병렬로 수행)
+   *
+   * @param files 확인할 파일 목록
+   * @return 저장소에 존재하는 파일 목록
+   */
+  public List<File> filterAvailable(List<File> files) {
+    List<Future<Boolean>> checks = new ArrayList<>(files.size());
+    for (File file : files) {
+      String path = file.getPath();
+      checks.add(prefetchPool.submit(() -> s3Uploader.doesFileExist(path)));
+    }
+
+    List<File> available = new ArrayList<>(files.size());
+    for (int i = 0; i < files.size(); i++) {
+      File file = files.get(i);
+      try {
+        if (checks.get(i).get()) {
+          available.add(file);
+        } else {
+          log.warn("S3 파일 누락 - 파일ID: {}", file.getId());
+        }
+      } catch (ExecutionException e) {
+        log.warn("S3 파일 확인 실패 - 파일ID: {}, error: {}", file.getId(),
+            e.getCause().getMessage());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        checks.forEach(check -> check.cancel(true));
+        throw new IllegalStateException("파일 존재 여부 확인이 중단되었습니다.", e);
+      }
+    }
+    return available;
+  }
+
+  private void write(List<ZipSource> sources, MissingFilePolicy missingFilePolicy,
+      ZipOutputStream zos) throws IOException {
+    // 요청 순서대로 대기 중인 엔트리 (직접 스트리밍할 엔트리는 future 가 null)
+    Deque<Pending> inFlight = new ArrayDeque<>(prefetchWindow);
+    List<String> missing = new ArrayList<>();
+    long bufferedBytes = 0;
+    int next = 0;
+
+    try {
+      for (ZipSource source : sources) {
+        // 창 크기와 바이트 예산 안에서 앞서서 요청
+        while (next < sources.size() && inFlight.size() < prefetchWindow) {
+          ZipSource upcoming = sources.get(next);
+          boolean direct = isDirect(upcoming);
+          if (!direct && !inFlight.isEmpty() && bufferedBytes + upcoming.size > prefetchMaxBytes) {
+            break;
+          }
+          inFlight.addLast(new Pending(direct ? null : prefetch(upcoming.path)));
+          bufferedBytes += direct ? 0 : upcoming.size;
+          next++;
+        }
+
+        Pending pending = inFlight.removeFirst();
+        boolean written = pending.future == null
+            ? writeDirect(source, zos)
+            : writeBuffered(await(pending.future, source), source, zos);
+        bufferedBytes -= pending.future == null ? 0 : source.size;
+
+        if (!written) {
+          if (missingFilePolicy == MissingFilePolicy.FAIL_FAST) {
+            throw new IOException("저장소에서 파일을 찾을 수 없어 압축을 중단합니다 - " + source.entryName);
+          }
+          missing.add(source.entryName);
+        }
+      }
+
+      if (!missing.isEmpty()) {
+        zos.putNextEntry(new ZipEntry(MISSING_MANIFEST_NAME));
+        zos.write(String.join("\r\n", missing).getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+      }
+      zos.finish();
+      log.info("zip 스트리밍 완료 - 요청 파일 수: {}, 누락 파일 수: {}", sources.size(), missing.size());
+    } finally {
+      // 중단(클라이언트 연결 종료, FAIL_FAST) 시 남은 요청 취소
+      inFlight.stream()
+          .filter(pending -> pending.future != null)
+          .forEach(pending -> pending.future.cancel(true));
+    }
+  }
+
+  // 크기를 모르거나 임계값보다 큰 객체는 메모리에 받지 않고 직접 스트리밍
+  private boolean isDirect(ZipSource source) {
+    return source.size <= 0 || source.size > streamThresholdBytes;
+  }
+
+  // 미리 받은 내용 기록 (저장소에서 받지 못했으면 false)
+  private boolean writeBuffered(byte[] content, ZipSource source, ZipOutputStream zos)
+      throws IOException {
+    if (content == null) {
+      return false;
+    }
+    zos.putNextEntry(new ZipEntry(source.entryName));
+    zos.write(content);
+    zos.closeEntry();
+    zos.flush();
+    return true;
+  }
+
+  // 저장소 스트림을 바로 zip 엔트리로 복사 (스트림을 열지 못했으면 false)
+  private boolean writeDirect(ZipSource source, ZipOutputStream zos) throws IOException {
+    InputStream inputStream;
+    try {
+      inputStream = s3Uploader.downloadFile(source.path);
+    } catch (Exception e) {
+      log.error("저장소에서 파일을 받지 못함 - path: {}, error: {}", source.path, e.getMessage());
+      return false;
+    }
+
+    // 엔트리를 쓰기 시작한 뒤의 실패는 zip 이 깨지므로 예외로 중단
+    try (inputStream) {
+      zos.putNextEntry(new ZipEntry(source.entryName));
+      inputStream.transferTo(zos);
+      zos.closeEntry();
+      zos.flush();
+    }
+    return true;
+  }
+
+  private Future<byte[]> prefetch(String path) {
+    return prefetchPool.submit(() -> {
+      try (InputStream inputStream = s3Uploader.downloadFile(path)) {
+        return inputStream.readAllBytes();
+      }
+    });
+  }
+
+  // 저장소에서 받지 못한 경우 null
+  private byte[] await(Future<byte[]> future, ZipSource source) throws IOException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      log.error("저장소에서 파일을 받지 못함 - path: {}, error: {}", source.path,
+          e.getCause().getMessage());
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("zip 스트리밍이 중단되었습니다.");
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    prefetchPool.shutdownNow();
+  }
+
+  // zip 엔트리 이름, 저장소 경로, 파일 크기 (모르면 0)
+  private static final class ZipSource {
+
+    private final String entryName;
+    private final String path;
+    private final long size;
+
+    private ZipSource(String entryName, String path, Long size) {
+      this.entryName = entryName;
+      this.path = path;
+      this.size = size == null ? 0 : size;
+    }
+  }
+
+  // 미리 받는 중인 내용 (직접 스트리밍할 엔트리는 null)
+  private static final class Pending {
+
+    private final Future<byte[]> future;
+
+    private Pending(Future<byte[]> future) {
+      this.future = future;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.syi.project.file.storage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 경로 -> 공개 URL 변환
+ * - cdn-base-url 이 설정되면 접두사 + 경로 문자열 결합만으로 URL 생성 (SDK 호출 없음)
+ * - 설정되지 않으면 저장소의 URL 을 경로별로 캐시 (LRU, 목록 조회마다 SDK 로 URL 을 다시 만들지 않음)
+ * - 경로(objectKey)는 생성 후 바뀌지 않으므로 캐시 무효화가 필요 없음
+ */
+@Slf4j
+@Component
+public class FileUrlResolver {
+
+  private final StorageBackend storageBackend;
+  private final String cdnBaseUrl; // 빈 문자열이면 저장소 URL 사용
+  private final Map<String, String> urlCache; // 저장소 경로 -> URL (LRU)
+
+  public FileUrlResolver(StorageBackend storageBackend,
+      @Value("${file.url.cdn-base-url:}") String cdnBaseUrl,
+      @Value("${file.url.cache-size:10000}") int cacheSize) {
+    this.storageBackend = storageBackend;
+    this.cdnBaseUrl = cdnBaseUrl.isEmpty() || cdnBaseUrl.endsWith("/")
+        ? cdnBaseUrl : cdnBaseUrl + "/";
+    this.urlCache = Collections.synchronizedMap(
+        new LinkedHashMap<>(256, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > cacheSize;
+          }
+        });
+    log.info("파일 URL 생성 방식 - {}", this.cdnBaseUrl.isEmpty() ? "저장소 URL (캐시)" : "CDN " + this.cdnBaseUrl);
+  }
+
+  /**
+   * 저장소 경로의 공개 URL
+   *
+   * @param path 저장소 경로 (File.path)
+   * @return 공개 URL
+   */
+  public String resolve(String path) {
+    if (!cdnBaseUrl.isEmpty()) {
+      return cdnBaseUrl + path;
+    }
+    String url = urlCache.get(path);
+    if (url == null) {
+      // 잠금 밖에서 생성 (동시에 생성돼도 결과가 같으므로 덮어써도 무방)
+      url = storageBackend.getUrl(path);
+      urlCache.put(path, url);
+    }
+    return url;
+  }
+}
@@ -0,0 +1,108 @@
+package com.syi.project.file.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 로컬 디스크 저장소 (온프레미스 배포, AWS 없이 테스트/벤치마크용)
+ * - 업로드: 멀티파트 임시 파일을 대상 경로로 바로 옮김 (같은 디스크면 복사 없이 이동)
+ * - 다운로드: FileSystemResource 로 반환해서 파일 채널 기반으로 전송
+ * - getUrl 은 base-url + key 이며, 해당 경로는 리버스 프록시 등에서 root-dir 로 연결해야 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local")
+public class LocalStorageBackend implements StorageBackend {
+
+  private final Path rootDir;
+  private final String baseUrl;
+
+  public LocalStorageBackend(@Value("${file.storage.local.root-dir:./storage}") String rootDir,
+      @Value("${file.storage.local.base-url:/storage/}") String baseUrl) throws IOException {
+    this.rootDir = Files.createDirectories(Paths.get(rootDir).toAbsolutePath().normalize());
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    log.info("로컬 파일 저장소 사용 - 경로: {}", this.rootDir);
+  }
+
+  @Override
+  public void store(String key, MultipartFile file) throws IOException {
+    Path target = resolve(key);
+    Files.createDirectories(target.getParent());
+    file.transferTo(target);
+  }
+
+  @Override
+  public InputStream open(String key) throws IOException {
+    Path path = resolve(key);
+    if (!Files.isRegularFile(path)) {
+      throw new FileNotFoundException("저장소에 파일이 없습니다: " + key);
+    }
+    return Channels.newInputStream(Files.newByteChannel(path, StandardOpenOption.READ));
+  }
+
+  @Override
+  public Resource load(String key) throws IOException {
+    Path path = resolve(key);
+    if (!Files.isRegularFile(path)) {
+      throw new FileNotFoundException("저장소에 파일이 없습니다: " + key);
+    }
+    return new FileSystemResource(path);
+  }
+
+  @Override
+  public boolean exists(String key) {
+    return Files.isRegularFile(resolve(key));
+  }
+
+  @Override
+  public void delete(String key) throws IOException {
+    Files.deleteIfExists(resolve(key));
+  }
+
+  @Override
+  public String getUrl(String key) {
+    return baseUrl + key;
+  }
+
+  @Override
+  public StoredObject describe(String key) throws IOException {
+    Path path = resolve(key);
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    return new StoredObject(Files.size(path), Files.probeContentType(path));
+  }
+
+  @Override
+  public String createUploadUrl(String key, String contentType, Date expiration) {
+    throw new UnsupportedOperationException("로컬 저장소는 presigned URL 을 지원하지 않습니다.");
+  }
+
+  @Override
+  public String createDownloadUrl(String key, String downloadName, Date expiration) {
+    throw new UnsupportedOperationException("로컬 저장소는 presigned URL 을 지원하지 않습니다.");
+  }
+
+  // 저장소 루트 밖으로 벗어나는 경로(../ 등) 차단
+  private Path resolve(String key) {
+    Path path = rootDir.resolve(key).normalize();
+    if (!path.startsWith(rootDir)) {
+      throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+    }
+    return path;
+  }
+}
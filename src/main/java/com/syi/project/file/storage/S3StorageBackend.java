@@ -0,0 +1,102 @@
+package com.syi.project.file.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * AWS S3 저장소 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3StorageBackend implements StorageBackend {
+
+  private final AmazonS3Client amazonS3Client;
+
+  @Value("${cloud.aws.s3.bucket}")
+  private String bucket;
+
+  @Override
+  public void store(String key, MultipartFile file) throws IOException {
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentType(file.getContentType());
+    metadata.setContentLength(file.getSize());
+
+    try (InputStream inputStream = file.getInputStream()) {
+      amazonS3Client.putObject(new PutObjectRequest(bucket, key, inputStream, metadata));
+    }
+  }
+
+  @Override
+  public InputStream open(String key) {
+    return amazonS3Client.getObject(bucket, key).getObjectContent();
+  }
+
+  @Override
+  public Resource load(String key) {
+    return new InputStreamResource(open(key));
+  }
+
+  @Override
+  public boolean exists(String key) {
+    return amazonS3Client.doesObjectExist(bucket, key);
+  }
+
+  @Override
+  public void delete(String key) {
+    amazonS3Client.deleteObject(bucket, key);
+  }
+
+  @Override
+  public String getUrl(String key) {
+    return amazonS3Client.getUrl(bucket, key).toString();
+  }
+
+  @Override
+  public StoredObject describe(String key) {
+    try {
+      ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucket, key);
+      return new StoredObject(metadata.getContentLength(), metadata.getContentType());
+    } catch (AmazonS3Exception e) {
+      if (e.getStatusCode() == 404) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public String createUploadUrl(String key, String contentType, Date expiration) {
+    GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+        .withExpiration(expiration)
+        .withContentType(contentType);
+    return amazonS3Client.generatePresignedUrl(request).toString();
+  }
+
+  @Override
+  public String createDownloadUrl(String key, String downloadName, Date expiration) {
+    String encodedName = URLEncoder.encode(downloadName, StandardCharsets.UTF_8).replace("+", "%20");
+    GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.GET)
+        .withExpiration(expiration)
+        .withResponseHeaders(new ResponseHeaderOverrides()
+            .withContentDisposition("attachment; filename*=UTF-8''" + encodedName));
+    return amazonS3Client.generatePresignedUrl(request).toString();
+  }
+}
@@ -0,0 +1,82 @@
+package com.syi.project.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 파일 저장소 추상화
+ * - file.storage.type 설정으로 구현체 선택 (s3: 기본값, local: 로컬 디스크)
+ * - key 는 저장소 안에서의 경로 (예: journal/1/2024-03-04/uuid.hwp)
+ */
+public interface StorageBackend {
+
+  /**
+   * 파일 저장
+   *
+   * @param key  저장 경로
+   * @param file 업로드된 파일
+   */
+  void store(String key, MultipartFile file) throws IOException;
+
+  /**
+   * 파일 내용을 스트림으로 열기 (호출한 쪽에서 닫아야 함)
+   *
+   * @param key 저장 경로
+   * @return 파일 내용 스트림
+   */
+  InputStream open(String key) throws IOException;
+
+  /**
+   * 다운로드 응답용 Resource 반환
+   * - 로컬 저장소는 FileSystemResource 를 반환해서 파일 길이/채널 기반 전송을 그대로 사용
+   *
+   * @param key 저장 경로
+   * @return 파일 Resource
+   */
+  Resource load(String key) throws IOException;
+
+  /**
+   * 파일 존재 여부 (본문은 읽지 않음)
+   */
+  boolean exists(String key);
+
+  /**
+   * 파일 삭제
+   */
+  void delete(String key) throws IOException;
+
+  /**
+   * 클라이언트가 접근할 수 있는 파일 URL
+   */
+  String getUrl(String key);
+
+  /**
+   * 저장소 객체 메타데이터 조회
+   *
+   * @return 객체가 없으면 null
+   */
+  StoredObject describe(String key) throws IOException;
+
+  /**
+   * 클라이언트가 저장소에 직접 업로드할 수 있는 presigned PUT URL
+   * - 지원하지 않는 저장소는 UnsupportedOperationException
+   *
+   * @param key         저장 경로
+   * @param contentType 업로드 시 사용해야 하는 Content-Type
+   * @param expiration  만료 시각
+   */
+  String createUploadUrl(String key, String contentType, Date expiration);
+
+  /**
+   * 클라이언트가 저장소에서 직접 받을 수 있는 presigned GET URL
+   * - 지원하지 않는 저장소는 UnsupportedOperationException
+   *
+   * @param key          저장 경로
+   * @param downloadName 다운로드 파일명 (Content-Disposition)
+   * @param expiration   만료 시각
+   */
+  String createDownloadUrl(String key, String downloadName, Date expiration);
+}
@@ -0,0 +1,16 @@
+package com.syi.project.file.storage;
+
+import lombok.Getter;
+
+// 저장소에 있는 객체의 메타데이터
+@Getter
+public class StoredObject {
+
+  private final long size;
+  private final String contentType;
+
+  public StoredObject(long size, String contentType) {
+    this.size = size;
+    this.contentType = contentType;
+  }
+}
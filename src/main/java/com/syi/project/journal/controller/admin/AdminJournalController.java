@@ -1,6 +1,7 @@
 package com.syi.project.journal.controller.admin;
 
 import com.syi.project.auth.service.CustomUserDetails;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.common.dto.PageInfoDTO;
 import com.syi.project.common.entity.Criteria;
 import com.syi.project.common.enums.CourseStatus;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -29,6 +31,7 @@ import org.springframework.http.MediaType;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
 @RestController
@@ -85,6 +88,28 @@ public class AdminJournalController {
     return ResponseEntity.ok(response);
   }
 
+  @Operation(summary = "[관리자] 교육일지 커서 목록 조회",
+      description = "교육일 최신순으로 cursor 다음 항목을 조회합니다. 첫 목록은 cursor 없이 요청하고, 응답의 nextCursor 로 다음 목록을 요청합니다.")
+  @GetMapping("/course/{courseId}/cursor")
+  public ResponseEntity<CursorPageDTO<JournalResponseDTO>> getJournalsByCursor(
+      @PathVariable Long courseId,
+      @RequestParam(required = false) String searchType,
+      @RequestParam(required = false) String searchKeyword,
+      @RequestParam(required = false)
+      @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+      @RequestParam(required = false)
+      @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+      @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") @Positive @Max(100) int size,
+      @Parameter(description = "전체 개수 포함 여부 (count 쿼리 추가 실행)")
+      @RequestParam(defaultValue = "false") boolean includeTotal
+  ) {
+    log.warn("[관리자] 교육일지 커서 목록 조회 - courseId: {}", courseId);
+
+    return ResponseEntity.ok(journalService.getAdminJournalsByCursor(
+        courseId, searchType, searchKeyword, startDate, endDate, cursor, size, includeTotal));
+  }
+
   @Operation(summary = "[관리자] 교육일지 상세 조회", description = "관리자가 교육일지를 상세 조회합니다.")
   @GetMapping("/{journalId}")
   public ResponseEntity<JournalResponseDTO> getJournalDetail(
@@ -118,7 +143,7 @@ public class AdminJournalController {
   // zip 다운로드
   @Operation(summary = "[관리자] 교육일지 일괄 다운로드", description = "선택한 교육일지들을 ZIP 파일로 다운로드합니다.")
   @PostMapping("/zip-download")
-  public ResponseEntity<Resource> downloadJournalsAsZip(
+  public ResponseEntity<StreamingResponseBody> downloadJournalsAsZip(
       @RequestBody List<Long> journalIds,
       @AuthenticationPrincipal CustomUserDetails userDetails
   ) {
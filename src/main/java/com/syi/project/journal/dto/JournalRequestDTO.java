@@ -1,5 +1,6 @@
 package com.syi.project.journal.dto;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
@@ -19,20 +20,26 @@ public class JournalRequestDTO {
     @NotBlank(message = "제목은 필수입니다")
     private String title;
     private String content;
-    @NotNull(message = "교육일지 파일을 선택해주세요")
     private MultipartFile file;
+    private Long fileId; // 직접 업로드(presigned)로 등록한 파일 ID (file 대신 사용)
     @NotNull(message = "교육일자는 필수입니다")
     private LocalDate educationDate;
 
     @Builder
     public Create(Long courseId, String title, String content,
-        MultipartFile file, LocalDate educationDate) {
+        MultipartFile file, Long fileId, LocalDate educationDate) {
       this.courseId = courseId;
       this.title = title;
       this.content = content;
       this.file = file;
+      this.fileId = fileId;
       this.educationDate = educationDate;
     }
+
+    @AssertTrue(message = "교육일지 파일을 선택해주세요")
+    public boolean isFileSelected() {
+      return hasFile(file) != (fileId != null);
+    }
   }
 
   @Getter
@@ -42,16 +49,27 @@ public class JournalRequestDTO {
     private String title;
     private String content;
     private MultipartFile file;
+    private Long fileId; // 직접 업로드(presigned)로 등록한 파일 ID (file 대신 사용)
     @NotNull(message = "교육일자는 필수입니다")
     private LocalDate educationDate;
 
     @Builder
     public Update(String title, String content,
-        MultipartFile file, LocalDate educationDate) {
+        MultipartFile file, Long fileId, LocalDate educationDate) {
       this.title = title;
       this.content = content;
       this.file = file;
+      this.fileId = fileId;
       this.educationDate = educationDate;
     }
+
+    @AssertTrue(message = "파일과 파일 ID 는 함께 보낼 수 없습니다")
+    public boolean isSingleFileSource() {
+      return !(hasFile(file) && fileId != null);
+    }
+  }
+
+  private static boolean hasFile(MultipartFile file) {
+    return file != null && !file.isEmpty();
   }
 }
\ No newline at end of file
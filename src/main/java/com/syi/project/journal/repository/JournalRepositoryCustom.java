@@ -4,6 +4,7 @@ import com.syi.project.journal.entity.Journal;
 import com.syi.project.common.entity.Criteria;
 import org.springframework.data.domain.Page;
 import java.time.LocalDate;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 
 public interface JournalRepositoryCustom {
@@ -29,4 +30,24 @@ public interface JournalRepositoryCustom {
       Pageable pageable
   );
 
-}
\ No newline at end of file
+  // 관리자용 커서 검색 (교육일 내림차순, ID 내림차순 / cursorDate 가 null 이면 처음부터)
+  List<Journal> searchJournalsForAdminAfter(
+      Long courseId,
+      String searchType,
+      String searchKeyword,
+      LocalDate startDate,
+      LocalDate endDate,
+      LocalDate cursorDate,
+      Long cursorId,
+      int limit
+  );
+
+  long countJournalsForAdmin(
+      Long courseId,
+      String searchType,
+      String searchKeyword,
+      LocalDate startDate,
+      LocalDate endDate
+  );
+
+}
@@ -107,6 +107,40 @@ public class JournalRepositoryCustomImpl implements JournalRepositoryCustom {
     );
   }
 
+  @Override
+  public List<Journal> searchJournalsForAdminAfter(
+      Long courseId, String searchType, String searchKeyword,
+      LocalDate startDate, LocalDate endDate, LocalDate cursorDate, Long cursorId, int limit
+  ) {
+    return getBaseQuery()
+        .where(createSearchConditions(null, courseId, searchType, searchKeyword, startDate, endDate))
+        .where(afterCursor(cursorDate, cursorId))
+        .orderBy(journal.educationDate.desc(), journal.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public long countJournalsForAdmin(
+      Long courseId, String searchType, String searchKeyword,
+      LocalDate startDate, LocalDate endDate
+  ) {
+    Long count = queryFactory
+        .select(journal.count())
+        .from(journal)
+        .where(createSearchConditions(null, courseId, searchType, searchKeyword, startDate, endDate))
+        .fetchOne();
+    return count != null ? count : 0L;
+  }
+
+  // (educationDate, id) 가 커서보다 뒤인 항목 (내림차순 기준)
+  private BooleanExpression afterCursor(LocalDate cursorDate, Long cursorId) {
+    if (cursorDate == null || cursorId == null) return null;
+
+    return journal.educationDate.lt(cursorDate)
+        .or(journal.educationDate.eq(cursorDate).and(journal.id.lt(cursorId)));
+  }
+
   private BooleanExpression searchByMemberInfo(String searchType, String keyword) {
     if (searchType == null || keyword == null) return null;
 
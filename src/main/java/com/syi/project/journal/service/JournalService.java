@@ -2,11 +2,13 @@ package com.syi.project.journal.service;
 
 import com.syi.project.auth.entity.Member;
 import com.syi.project.auth.repository.MemberRepository;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.common.entity.Criteria;
 import com.syi.project.common.enums.Role;
 import com.syi.project.common.exception.ErrorCode;
 import com.syi.project.common.exception.InvalidRequestException;
 import com.syi.project.common.exception.handler.JournalErrorHandler;
+import com.syi.project.common.utils.CursorCodec;
 import com.syi.project.common.utils.S3Uploader;
 import com.syi.project.course.entity.Course;
 import com.syi.project.course.repository.CourseRepository;
@@ -22,7 +24,6 @@ import com.syi.project.journal.entity.JournalFile;
 import com.syi.project.journal.repository.JournalFileRepository;
 import com.syi.project.journal.repository.JournalRepository;
 import com.syi.project.file.entity.File;
-import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -43,6 +44,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.http.MediaType;
 
 
@@ -103,7 +105,10 @@ public class JournalService {
   // 신규: 파일 관련 공통 메서드들
   private void validateAndProcessFile(MultipartFile file, String action) {
     // 파일 필수 체크는 DTO에서 처리되므로 제거
-    String originalFilename = file.getOriginalFilename();
+    validateAndProcessFile(file.getOriginalFilename(), action);
+  }
+
+  private void validateAndProcessFile(String originalFilename, String action) {
 
     // 파일 형식 검사만 여기서 처리
     String extension = originalFilename.substring(originalFilename.lastIndexOf(".") + 1).toLowerCase();
@@ -113,15 +118,29 @@ public class JournalService {
   }
 
   private void updateJournalFile(Journal journal, MultipartFile newFile, Member member) {
+    // LocalDateTime을 LocalDate로 변환
+    File savedFile = fileService.uploadFile(newFile, "journals", member, journal.getCreatedAt().toLocalDate());
+    replaceJournalFile(journal, savedFile, member);
+  }
+
+  // 직접 업로드로 등록한 파일 조회 및 형식 검증 (fileId 가 없으면 null)
+  private File claimUploadedFile(Long fileId, Member member) {
+    if (fileId == null) {
+      return null;
+    }
+    File file = fileService.claimUploadedFiles(List.of(fileId), member).get(0);
+    validateAndProcessFile(file.getOriginalName(), "첨부");
+    return file;
+  }
+
+  // 기존 파일을 삭제하고 새 파일로 교체
+  private void replaceJournalFile(Journal journal, File savedFile, Member member) {
     JournalFile existingJournalFile = journal.getJournalFile();
 
     if (existingJournalFile != null) {
       fileService.deleteFile(existingJournalFile.getFile().getId(), member);
     }
 
-    // LocalDateTime을 LocalDate로 변환
-    File savedFile = fileService.uploadFile(newFile, "journals", member, journal.getCreatedAt().toLocalDate());
-
     if (existingJournalFile != null) {
       existingJournalFile.updateFile(savedFile);
     } else {
@@ -179,6 +198,34 @@ public class JournalService {
     return journals.map(journal -> JournalResponseDTO.from(journal, s3Uploader));
   }
 
+  // 관리자 교육일지 커서 목록 (offset 없이 마지막 항목 다음부터 조회)
+  public CursorPageDTO<JournalResponseDTO> getAdminJournalsByCursor(
+      Long courseId,
+      String searchType,
+      String searchKeyword,
+      LocalDate startDate,
+      LocalDate endDate,
+      String cursor,
+      int size,
+      boolean includeTotal
+  ) {
+    validateSearchCriteria(startDate, endDate, 1);
+
+    String[] parts = CursorCodec.decode(cursor, 2);
+    LocalDate cursorDate = parts != null ? CursorCodec.parse(parts[0], LocalDate::parse) : null;
+    Long cursorId = parts != null ? CursorCodec.parse(parts[1], Long::valueOf) : null;
+
+    List<Journal> journals = journalRepository.searchJournalsForAdminAfter(
+        courseId, searchType, searchKeyword, startDate, endDate, cursorDate, cursorId, size + 1);
+    Long total = includeTotal
+        ? journalRepository.countJournalsForAdmin(courseId, searchType, searchKeyword, startDate, endDate)
+        : null;
+
+    return CursorPageDTO.of(journals, size,
+            journal -> CursorCodec.encode(journal.getEducationDate(), journal.getId()), total)
+        .map(journal -> JournalResponseDTO.from(journal, s3Uploader));
+  }
+
   // 수정: 검증 로직 개선
   @Transactional
   public JournalResponseDTO createJournal(Long memberId, JournalRequestDTO.Create requestDTO) {
@@ -187,11 +234,14 @@ public class JournalService {
     validateMemberRole(member);
     validateEnrollment(memberId, requestDTO.getCourseId());
 
-    String fileName = requestDTO.getFile().getOriginalFilename();
-    if (fileName != null) {
-      String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
-      if (!ALLOWED_EXTENSIONS.contains(extension)) {
-        throw new InvalidRequestException(ErrorCode.JOURNAL_INVALID_FILE_TYPE);
+    File claimedFile = claimUploadedFile(requestDTO.getFileId(), member);
+    if (claimedFile == null) {
+      String fileName = requestDTO.getFile().getOriginalFilename();
+      if (fileName != null) {
+        String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+        if (!ALLOWED_EXTENSIONS.contains(extension)) {
+          throw new InvalidRequestException(ErrorCode.JOURNAL_INVALID_FILE_TYPE);
+        }
       }
     }
 
@@ -212,7 +262,11 @@ public class JournalService {
     Journal savedJournal = journalRepository.save(journal);
 
     // 이제 createdAt이 설정된 상태에서 파일 처리
-    updateJournalFile(savedJournal, requestDTO.getFile(), member);
+    if (claimedFile != null) {
+      replaceJournalFile(savedJournal, claimedFile, member);
+    } else {
+      updateJournalFile(savedJournal, requestDTO.getFile(), member);
+    }
 
     log.warn("교육일지 등록 완료 - journalId: {}", savedJournal.getId());
 
@@ -241,7 +295,10 @@ public class JournalService {
     }
 
     // 새 파일이 있는 경우에만 파일 처리
-    if (requestDTO.getFile() != null && !requestDTO.getFile().isEmpty()) {
+    File claimedFile = claimUploadedFile(requestDTO.getFileId(), member);
+    if (claimedFile != null) {
+      replaceJournalFile(journal, claimedFile, member);
+    } else if (requestDTO.getFile() != null && !requestDTO.getFile().isEmpty()) {
       validateAndProcessFile(requestDTO.getFile(), "수정");
       updateJournalFile(journal, requestDTO.getFile(), member);
     }
@@ -336,7 +393,7 @@ public class JournalService {
   }
 
   // zip 다운로드
-  public ResponseEntity<Resource> downloadJournalsAsZip(List<Long> journalIds, Long memberId) {
+  public ResponseEntity<StreamingResponseBody> downloadJournalsAsZip(List<Long> journalIds, Long memberId) {
     Member member = validateAndGetMember(memberId);
     if (member.getRole() != Role.ADMIN) {
       throw new InvalidRequestException(ErrorCode.ACCESS_DENIED);
@@ -358,16 +415,15 @@ public class JournalService {
     Map<Long, LocalDate> fileIdToDateMap = new HashMap<>();
     Map<Long, String> fileIdToUserName = new HashMap<>();
 
+    List<File> journalFiles = new ArrayList<>(validJournals.size());
     for (Journal journal : validJournals) {
       File file = journal.getJournalFile().getFile();
-      try (InputStream is = s3Uploader.downloadFile(file.getPath())) {
-        availableFiles.add(file);
-        fileIdToDateMap.put(file.getId(), journal.getEducationDate());
-        fileIdToUserName.put(file.getId(), journal.getMember().getName());
-      } catch (Exception e) {
-        log.warn("S3 파일 누락 - 파일ID: {}", file.getId());
-      }
+      journalFiles.add(file);
+      fileIdToDateMap.put(file.getId(), journal.getEducationDate());
+      fileIdToUserName.put(file.getId(), journal.getMember().getName());
     }
+    // 파일 존재 여부는 병렬로 확인 (본문은 받지 않음)
+    availableFiles.addAll(fileService.filterFilesInStorage(journalFiles));
 
     if (availableFiles.isEmpty()) {
       throw new InvalidRequestException(ErrorCode.JOURNAL_NO_FILES_TO_DOWNLOAD,
@@ -393,23 +449,16 @@ public class JournalService {
       fileIdToRenamed.put(file.getId(), renamed);
     }
 
-    try {
-      Resource zipResource = fileService.downloadFilesAsZip(
-          availableFiles,
-          "교육일지_일괄다운로드.zip",
-          file -> fileIdToRenamed.getOrDefault(file.getId(), file.getOriginalName())
-      );
+    StreamingResponseBody zipBody = fileService.streamFilesAsZip(
+        availableFiles,
+        file -> fileIdToRenamed.getOrDefault(file.getId(), file.getOriginalName())
+    );
 
-      return ResponseEntity.ok()
-          .contentType(MediaType.APPLICATION_OCTET_STREAM)
-          .header(HttpHeaders.CONTENT_DISPOSITION,
-              "attachment; filename*=UTF-8''교육일지_일괄다운로드.zip")
-          .body(zipResource);
-    } catch (Exception e) {
-      log.error("교육일지 일괄 다운로드 실패: {}", e.getMessage(), e);
-      throw new InvalidRequestException(ErrorCode.FILE_DOWNLOAD_FAILED,
-          "일괄 다운로드 처리 중 오류가 발생했습니다.");
-    }
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename*=UTF-8''교육일지_일괄다운로드.zip")
+        .body(zipBody);
   }
 
 
@@ -431,19 +480,12 @@ public class JournalService {
       return true; // 모든 파일이 누락됨
     }
 
-    // S3에 실제로 존재하지 않는 파일이 있는지 확인
-    for (Journal journal : validJournals) {
-      File file = journal.getJournalFile().getFile();
-      try {
-        InputStream is = s3Uploader.downloadFile(file.getPath());
-        is.close();
-      } catch (Exception e) {
-        // 하나라도 예외가 발생하면 누락된 파일이 있는 것
-        return true;
-      }
-    }
+    // S3에 실제로 존재하지 않는 파일이 있는지 확인 (병렬 확인)
+    List<File> files = validJournals.stream()
+        .map(journal -> journal.getJournalFile().getFile())
+        .collect(Collectors.toList());
 
-    return false; // 모든 파일이 유효함
+    return fileService.filterFilesInStorage(files).size() < files.size();
   }
 
   private void validateEducationDate(LocalDate educationDate, Course course, Member member) {
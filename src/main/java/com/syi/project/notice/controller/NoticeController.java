@@ -1,7 +1,9 @@
 package com.syi.project.notice.controller;
 
 import com.syi.project.auth.service.CustomUserDetails;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.file.dto.FileDownloadDTO;
+import com.syi.project.file.dto.PresignedUrlResponseDTO;
 import com.syi.project.notice.dto.NoticeResponseDTO;
 import com.syi.project.notice.service.NoticeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -55,6 +57,21 @@ public class NoticeController {
     return ResponseEntity.ok(notices);
   }
 
+  @Operation(summary = "공지사항 커서 목록 조회",
+      description = "getNotices 와 같은 순서로 cursor 다음 항목을 조회합니다. 첫 목록은 cursor 없이 요청하고, 응답의 nextCursor 로 다음 목록을 요청합니다.")
+  @GetMapping("/cursor")
+  public ResponseEntity<CursorPageDTO<NoticeResponseDTO>> getNoticesByCursor(
+      @Parameter(description = "교육과정 ID") @RequestParam(required = true) Long courseId,
+      @Parameter(description = "제목 키워드 필터") @RequestParam(required = false) String titleKeyword,
+      @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+      @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size,
+      @Parameter(description = "전체 개수 포함 여부 (count 쿼리 추가 실행)")
+      @RequestParam(defaultValue = "false") boolean includeTotal) {
+    log.info("공지사항 커서 목록 조회 요청 - courseId: {}, titleKeyword: {}", courseId, titleKeyword);
+    return ResponseEntity.ok(noticeService.getNoticesByCursor(courseId, titleKeyword, cursor,
+        Math.min(Math.max(size, 1), 100), includeTotal));
+  }
+
   @Operation(summary = "공지사항 상세 조회", description = "공지사항 상세 정보를 조회합니다.")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "공지사항 상세 조회 성공"),
@@ -96,4 +113,22 @@ public class NoticeController {
         .body(downloadDTO.getResource());
   }
 
+  @Operation(summary = "공지사항 파일 직접 다운로드 URL 발급",
+      description = "저장소에서 공지사항 첨부파일을 직접 받을 수 있는 URL 을 발급합니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "URL 발급 성공"),
+      @ApiResponse(responseCode = "403", description = "파일 접근 권한 없음"),
+      @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/{id}/files/{fileId}/download-url")
+  public ResponseEntity<PresignedUrlResponseDTO> getFileDownloadUrl(
+      @Parameter(description = "공지사항 ID", required = true) @PathVariable Long id,
+      @Parameter(description = "파일 ID", required = true) @PathVariable Long fileId,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    log.info("공지사항 파일 다운로드 URL 요청 - id: {}, fileId: {}", id, fileId);
+    return ResponseEntity.ok(noticeService.getNoticeFileDownloadUrl(id, fileId,
+        userDetails.getId(), userDetails.getRole()));
+  }
+
 }
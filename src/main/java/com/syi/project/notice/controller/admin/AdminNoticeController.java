@@ -1,6 +1,7 @@
 package com.syi.project.notice.controller.admin;
 
 import com.syi.project.auth.service.CustomUserDetails;
+import com.syi.project.common.dto.CursorPageDTO;
 import com.syi.project.file.dto.FileDownloadDTO;
 import com.syi.project.notice.dto.NoticeRequestDTO;
 import com.syi.project.notice.dto.NoticeResponseDTO;
@@ -83,6 +84,21 @@ public class AdminNoticeController {
     return ResponseEntity.ok(notices);
   }
 
+  @Operation(summary = "공지사항 커서 목록 조회",
+      description = "getNotices 와 같은 순서로 cursor 다음 항목을 조회합니다. 첫 목록은 cursor 없이 요청하고, 응답의 nextCursor 로 다음 목록을 요청합니다.")
+  @GetMapping("/cursor")
+  public ResponseEntity<CursorPageDTO<NoticeResponseDTO>> getNoticesByCursor(
+      @Parameter(description = "교육과정 ID") @RequestParam(required = true) Long courseId,
+      @Parameter(description = "제목 키워드 필터") @RequestParam(required = false) String titleKeyword,
+      @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+      @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size,
+      @Parameter(description = "전체 개수 포함 여부 (count 쿼리 추가 실행)")
+      @RequestParam(defaultValue = "false") boolean includeTotal) {
+    log.info("공지사항 커서 목록 조회 요청 - courseId: {}, titleKeyword: {}", courseId, titleKeyword);
+    return ResponseEntity.ok(noticeService.getNoticesByCursor(courseId, titleKeyword, cursor,
+        Math.min(Math.max(size, 1), 100), includeTotal));
+  }
+
   @Operation(summary = "공지사항 상세 조회", description = "공지사항 상세 정보를 조회합니다.")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "공지사항 상세 조회 성공"),
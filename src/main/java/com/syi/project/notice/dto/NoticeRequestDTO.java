@@ -6,6 +6,7 @@ import com.syi.project.notice.entity.Notice;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -30,12 +31,17 @@ public class NoticeRequestDTO {
   @Schema(description = "상단고정 여부", example = "false")
   private final boolean isPinned;
 
+  @Schema(description = "직접 업로드(presigned)로 등록한 첨부 파일 ID 목록", example = "[10, 11]")
+  private final List<Long> fileIds;
+
   @Builder
-  public NoticeRequestDTO(String title, String content, Long courseId, boolean isPinned) {
+  public NoticeRequestDTO(String title, String content, Long courseId, boolean isPinned,
+      List<Long> fileIds) {
     this.title = title;
     this.content = content;
     this.courseId = courseId;
     this.isPinned = isPinned;
+    this.fileIds = fileIds;
   }
 
   public Notice toEntity(Member member, Course course) {
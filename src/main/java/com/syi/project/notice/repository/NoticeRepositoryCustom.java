@@ -1,6 +1,8 @@
 package com.syi.project.notice.repository;
 
 import com.syi.project.notice.entity.Notice;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -8,4 +10,10 @@ public interface NoticeRepositoryCustom {
 
   Page<Notice> findNoticesByCourseId(Long courseId, String titleKeyword, Pageable pageable);
 
+  // 커서 조회 (상단고정, 작성일, ID 내림차순 / cursorRegDate 가 null 이면 처음부터)
+  List<Notice> findNoticesByCourseIdAfter(Long courseId, String titleKeyword,
+      Boolean cursorPinned, LocalDateTime cursorRegDate, Long cursorId, int limit);
+
+  long countNoticesByCourseId(Long courseId, String titleKeyword);
+
 }
@@ -5,6 +5,7 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.syi.project.notice.entity.Notice;
 import com.syi.project.notice.entity.QNotice;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -57,4 +58,61 @@ public class NoticeRepositoryImpl implements NoticeRepositoryCustom {
     return PageableExecutionUtils.getPage(notices, pageable, countQuery::fetchOne);
   }
 
+  @Override
+  public List<Notice> findNoticesByCourseIdAfter(Long courseId, String titleKeyword,
+      Boolean cursorPinned, LocalDateTime cursorRegDate, Long cursorId, int limit) {
+    QNotice notice = QNotice.notice;
+
+    return queryFactory.selectFrom(notice)
+        .where(
+            notice.deletedBy.isNull(),
+            notice.course.id.eq(courseId),
+            titleContains(notice, titleKeyword),
+            afterCursor(notice, cursorPinned, cursorRegDate, cursorId)
+        )
+        .orderBy(
+            notice.isPinned.desc(),
+            notice.regDate.desc(),
+            notice.id.desc()
+        )
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public long countNoticesByCourseId(Long courseId, String titleKeyword) {
+    QNotice notice = QNotice.notice;
+
+    Long count = queryFactory.select(notice.count())
+        .from(notice)
+        .where(
+            notice.deletedBy.isNull(),
+            notice.course.id.eq(courseId),
+            titleContains(notice, titleKeyword)
+        )
+        .fetchOne();
+    return count != null ? count : 0L;
+  }
+
+  private BooleanExpression titleContains(QNotice notice, String titleKeyword) {
+    return titleKeyword != null && !titleKeyword.isBlank()
+        ? notice.title.containsIgnoreCase(titleKeyword)
+        : null;
+  }
+
+  // (isPinned, regDate, id) 가 커서보다 뒤인 공지 (내림차순 기준, 상단고정 공지가 먼저)
+  private BooleanExpression afterCursor(QNotice notice, Boolean cursorPinned,
+      LocalDateTime cursorRegDate, Long cursorId) {
+    if (cursorPinned == null || cursorRegDate == null || cursorId == null) {
+      return null;
+    }
+
+    BooleanExpression sameGroupAfter = notice.regDate.lt(cursorRegDate)
+        .or(notice.regDate.eq(cursorRegDate).and(notice.id.lt(cursorId)));
+    if (cursorPinned) {
+      return notice.isPinned.isFalse().or(notice.isPinned.isTrue().and(sameGroupAfter));
+    }
+    return notice.isPinned.isFalse().and(sameGroupAfter);
+  }
+
 }
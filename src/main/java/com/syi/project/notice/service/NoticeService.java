@@ -2,19 +2,27 @@ package com.syi.project.notice.service;
 
 import com.syi.project.auth.entity.Member;
 import com.syi.project.auth.repository.MemberRepository;
+import com.syi.project.common.dto.CursorPageDTO;
+import com.syi.project.common.enums.Role;
 import com.syi.project.common.exception.ErrorCode;
 import com.syi.project.common.exception.InvalidRequestException;
+import com.syi.project.common.utils.CursorCodec;
 import com.syi.project.common.utils.S3Uploader;
 import com.syi.project.course.entity.Course;
 import com.syi.project.course.repository.CourseRepository;
 import com.syi.project.file.dto.FileDownloadDTO;
+import com.syi.project.file.dto.PresignedUrlResponseDTO;
+import com.syi.project.file.dto.StoredFileDTO;
 import com.syi.project.file.entity.File;
 import com.syi.project.file.service.FileService;
+import com.syi.project.file.service.PresignedFileService;
 import com.syi.project.notice.dto.NoticeRequestDTO;
 import com.syi.project.notice.dto.NoticeResponseDTO;
 import com.syi.project.notice.entity.Notice;
 import com.syi.project.notice.entity.NoticeFile;
 import com.syi.project.notice.repository.NoticeRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -25,6 +33,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -37,7 +46,9 @@ public class NoticeService {
   private final MemberRepository memberRepository;
   private final CourseRepository courseRepository;
   private final FileService fileService;
+  private final PresignedFileService presignedFileService;
   private final S3Uploader s3Uploader;
+  private final TransactionTemplate transactionTemplate;
 
   // 허용 파일 확장자 및 MIME 타입
   private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(
@@ -66,42 +77,35 @@ public class NoticeService {
   );
 
   // 공지사항 생성
-  @Transactional
+  // 첨부 파일은 트랜잭션 밖에서 먼저 병렬 업로드하고, DB 저장이 실패하면 업로드한 파일을 삭제
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public NoticeResponseDTO createNotice(Long memberId, NoticeRequestDTO requestDTO,
       List<MultipartFile> files) {
     log.info("공지사항 생성 시작 - memberId: {}, courseId: {}, isPinned: {}", memberId, requestDTO.getCourseId(), requestDTO.isPinned());
 
-    Member member = getMember(memberId);
-    Course course = courseRepository.findById(requestDTO.getCourseId())
-        .orElseThrow(() -> {
-          log.error("교육과정을 찾을 수 없습니다 - courseId: {}", requestDTO.getCourseId());
-          return new InvalidRequestException(ErrorCode.COURSE_NOT_FOUND);
-        });
+    List<StoredFileDTO> storedFiles = storeFiles(files, memberId, LocalDate.now());
 
-    Notice notice = requestDTO.toEntity(member, course);
-    noticeRepository.save(notice);
-    log.info("공지사항 저장 완료 - id: {}", notice.getId());
-
-    // 파일 업로드 처리 - 게시글 작성일(regDate) 기준으로 저장
-    if (files != null && !files.isEmpty()) {
-      files.forEach(file -> {
-        validateFile(file);
-        try {
-          // notice.getRegDate()를 사용하여 게시글 작성일 기준으로 저장
-          File uploadedFile = fileService.uploadFile(file, "notices", member, notice.getRegDate().toLocalDate());
-          NoticeFile noticeFile = NoticeFile.builder()
-              .notice(notice)
-              .file(uploadedFile)
-              .build();
-          notice.addFile(noticeFile);
-          log.info("공지사항 파일 업로드 완료 - fileId: {}", uploadedFile.getId());
-        } catch (Exception e) {
-          log.error("파일 업로드 실패 - filename: {}", file.getOriginalFilename(), e);
-          throw new InvalidRequestException(ErrorCode.FILE_UPLOAD_FAILED);
-        }
+    try {
+      return transactionTemplate.execute(status -> {
+        Member member = getMember(memberId);
+        Course course = courseRepository.findById(requestDTO.getCourseId())
+            .orElseThrow(() -> {
+              log.error("교육과정을 찾을 수 없습니다 - courseId: {}", requestDTO.getCourseId());
+              return new InvalidRequestException(ErrorCode.COURSE_NOT_FOUND);
+            });
+
+        Notice notice = requestDTO.toEntity(member, course);
+        noticeRepository.save(notice);
+        log.info("공지사항 저장 완료 - id: {}", notice.getId());
+
+        attachFiles(notice, fileService.saveStoredFiles(storedFiles, member));
+        attachFiles(notice, claimUploadedFiles(requestDTO.getFileIds(), member));
+        return NoticeResponseDTO.fromEntity(notice, s3Uploader);
       });
+    } catch (RuntimeException e) {
+      fileService.discardStoredFiles(storedFiles);
+      throw e;
     }
-    return NoticeResponseDTO.fromEntity(notice, s3Uploader);
   }
 
   // 공지사항 목록 조회
@@ -118,6 +122,26 @@ public class NoticeService {
     return noticeDtos;
   }
 
+  // 공지사항 커서 목록 조회 (offset 없이 마지막 항목 다음부터 조회)
+  public CursorPageDTO<NoticeResponseDTO> getNoticesByCursor(Long courseId, String titleKeyword,
+      String cursor, int size, boolean includeTotal) {
+    log.info("공지사항 커서 목록 조회 - courseId: {}, titleKeyword: {}, size: {}", courseId,
+        titleKeyword, size);
+
+    String[] parts = CursorCodec.decode(cursor, 3);
+    Boolean cursorPinned = parts != null ? CursorCodec.parse(parts[0], Boolean::valueOf) : null;
+    LocalDateTime cursorRegDate = parts != null ? CursorCodec.parse(parts[1], LocalDateTime::parse) : null;
+    Long cursorId = parts != null ? CursorCodec.parse(parts[2], Long::valueOf) : null;
+
+    List<Notice> notices = noticeRepository.findNoticesByCourseIdAfter(courseId, titleKeyword,
+        cursorPinned, cursorRegDate, cursorId, size + 1);
+    Long total = includeTotal ? noticeRepository.countNoticesByCourseId(courseId, titleKeyword) : null;
+
+    return CursorPageDTO.of(notices, size,
+            notice -> CursorCodec.encode(notice.isPinned(), notice.getRegDate(), notice.getId()), total)
+        .map(notice -> NoticeResponseDTO.fromEntity(notice, s3Uploader));
+  }
+
   // 공지사항 상세 조회
   @Transactional
   public NoticeResponseDTO getNoticeDetail(Long id, Long memberId) {
@@ -145,57 +169,89 @@ public class NoticeService {
   }
 
   // 공지사항 수정
-  @Transactional
+  // 새 첨부 파일은 트랜잭션 밖에서 먼저 병렬 업로드하고, DB 저장이 실패하면 업로드한 파일을 삭제
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public NoticeResponseDTO updateNotice(Long id, Long memberId, NoticeRequestDTO requestDTO,
       List<MultipartFile> newFiles, List<Long> deleteFileIds) {
     log.info("공지사항 수정 시작 - id: {}, memberId: {}", id, memberId);
 
-    Member member = getMember(memberId);
-    Notice notice = noticeRepository.findByIdAndMemberIdAndDeletedByIsNull(id, memberId)
-        .orElseThrow(() -> {
-          log.error("공지사항 수정 권한이 없습니다 - id: {}, memberId: {}", id, memberId);
-          return new InvalidRequestException(ErrorCode.NOTICE_UPDATE_DENIED);
-        });
+    // 작성자 확인을 업로드보다 먼저 해서 권한 없는 요청이 저장소에 파일을 올리지 못하게 함
+    Notice target = noticeRepository.findById(id)
+        .orElseThrow(() -> new InvalidRequestException(ErrorCode.NOTICE_NOT_FOUND));
+    if (target.getDeletedBy() != null || !target.getMember().getId().equals(memberId)) {
+      log.error("공지사항 수정 권한이 없습니다 - id: {}, memberId: {}", id, memberId);
+      throw new InvalidRequestException(ErrorCode.NOTICE_UPDATE_DENIED);
+    }
 
-    notice.update(requestDTO.getTitle(), requestDTO.getContent(), requestDTO.isPinned());
-    log.info("공지사항 기본 정보 수정 완료 - noticeId: {}", id);
-
-    // 기존 파일 삭제
-    if (deleteFileIds != null && !deleteFileIds.isEmpty()) {
-      notice.getFiles().removeIf(noticeFile -> {
-        if (deleteFileIds.contains(noticeFile.getFile().getId())) {
-          try {
-            fileService.deleteFile(noticeFile.getFile().getId(), member);
-            log.info("공지사항 기존 파일 삭제 완료 - fileId: {}", noticeFile.getFile().getId());
-          } catch (Exception e) {
-            log.error("공지사항 기존 파일 삭제 실패 - fileId: {}", noticeFile.getFile().getId(), e);
-          }
-          return true;
+    // 게시글 작성일(regDate) 기준 폴더에 저장
+    LocalDate regDate = target.getRegDate().toLocalDate();
+    List<StoredFileDTO> storedFiles = storeFiles(newFiles, memberId, regDate);
+
+    try {
+      return transactionTemplate.execute(status -> {
+        Member member = getMember(memberId);
+        Notice notice = noticeRepository.findByIdAndMemberIdAndDeletedByIsNull(id, memberId)
+            .orElseThrow(() -> {
+              log.error("공지사항 수정 권한이 없습니다 - id: {}, memberId: {}", id, memberId);
+              return new InvalidRequestException(ErrorCode.NOTICE_UPDATE_DENIED);
+            });
+
+        notice.update(requestDTO.getTitle(), requestDTO.getContent(), requestDTO.isPinned());
+        log.info("공지사항 기본 정보 수정 완료 - noticeId: {}", id);
+
+        // 기존 파일 삭제
+        if (deleteFileIds != null && !deleteFileIds.isEmpty()) {
+          notice.getFiles().removeIf(noticeFile -> {
+            if (deleteFileIds.contains(noticeFile.getFile().getId())) {
+              try {
+                fileService.deleteFile(noticeFile.getFile().getId(), member);
+                log.info("공지사항 기존 파일 삭제 완료 - fileId: {}", noticeFile.getFile().getId());
+              } catch (Exception e) {
+                log.error("공지사항 기존 파일 삭제 실패 - fileId: {}", noticeFile.getFile().getId(), e);
+              }
+              return true;
+            }
+            return false;
+          });
         }
-        return false;
+
+        // 새 파일 추가
+        attachFiles(notice, fileService.saveStoredFiles(storedFiles, member));
+        attachFiles(notice, claimUploadedFiles(requestDTO.getFileIds(), member));
+        return NoticeResponseDTO.fromEntity(notice, s3Uploader);
       });
+    } catch (RuntimeException e) {
+      fileService.discardStoredFiles(storedFiles);
+      throw e;
     }
+  }
 
-    // 새 파일 추가 - 게시글 작성일(regDate) 기준으로 저장
-    if (newFiles != null && !newFiles.isEmpty()) {
-      newFiles.forEach(file -> {
-        validateFile(file);
-        try {
-          // 여기서 notice.getRegDate()를 사용하여 게시글 작성일 기준으로 저장
-          File uploadedFile = fileService.uploadFile(file, "notices", member, notice.getRegDate().toLocalDate());
-          NoticeFile noticeFile = NoticeFile.builder()
-              .notice(notice)
-              .file(uploadedFile)
-              .build();
-          notice.addFile(noticeFile);
-          log.info("공지사항 새 파일 업로드 완료 - fileId: {}", uploadedFile.getId());
-        } catch (Exception e) {
-          log.error("공지사항 새 파일 업로드 실패 - filename: {}", file.getOriginalFilename(), e);
-          throw new InvalidRequestException(ErrorCode.FILE_UPLOAD_FAILED);
-        }
-      });
+  // 첨부 파일 검증 후 저장소에 업로드 (트랜잭션 밖)
+  private List<StoredFileDTO> storeFiles(List<MultipartFile> files, Long memberId,
+      LocalDate date) {
+    if (files == null || files.isEmpty()) {
+      return List.of();
+    }
+    files.forEach(this::validateFile);
+    return fileService.storeFiles(files, "notices", memberId, date);
+  }
+
+  // 직접 업로드로 등록한 파일 조회 및 형식 검증 (트랜잭션 안)
+  private List<File> claimUploadedFiles(List<Long> fileIds, Member member) {
+    List<File> files = fileService.claimUploadedFiles(fileIds, member);
+    files.forEach(file -> validateFileType(file.getOriginalName(), file.getMimeType()));
+    return files;
+  }
+
+  private void attachFiles(Notice notice, List<File> uploadedFiles) {
+    for (File uploadedFile : uploadedFiles) {
+      NoticeFile noticeFile = NoticeFile.builder()
+          .notice(notice)
+          .file(uploadedFile)
+          .build();
+      notice.addFile(noticeFile);
+      log.info("공지사항 파일 업로드 완료 - fileId: {}", uploadedFile.getId());
     }
-    return NoticeResponseDTO.fromEntity(notice, s3Uploader);
   }
 
   // 공지사항 삭제
@@ -226,6 +282,20 @@ public class NoticeService {
   }
 
   public FileDownloadDTO downloadNoticeFile(Long noticeId, Long fileId, Long memberId) {
+    validateFileInNotice(noticeId, fileId);
+
+    Member member = getMember(memberId);
+    return fileService.downloadFile(fileId, member);
+  }
+
+  // 공지사항 첨부파일 직접 다운로드 URL 발급
+  public PresignedUrlResponseDTO getNoticeFileDownloadUrl(Long noticeId, Long fileId,
+      Long memberId, Role role) {
+    validateFileInNotice(noticeId, fileId);
+    return presignedFileService.createPresignedDownload(fileId, memberId, role);
+  }
+
+  private void validateFileInNotice(Long noticeId, Long fileId) {
     Notice notice = noticeRepository.findById(noticeId)
         .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
 
@@ -234,9 +304,6 @@ public class NoticeService {
     if (!isFileInNotice) {
       throw new IllegalArgumentException("파일이 해당 공지사항에 포함되지 않습니다.");
     }
-
-    Member member = getMember(memberId);
-    return fileService.downloadFile(fileId, member);
   }
 
   // 사용자 정보 호출
@@ -255,9 +322,11 @@ public class NoticeService {
       throw new InvalidRequestException(ErrorCode.INVALID_FILE_FORMAT, "파일이 null입니다.");
     }
 
-    String originalFilename = file.getOriginalFilename();
-    String mimeType = file.getContentType();
+    validateFileType(file.getOriginalFilename(), file.getContentType());
+  }
 
+  // 파일 이름(확장자)과 MIME 타입 검증
+  private void validateFileType(String originalFilename, String mimeType) {
     if (originalFilename == null || originalFilename.isEmpty()) {
       log.error("파일 이름이 비어있거나 null입니다. MIME 타입: {}", mimeType);
       throw new InvalidRequestException(ErrorCode.INVALID_FILE_FORMAT, "파일 이름이 비어있거나 null입니다.");
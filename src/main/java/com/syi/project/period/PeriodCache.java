@@ -0,0 +1,177 @@
+package com.syi.project.period;
+
+import com.syi.project.period.entity.Period;
+import com.syi.project.period.repository.PeriodRepository;
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 과정별 교시(시간표) 캐시
+ * - 교시는 시간표 등록/수정/삭제(ScheduleService) 때만 바뀌므로 과정별로 한 번 조회해 두고 재사용
+ * - 과정마다 요일(DayOfWeek)별 교시 목록을 미리 나눠 두어, 요청마다 한글 요일 문자열을 만들거나 필터링하지 않음
+ * - 엔티티 대신 영속성 컨텍스트와 분리된 복사본을 수정 불가 목록으로 보관
+ * - 교시가 바뀌면 evict(courseId) 로 무효화 (트랜잭션 종료 후 한 번 더 제거해 커밋 전 값이 남지 않도록 함)
+ * - evict 는 실행한 인스턴스에만 적용되므로, 다른 인스턴스는 ttl-seconds 가 지나면 다시 조회
+ */
+@Slf4j
+@Component
+public class PeriodCache {
+
+  // 교시 요일 문자열("월요일") -> DayOfWeek
+  private static final Map<String, DayOfWeek> DAY_OF_WEEK_BY_NAME = new HashMap<>();
+
+  static {
+    for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+      DAY_OF_WEEK_BY_NAME.put(dayOfWeek.getDisplayName(TextStyle.FULL, Locale.KOREAN), dayOfWeek);
+    }
+  }
+
+  private final PeriodRepository periodRepository;
+  private final long ttlMillis;
+
+  private final Map<Long, Timetable> timetables = new ConcurrentHashMap<>();
+  // 무효화 횟수 (조회 중에 무효화되면 조회 결과를 캐시에 넣지 않음)
+  private final AtomicLong generation = new AtomicLong();
+
+  public PeriodCache(PeriodRepository periodRepository,
+      @Value("${period.cache.ttl-seconds:30}") long ttlSeconds) {
+    this.periodRepository = periodRepository;
+    this.ttlMillis = ttlSeconds * 1000;
+  }
+
+  /**
+   * 과정의 삭제되지 않은 교시 목록 (시작 시간순)
+   *
+   * @param courseId 교육과정 ID
+   * @return 교시 목록 (수정 불가)
+   */
+  public List<Period> getCoursePeriods(Long courseId) {
+    return getTimetable(courseId).all;
+  }
+
+  /**
+   * 과정의 일주일 교시 목록 (요일순, 시작 시간순)
+   *
+   * @param courseId 교육과정 ID
+   * @return 교시 목록 (수정 불가)
+   */
+  public List<Period> getWeekPeriods(Long courseId) {
+    return getTimetable(courseId).week;
+  }
+
+  /**
+   * 요일의 교시 목록 (시작 시간순)
+   *
+   * @param courseId  교육과정 ID
+   * @param dayOfWeek 요일
+   * @return 교시 목록 (수정 불가)
+   */
+  public List<Period> getPeriods(Long courseId, DayOfWeek dayOfWeek) {
+    return getTimetable(courseId).periodsByDay.getOrDefault(dayOfWeek, List.of());
+  }
+
+  /**
+   * 요일의 교시명 목록 (시작 시간순, 중복 제거)
+   *
+   * @param courseId  교육과정 ID
+   * @param dayOfWeek 요일
+   * @return 교시명 목록
+   */
+  public List<String> getPeriodNames(Long courseId, DayOfWeek dayOfWeek) {
+    return getTimetable(courseId).namesByDay.getOrDefault(dayOfWeek, List.of());
+  }
+
+  /**
+   * 과정의 교시 캐시 무효화
+   *
+   * @param courseId 교육과정 ID
+   */
+  public void evict(Long courseId) {
+    generation.incrementAndGet();
+    timetables.remove(courseId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          generation.incrementAndGet();
+          timetables.remove(courseId);
+        }
+      });
+    }
+    log.info("교시 캐시 무효화 - courseId: {}", courseId);
+  }
+
+  private Timetable getTimetable(Long courseId) {
+    Timetable timetable = timetables.get(courseId);
+    if (timetable != null && timetable.expiresAt > System.currentTimeMillis()) {
+      return timetable;
+    }
+
+    long loadedAt = generation.get();
+    timetable = new Timetable(periodRepository.findByCourseId(courseId).stream()
+        .map(PeriodCache::copyOf)
+        .toList(), System.currentTimeMillis() + ttlMillis);
+    if (generation.get() == loadedAt) {
+      timetables.put(courseId, timetable);
+    }
+    log.debug("교시 캐시 로딩 - courseId: {}, 교시 수: {}", courseId, timetable.all.size());
+    return timetable;
+  }
+
+  private static Period copyOf(Period period) {
+    return new Period(period.getId(), period.getCourseId(), period.getScheduleId(),
+        period.getDayOfWeek(), period.getName(), period.getStartTime(), period.getEndTime(),
+        period.getDeletedBy());
+  }
+
+  // 요일 정렬 순서 (월요일 1 ~ 일요일 7, 알 수 없는 요일도 7 - DayOrderUtil 과 같은 순서)
+  private static int dayOrder(Period period) {
+    DayOfWeek dayOfWeek = DAY_OF_WEEK_BY_NAME.get(period.getDayOfWeek());
+    return dayOfWeek != null ? dayOfWeek.getValue() : 7;
+  }
+
+  private static final class Timetable {
+
+    private final List<Period> all; // 시작 시간순
+    private final List<Period> week; // 요일순, 시작 시간순
+    private final Map<DayOfWeek, List<Period>> periodsByDay = new EnumMap<>(DayOfWeek.class);
+    private final Map<DayOfWeek, List<String>> namesByDay = new EnumMap<>(DayOfWeek.class);
+    private final long expiresAt;
+
+    private Timetable(List<Period> periods, long expiresAt) {
+      this.all = periods;
+      this.expiresAt = expiresAt;
+
+      List<Period> sorted = new ArrayList<>(periods);
+      sorted.sort(Comparator.comparingInt(PeriodCache::dayOrder)
+          .thenComparing(Period::getStartTime));
+      this.week = List.copyOf(sorted);
+
+      Map<DayOfWeek, List<Period>> grouped = new EnumMap<>(DayOfWeek.class);
+      for (Period period : periods) {
+        DayOfWeek dayOfWeek = DAY_OF_WEEK_BY_NAME.get(period.getDayOfWeek());
+        if (dayOfWeek != null) {
+          grouped.computeIfAbsent(dayOfWeek, day -> new ArrayList<>()).add(period);
+        }
+      }
+      grouped.forEach((dayOfWeek, dayPeriods) -> {
+        periodsByDay.put(dayOfWeek, List.copyOf(dayPeriods));
+        namesByDay.put(dayOfWeek, dayPeriods.stream().map(Period::getName).distinct().toList());
+      });
+    }
+  }
+}
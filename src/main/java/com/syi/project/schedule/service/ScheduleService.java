@@ -4,6 +4,7 @@ import static com.syi.project.schedule.dto.ScheduleResponseDTO.fromEntity;
 
 import com.syi.project.course.entity.Course;
 import com.syi.project.period.DayOfWeekMapper;
+import com.syi.project.period.PeriodCache;
 import com.syi.project.period.dto.PeriodRequestDTO;
 import com.syi.project.period.entity.Period;
 import com.syi.project.period.repository.PeriodRepository;
@@ -33,6 +34,8 @@ public class ScheduleService {
 
   private final PeriodRepository periodRepository;
 
+  private final PeriodCache periodCache;
+
   /* 시간표 등록 */
   @Transactional
   public ScheduleResponseDTO createSchedule(ScheduleRequestDTO scheduleDTO) {
@@ -87,6 +90,7 @@ public class ScheduleService {
           .toList();
       periods = periodRepository.saveAll(periods);
       log.info("성공적으로 교시가 저장되었습니다. 저장된 데이터: {}", periods);
+      periodCache.evict(scheduleDTO.getCourseId());
     }
 
 
@@ -192,6 +196,8 @@ public class ScheduleService {
       }
     }
 
+    periodCache.evict(course.getId());
+
     // 4. 업데이트된 엔티티를 DTO로 변환하여 반환
     ScheduleResponseDTO updatedScheduleDTO = fromEntity(updatedSchedule, updatedPeriod);
 
@@ -228,6 +234,7 @@ public class ScheduleService {
         periodRepository.save(period);
       }
       log.info("모든 Period 삭제 완료 for courseId: {}", courseId);
+      periodCache.evict(courseId);
     } else {
       log.info("Period not found for courseId: {}, 삭제 생략", courseId);
     }
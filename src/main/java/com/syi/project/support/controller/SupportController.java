@@ -45,7 +45,8 @@ public class SupportController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @Parameter(description = "문의 제목", required = true) @RequestParam("title") String title,
       @Parameter(description = "문의 내용", required = true) @RequestParam("content") String content,
-      @Parameter(description = "첨부 파일 (선택사항)") @RequestParam(value = "files", required = false) List<MultipartFile> files) {
+      @Parameter(description = "첨부 파일 (선택사항)") @RequestParam(value = "files", required = false) List<MultipartFile> files,
+      @Parameter(description = "직접 업로드로 등록한 첨부 파일 ID 목록 (선택사항)") @RequestParam(value = "fileIds", required = false) List<Long> fileIds) {
 
     Long memberId = userDetails.getId();
     log.info("문의 등록 - memberId: {}", memberId);
@@ -54,6 +55,7 @@ public class SupportController {
         .title(title)
         .content(content)
         .files(files)
+        .fileIds(fileIds)
         .build();
 
     SupportResponseDTO support = supportService.createSupport(memberId, requestDTO);
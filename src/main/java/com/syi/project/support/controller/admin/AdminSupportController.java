@@ -46,7 +46,8 @@ public class AdminSupportController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @Parameter(description = "문의 제목", required = true) @RequestParam("title") String title,
       @Parameter(description = "문의 내용", required = true) @RequestParam("content") String content,
-      @Parameter(description = "첨부 파일 (선택사항)") @RequestParam(value = "files", required = false) List<MultipartFile> files) {
+      @Parameter(description = "첨부 파일 (선택사항)") @RequestParam(value = "files", required = false) List<MultipartFile> files,
+      @Parameter(description = "직접 업로드로 등록한 첨부 파일 ID 목록 (선택사항)") @RequestParam(value = "fileIds", required = false) List<Long> fileIds) {
 
     Long memberId = userDetails.getId();
     log.info("관리자 문의 등록 - memberId: {}", memberId);
@@ -55,6 +56,7 @@ public class AdminSupportController {
         .title(title)
         .content(content)
         .files(files)
+        .fileIds(fileIds)
         .build();
 
     SupportResponseDTO support = supportService.createSupport(memberId, requestDTO);
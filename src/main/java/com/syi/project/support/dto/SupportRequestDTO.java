@@ -27,11 +27,16 @@ public class SupportRequestDTO {
   @Schema(description = "첨부파일", type = "array", format = "binary")
   private final List<MultipartFile> files;
 
+  @Schema(description = "직접 업로드(presigned)로 등록한 첨부 파일 ID 목록", example = "[10, 11]")
+  private final List<Long> fileIds;
+
   @Builder
-  public SupportRequestDTO(String title, String content, List<MultipartFile> files) {
+  public SupportRequestDTO(String title, String content, List<MultipartFile> files,
+      List<Long> fileIds) {
     this.title = title;
     this.content = content;
     this.files = files;
+    this.fileIds = fileIds;
   }
 
   public Support toEntity(Member member) {
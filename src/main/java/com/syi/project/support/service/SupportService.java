@@ -6,6 +6,7 @@ import com.syi.project.common.exception.ErrorCode;
 import com.syi.project.common.exception.InvalidRequestException;
 import com.syi.project.common.utils.S3Uploader;
 import com.syi.project.file.dto.FileDownloadDTO;
+import com.syi.project.file.dto.StoredFileDTO;
 import com.syi.project.file.entity.File;
 import com.syi.project.file.service.FileService;
 import com.syi.project.support.dto.SupportRequestDTO;
@@ -25,9 +26,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -44,6 +48,7 @@ public class SupportService {
   private final FileService fileService;
   private final S3Uploader s3Uploader;
   private final SupportDiscordService supportDiscordService;
+  private final TransactionTemplate transactionTemplate;
 
   // 허용 파일 확장자 및 MIME 타입 - 고정 이미지 파일만 허용
   private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(
@@ -60,34 +65,43 @@ public class SupportService {
   );
 
   // 문의 생성
-  @Transactional
+  // 첨부 파일은 트랜잭션 밖에서 먼저 병렬 업로드하고, DB 저장이 실패하면 업로드한 파일을 삭제
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public SupportResponseDTO createSupport(Long memberId, SupportRequestDTO requestDTO) {
-    Member member = getMember(memberId);
-    Support support = requestDTO.toEntity(member);
-    supportRepository.save(support);
+    List<MultipartFile> files = requestDTO.getFiles() != null ? requestDTO.getFiles() : List.of();
+    files.forEach(this::validateFile);
+    List<StoredFileDTO> storedFiles = fileService.storeFiles(files, "supports", memberId,
+        LocalDate.now());
+
+    try {
+      return transactionTemplate.execute(status -> {
+        Member member = getMember(memberId);
+        Support support = requestDTO.toEntity(member);
+        supportRepository.save(support);
+
+        log.debug("문의 저장 - id: {}", support.getId());
 
-    log.debug("문의 저장 - id: {}", support.getId());
+        List<File> attachedFiles = fileService.saveStoredFiles(storedFiles, member);
+        for (File claimedFile : fileService.claimUploadedFiles(requestDTO.getFileIds(), member)) {
+          validateFileType(claimedFile.getOriginalName(), claimedFile.getMimeType());
+          attachedFiles.add(claimedFile);
+        }
 
-    // 파일 업로드 처리
-    if (requestDTO.getFiles() != null && !requestDTO.getFiles().isEmpty()) {
-      requestDTO.getFiles().forEach(file -> {
-        validateFile(file);
-        try {
-          File uploadedFile = fileService.uploadFile(file, "supports", member, support.getRegDate().toLocalDate());
+        for (File uploadedFile : attachedFiles) {
           SupportFile supportFile = SupportFile.builder()
               .support(support)
               .file(uploadedFile)
               .build();
           support.addFile(supportFile);
           log.debug("문의 파일 업로드 완료 - fileId: {}", uploadedFile.getId());
-        } catch (Exception e) {
-          log.error("파일 업로드 실패 - filename: {}", file.getOriginalFilename(), e);
-          throw new InvalidRequestException(ErrorCode.FILE_UPLOAD_FAILED);
         }
+
+        return SupportResponseDTO.fromEntity(support, s3Uploader);
       });
+    } catch (RuntimeException e) {
+      fileService.discardStoredFiles(storedFiles);
+      throw e;
     }
-
-    return SupportResponseDTO.fromEntity(support, s3Uploader);
   }
 
   // 문의 목록 조회 (학생용 - 자신의 문의만)
@@ -213,9 +227,11 @@ public class SupportService {
       throw new InvalidRequestException(ErrorCode.INVALID_FILE_FORMAT, "파일이 null입니다.");
     }
 
-    String originalFilename = file.getOriginalFilename();
-    String mimeType = file.getContentType();
+    validateFileType(file.getOriginalFilename(), file.getContentType());
+  }
 
+  // 파일 이름(확장자)과 MIME 타입 검증
+  private void validateFileType(String originalFilename, String mimeType) {
     if (originalFilename == null || originalFilename.isEmpty()) {
       log.warn("파일 이름이 비어있거나 null입니다. MIME 타입: {}", mimeType);
       throw new InvalidRequestException(ErrorCode.INVALID_FILE_FORMAT, "파일 이름이 비어있거나 null입니다.");
@@ -0,0 +1,99 @@
+package com.syi.project.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.syi.project.attendance.entity.Holiday;
+import com.syi.project.attendance.repository.HolidayRepository;
+import com.syi.project.common.enums.HolidayType;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * 평일 누적 배열로 계산한 결과가 하루씩 세는 계산과 같은지 비교
+ */
+@ExtendWith(MockitoExtension.class)
+class HolidayCalendarTest {
+
+  private static final Set<LocalDate> HOLIDAYS = Set.of(
+      LocalDate.of(2024, 12, 25), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 28),
+      LocalDate.of(2025, 1, 29), LocalDate.of(2025, 1, 30), LocalDate.of(2025, 3, 3),
+      LocalDate.of(2025, 5, 5), LocalDate.of(2025, 5, 6), LocalDate.of(2025, 10, 3));
+
+  // 인덱스 범위(공휴일 연도 앞뒤 1년, 올해 포함) 안팎을 모두 포함하는 날짜 범위
+  private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+  private static final int DAYS = 365 * 10;
+
+  @Mock
+  private HolidayRepository holidayRepository;
+
+  private HolidayCalendar holidayCalendar;
+
+  @BeforeEach
+  void setUp() {
+    when(holidayRepository.findAll()).thenReturn(HOLIDAYS.stream()
+        .map(date -> new Holiday(date, "공휴일", HolidayType.HOLIDAY))
+        .toList());
+    holidayCalendar = new HolidayCalendar(holidayRepository);
+    holidayCalendar.init();
+  }
+
+  @Test
+  @DisplayName("기간 내 평일 수가 하루씩 센 값과 같음")
+  void countWorkingDaysMatchesDayByDay() {
+    Random random = new Random(20250101L);
+    for (int i = 0; i < 2000; i++) {
+      LocalDate startDate = FIRST_DATE.plusDays(random.nextInt(DAYS));
+      LocalDate endDate = startDate.plusDays(random.nextInt(400) - 10);
+      assertEquals(countDayByDay(startDate, endDate),
+          holidayCalendar.countWorkingDays(startDate, endDate),
+          startDate + " ~ " + endDate);
+    }
+  }
+
+  @Test
+  @DisplayName("n 번째 평일이 하루씩 센 날짜와 같음")
+  void workingDayAtMatchesDayByDay() {
+    Random random = new Random(7L);
+    for (int i = 0; i < 500; i++) {
+      LocalDate startDate = FIRST_DATE.plusDays(random.nextInt(DAYS));
+      List<LocalDate> expected = workingDaysFrom(startDate, 130);
+      for (int ordinal = 0; ordinal < expected.size(); ordinal++) {
+        assertEquals(expected.get(ordinal), holidayCalendar.workingDayAt(startDate, ordinal),
+            startDate + " + " + ordinal);
+      }
+    }
+  }
+
+  private static int countDayByDay(LocalDate startDate, LocalDate endDate) {
+    int count = 0;
+    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+      if (isWorkingDay(date)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static List<LocalDate> workingDaysFrom(LocalDate startDate, int size) {
+    return startDate.datesUntil(startDate.plusYears(1))
+        .filter(HolidayCalendarTest::isWorkingDay)
+        .limit(size)
+        .toList();
+  }
+
+  private static boolean isWorkingDay(LocalDate date) {
+    DayOfWeek dayOfWeek = date.getDayOfWeek();
+    return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY
+        && !HOLIDAYS.contains(date);
+  }
+}
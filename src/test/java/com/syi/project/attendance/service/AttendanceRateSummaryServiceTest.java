@@ -0,0 +1,299 @@
+package com.syi.project.attendance.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import com.syi.project.attendance.AttendanceCalculator;
+import com.syi.project.attendance.HolidayCalendar;
+import com.syi.project.attendance.dto.projection.AttendanceDailyStats;
+import com.syi.project.attendance.dto.response.AttendanceResponseDTO.AttendanceRateDto;
+import com.syi.project.attendance.entity.AttendanceRateSummary;
+import com.syi.project.attendance.entity.AttendanceRateSummaryDirty;
+import com.syi.project.attendance.entity.Holiday;
+import com.syi.project.attendance.repository.AttendanceRateSummaryBatchRepository;
+import com.syi.project.attendance.repository.AttendanceRateSummaryDirtyRepository;
+import com.syi.project.attendance.repository.AttendanceRateSummaryRepository;
+import com.syi.project.attendance.repository.AttendanceRepository;
+import com.syi.project.attendance.repository.HolidayRepository;
+import com.syi.project.common.enums.HolidayType;
+import com.syi.project.course.entity.Course;
+import com.syi.project.course.repository.CourseRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 출석률 요약 테이블로 계산한 결과가 기존 계산(AttendanceCalculator.calculateAttendanceRates)과 같은지 비교
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AttendanceRateSummaryServiceTest {
+
+  private static final Long COURSE_ID = 1L;
+  private static final int SESSIONS = AttendanceCalculator.TOTAL_SESSIONS_PER_DAY;
+  private static final LocalDate START_DATE = LocalDate.of(2024, 11, 4);
+  private static final LocalDate END_DATE = LocalDate.of(2025, 5, 23);
+  private static final Set<LocalDate> HOLIDAYS = Set.of(
+      LocalDate.of(2024, 12, 25), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 28),
+      LocalDate.of(2025, 1, 29), LocalDate.of(2025, 1, 30), LocalDate.of(2025, 3, 3),
+      LocalDate.of(2025, 5, 5), LocalDate.of(2025, 5, 6));
+
+  @Mock
+  private AttendanceRateSummaryRepository summaryRepository;
+
+  @Mock
+  private AttendanceRateSummaryBatchRepository summaryBatchRepository;
+
+  @Mock
+  private AttendanceRateSummaryDirtyRepository dirtyRepository;
+
+  @Mock
+  private AttendanceRepository attendanceRepository;
+
+  @Mock
+  private CourseRepository courseRepository;
+
+  @Mock
+  private HolidayRepository holidayRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private AttendanceRateSummaryService summaryService;
+  private Course course;
+
+  // 요약 테이블 대신 사용하는 저장소 (courseId:memberId:차수 -> 요약)
+  private final Map<String, AttendanceRateSummary> summaries = new TreeMap<>();
+  // 출석률 요약 변경 내역 대신 사용하는 저장소 (ID -> 변경 내역)
+  private final Map<Long, AttendanceRateSummaryDirty> dirties = new TreeMap<>();
+  private long dirtySequence;
+  // 출석 데이터 (학생 ID -> 날짜 -> 일별 통계)
+  private final Map<Long, Map<LocalDate, AttendanceDailyStats>> statsByMember = new TreeMap<>();
+
+  @BeforeEach
+  void setUp() {
+    course = new Course("자바 풀스택", "설명", "관리자", "강사", START_DATE, END_DATE, "301호",
+        null, null, null, null, 1L);
+    ReflectionTestUtils.setField(course, "id", COURSE_ID);
+
+    when(holidayRepository.findAll()).thenReturn(HOLIDAYS.stream()
+        .map(date -> new Holiday(date, "공휴일", HolidayType.HOLIDAY))
+        .toList());
+    HolidayCalendar holidayCalendar = new HolidayCalendar(holidayRepository);
+    holidayCalendar.init();
+
+    summaryService = new AttendanceRateSummaryService(summaryRepository, summaryBatchRepository,
+        dirtyRepository, attendanceRepository, courseRepository, holidayCalendar,
+        transactionManager, 0);
+
+    when(courseRepository.findCourseById(COURSE_ID)).thenReturn(course);
+
+    stubUpsert();
+    when(summaryRepository.deleteByCourseId(COURSE_ID)).thenAnswer(invocation -> {
+      int size = summaries.size();
+      summaries.clear();
+      return size;
+    });
+    when(summaryRepository.existsByCourseId(COURSE_ID))
+        .thenAnswer(invocation -> !summaries.isEmpty());
+    when(summaryRepository.findByCourseIdOrderByMemberIdAscSegmentIndexAsc(COURSE_ID))
+        .thenAnswer(invocation -> sortedSummaries(null));
+    when(summaryRepository.findByCourseIdAndMemberIdOrderBySegmentIndexAsc(any(), anyLong()))
+        .thenAnswer(invocation -> sortedSummaries(invocation.getArgument(1)));
+    when(summaryRepository.findByCourseIdAndSegmentIndex(any(), anyInt()))
+        .thenAnswer(invocation -> summaries.values().stream()
+            .filter(summary -> summary.getSegmentIndex() == (int) invocation.getArgument(1))
+            .toList());
+
+    when(dirtyRepository.save(any(AttendanceRateSummaryDirty.class))).thenAnswer(invocation -> {
+      AttendanceRateSummaryDirty dirty = invocation.getArgument(0);
+      ReflectionTestUtils.setField(dirty, "id", ++dirtySequence);
+      dirties.put(dirty.getId(), dirty);
+      return dirty;
+    });
+    when(dirtyRepository.findByCourseIdOrderByIdAsc(COURSE_ID))
+        .thenAnswer(invocation -> new ArrayList<>(dirties.values()));
+    when(dirtyRepository.findTop500ByCreatedAtBeforeOrderByIdAsc(any()))
+        .thenAnswer(invocation -> new ArrayList<>(dirties.values()));
+    when(dirtyRepository.deleteDirty(anyLong()))
+        .thenAnswer(invocation -> dirties.remove((Long) invocation.getArgument(0)) != null ? 1 : 0);
+
+    when(attendanceRepository.findAttendanceStatsByCourse(COURSE_ID))
+        .thenAnswer(invocation -> statsBetween(null, START_DATE, END_DATE));
+    when(attendanceRepository.findAttendanceStatsByStudentIdAndCourseIdAndDates(anyLong(),
+        any(), any(), any())).thenAnswer(invocation -> statsBetween(invocation.getArgument(0),
+        invocation.getArgument(2), invocation.getArgument(3)));
+    when(attendanceRepository.findAttendanceStatsByCourseIdAndDates(any(), any(), any()))
+        .thenAnswer(invocation -> statsBetween(null, invocation.getArgument(1),
+            invocation.getArgument(2)));
+  }
+
+  @Test
+  @DisplayName("요약 테이블 출석률이 기존 출석률 계산과 같음")
+  void getAttendanceRatesMatchesCalculator() {
+    Random random = new Random(20241104L);
+    // 학생마다 기록 기간을 다르게 해서 진행 중인 과정 / 현장실습 기간 / 기록 없는 학생을 모두 포함
+    generateStats(101L, END_DATE, random);
+    generateStats(102L, LocalDate.of(2025, 2, 14), random);
+    generateStats(103L, LocalDate.of(2025, 5, 12), random);
+    generateStats(104L, START_DATE.plusDays(3), random);
+
+    for (Long memberId : List.of(101L, 102L, 103L, 104L, 105L)) {
+      assertRatesMatch(memberId);
+    }
+  }
+
+  @Test
+  @DisplayName("출석 변경 후 해당 차수만 갱신해도 기존 출석률 계산과 같음")
+  void refreshMatchesCalculator() {
+    Random random = new Random(7L);
+    generateStats(101L, LocalDate.of(2025, 3, 14), random);
+    summaryService.getAttendanceRates(course, 101L); // 요약 생성
+
+    // 기존 날짜의 상태 변경, 새 날짜 추가
+    LocalDate changed = LocalDate.of(2025, 1, 15);
+    putStats(101L, changed, 0, SESSIONS, 0);
+    summaryService.refresh(COURSE_ID, 101L, changed);
+
+    LocalDate added = LocalDate.of(2025, 3, 17);
+    putStats(101L, added, 1, 0, 0);
+    summaryService.refresh(COURSE_ID, 101L, added);
+
+    assertRatesMatch(101L);
+  }
+
+  @Test
+  @DisplayName("요약 갱신이 실패해도 변경 내역이 남아 다음 조회에서 반영됨")
+  void failedRefreshIsAppliedOnRead() {
+    Random random = new Random(11L);
+    generateStats(101L, LocalDate.of(2025, 3, 14), random);
+    generateStats(102L, LocalDate.of(2025, 3, 14), random);
+    summaryService.getAttendanceRates(course, 101L); // 요약 생성
+
+    doThrow(new IllegalStateException("DB 오류")).when(summaryBatchRepository).upsert(anyList());
+    LocalDate changed = LocalDate.of(2025, 2, 3);
+    putStats(101L, changed, 0, SESSIONS, 0);
+    summaryService.refresh(COURSE_ID, 101L, changed);
+    putStats(102L, changed, 1, 0, 0);
+    summaryService.refreshCourse(COURSE_ID, changed);
+    assertEquals(2, dirties.size());
+
+    stubUpsert();
+    assertRatesMatch(101L);
+    assertRatesMatch(102L);
+    assertTrue(dirties.isEmpty());
+  }
+
+  @Test
+  @DisplayName("요약 갱신이 실패한 변경 내역은 재시도에서 반영됨")
+  void failedRefreshIsRetried() {
+    Random random = new Random(13L);
+    generateStats(101L, LocalDate.of(2025, 4, 30), random);
+    summaryService.getAttendanceRates(course, 101L); // 요약 생성
+
+    doThrow(new IllegalStateException("DB 오류")).when(summaryBatchRepository).upsert(anyList());
+    LocalDate changed = LocalDate.of(2025, 4, 1);
+    putStats(101L, changed, 0, 0, 1);
+    summaryService.refresh(COURSE_ID, 101L, changed);
+    assertEquals(1, dirties.size());
+
+    stubUpsert();
+    summaryService.retryDirty();
+    assertTrue(dirties.isEmpty());
+    assertRatesMatch(101L);
+  }
+
+  private void stubUpsert() {
+    doAnswer(invocation -> {
+      List<AttendanceRateSummary> rows = invocation.getArgument(0);
+      rows.forEach(row -> summaries.put(key(row), row));
+      return rows.size();
+    }).when(summaryBatchRepository).upsert(anyList());
+  }
+
+  private void assertRatesMatch(Long memberId) {
+    List<AttendanceDailyStats> stats = statsBetween(memberId, START_DATE, END_DATE);
+    AttendanceRateDto expected = AttendanceCalculator.calculateAttendanceRates(stats, START_DATE,
+        END_DATE, HOLIDAYS);
+    AttendanceRateDto actual = summaryService.getAttendanceRates(course, memberId);
+    assertEquals(expected.toString(), actual.toString(), "memberId: " + memberId);
+  }
+
+  // 출석일마다 출석/지각/조퇴/결석을 무작위로 생성 (주말, 공휴일에도 가끔 기록이 있는 경우 포함)
+  private void generateStats(Long memberId, LocalDate lastDate, Random random) {
+    for (LocalDate date = START_DATE; !date.isAfter(lastDate); date = date.plusDays(1)) {
+      boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY
+          || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+      if ((weekend || HOLIDAYS.contains(date)) && random.nextInt(10) != 0) {
+        continue;
+      }
+      int roll = random.nextInt(20);
+      if (roll == 0) {
+        continue; // 기록 없음
+      }
+      if (roll <= 2) {
+        putStats(memberId, date, 0, SESSIONS, 0);
+      } else if (roll <= 4) {
+        putStats(memberId, date, 1, 0, 0);
+      } else if (roll == 5) {
+        putStats(memberId, date, 0, 0, 1);
+      } else if (roll == 6) {
+        putStats(memberId, date, 0, 2, 0);
+      } else {
+        putStats(memberId, date, 0, 0, 0);
+      }
+    }
+  }
+
+  private void putStats(Long memberId, LocalDate date, int late, int absent, int earlyLeave) {
+    statsByMember.computeIfAbsent(memberId, id -> new TreeMap<>())
+        .put(date, new AttendanceDailyStats(memberId, date, SESSIONS, late, absent,
+            earlyLeave));
+  }
+
+  private List<AttendanceDailyStats> statsBetween(Long memberId, LocalDate from, LocalDate to) {
+    List<AttendanceDailyStats> result = new ArrayList<>();
+    statsByMember.forEach((id, byDate) -> {
+      if (memberId == null || memberId.equals(id)) {
+        result.addAll(byDate.subMap(from, true, to, true).values());
+      }
+    });
+    return result;
+  }
+
+  private List<AttendanceRateSummary> sortedSummaries(Long memberId) {
+    return summaries.values().stream()
+        .filter(summary -> memberId == null || memberId.equals(summary.getMemberId()))
+        .sorted(Comparator.comparing(AttendanceRateSummary::getMemberId)
+            .thenComparingInt(AttendanceRateSummary::getSegmentIndex))
+        .toList();
+  }
+
+  private static String key(AttendanceRateSummary summary) {
+    return summary.getCourseId() + ":" + summary.getMemberId() + ":"
+        + summary.getSegmentIndex();
+  }
+}
@@ -0,0 +1,104 @@
+package com.syi.project.club.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.syi.project.auth.entity.Member;
+import com.syi.project.club.entity.Club;
+import com.syi.project.common.enums.CheckStatus;
+import com.syi.project.common.enums.Role;
+import com.syi.project.common.utils.S3Uploader;
+import com.syi.project.file.dto.FileResponseDTO;
+import com.syi.project.file.entity.File;
+import com.syi.project.file.enums.FileStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+  * 동아리 목록의 첨부파일 조회가 업로드한 회원 수와 관계없이 쿼리 한 번으로 끝나는지 확인
+  */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ClubFileRepositoryTest {
+
+    private static final int CLUB_COUNT = 5;
+
+    @Autowired
+    private ClubFileRepository clubFileRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private S3Uploader s3Uploader;
+
+    @Test
+    @DisplayName("목록용 첨부파일 조회 - 파일, 업로드한 회원까지 쿼리 한 번")
+    void findWithFileByClubIdInUsesSingleQuery() {
+        List<Long> clubIds = new ArrayList<>();
+        for (int i = 0; i < CLUB_COUNT; i++) {
+            clubIds.add(createClubWithFile(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<FileResponseDTO> files = clubFileRepository.findWithFileByClubIdIn(clubIds).stream()
+                .map(clubFile -> FileResponseDTO.from(clubFile.getFile(), s3Uploader))
+                .toList();
+
+        assertEquals(CLUB_COUNT, files.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    // 업로드한 회원이 모두 다른 동아리 글 + 첨부파일 생성
+    private Long createClubWithFile(int index) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Member uploader = new Member("club-test-" + suffix, "password", "업로더" + index, "2000-01-01",
+                "club-test-" + suffix + "@test.com", Role.STUDENT);
+        entityManager.persist(uploader);
+
+        File file = File.builder()
+                .originalName("활동사진" + index + ".png")
+                .objectKey("clubs/" + suffix + ".png")
+                .path("clubs/" + suffix + ".png")
+                .size(1024L)
+                .mimeType("image/png")
+                .uploadedBy(uploader)
+                .status(FileStatus.ACTIVE)
+                .build();
+        entityManager.persist(file);
+
+        Club club = Club.builder()
+                .courseId(1L)
+                .writerId(uploader.getId())
+                .participants("참여자")
+                .participantCount(1)
+                .clubName("동아리" + index)
+                .regDate(LocalDate.now())
+                .studyDate(LocalDate.now())
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(12, 0))
+                .checkStatus(CheckStatus.W)
+                .build();
+        entityManager.persist(club);
+        entityManager.persist(ClubFile.builder().club(club).file(file).build());
+        return club.getId();
+    }
+}